@@ -0,0 +1,119 @@
+package org.prebid.server.benchmark.activity;
+
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.json.JsonLogic;
+import org.prebid.server.json.JsonLogicProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-activity cost of US custom logic privacy module: evaluation of the typical usnat rule set against the data
+ * built from GPP section, with tree-walking evaluation vs the compiled node cached by
+ * {@code USCustomLogicModuleCreator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class USCustomLogicEvaluationBenchmark {
+
+    private static final JsonLogic JSON_LOGIC = JsonLogicProvider.jsonLogic();
+
+    /**
+     * Rule set used for transmitUfpd/transmitPreciseGeo activities in prebid docs examples.
+     */
+    private static final String TRANSMIT_RULES = "{\"or\": ["
+            + "{\"==\": [{\"var\": \"Gpc\"}, 1]},"
+            + "{\"==\": [{\"var\": \"SaleOptOut\"}, 1]},"
+            + "{\"==\": [{\"var\": \"SharingOptOut\"}, 1]},"
+            + "{\"==\": [{\"var\": \"TargetedAdvertisingOptOut\"}, 1]},"
+            + "{\"and\": [{\"==\": [{\"var\": \"MspaServiceProviderMode\"}, 1]},"
+            + "{\"!=\": [{\"var\": \"MspaCoveredTransaction\"}, 2]}]},"
+            + "{\"in\": [{\"var\": \"SensitiveDataProcessing1\"}, [1, 2]]},"
+            + "{\"in\": [{\"var\": \"SensitiveDataProcessing2\"}, [1, 2]]},"
+            + "{\"in\": [{\"var\": \"SensitiveDataProcessing3\"}, [1, 2]]},"
+            + "{\"==\": [{\"var\": \"KnownChildSensitiveDataConsents1\"}, 1]},"
+            + "{\"==\": [{\"var\": \"KnownChildSensitiveDataConsents2\"}, 1]}"
+            + "]}";
+
+    /**
+     * Rule set used for syncUser activity: short, typically decided by the first operand.
+     */
+    private static final String SYNC_USER_RULES = "{\"and\": ["
+            + "{\"==\": [{\"var\": \"SaleOptOutNotice\"}, 1]},"
+            + "{\"==\": [{\"var\": \"SaleOptOut\"}, 1]}"
+            + "]}";
+
+    @Param({"transmit", "syncUser"})
+    private String ruleSet;
+
+    private JsonLogicNode node;
+
+    private JsonLogicNode compiledNode;
+
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() {
+        node = JSON_LOGIC.parse("transmit".equals(ruleSet) ? TRANSMIT_RULES : SYNC_USER_RULES);
+        compiledNode = JSON_LOGIC.compile(node);
+        data = givenUsNatData();
+    }
+
+    @Benchmark
+    public boolean treeWalking() throws JsonLogicEvaluationException {
+        return JSON_LOGIC.evaluate(node, data);
+    }
+
+    @Benchmark
+    public boolean compiled() throws JsonLogicEvaluationException {
+        return JSON_LOGIC.evaluate(compiledNode, data);
+    }
+
+    /**
+     * Data as USCustomLogicDataSupplier builds it for the usnat section of a user who didn't opt out of anything.
+     */
+    private static Map<String, Object> givenUsNatData() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("Version", 1);
+        data.put("Gpc", false);
+        data.put("GpcSegmentType", 1);
+        data.put("GpcSegmentIncluded", true);
+        data.put("SaleOptOut", 2);
+        data.put("SaleOptOutNotice", 1);
+        data.put("SharingNotice", 1);
+        data.put("SharingOptOut", 2);
+        data.put("SharingOptOutNotice", 1);
+        data.put("TargetedAdvertisingOptOut", 2);
+        data.put("TargetedAdvertisingOptOutNotice", 1);
+        data.put("SensitiveDataLimitUseNotice", 1);
+        for (int i = 1; i <= 16; i++) {
+            data.put("SensitiveDataProcessing" + i, 0);
+        }
+        data.put("SensitiveDataProcessingOptOutNotice", 1);
+        for (int i = 1; i <= 3; i++) {
+            data.put("KnownChildSensitiveDataConsents" + i, 0);
+        }
+        data.put("PersonalDataConsents", 0);
+        data.put("MspaCoveredTransaction", 2);
+        data.put("MspaServiceProviderMode", 2);
+        data.put("MspaOptOutOptionMode", 1);
+        return data;
+    }
+}
@@ -0,0 +1,83 @@
+package org.prebid.server.benchmark.auction;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing the auction response: {@code encodeToBuffer} is what auction, amp and video handlers do now,
+ * {@code encodeToString} is the previous way of building the response body.
+ * <p>
+ * Response is the generic bidder functional test response with targeting keywords added to every bid and its seat
+ * repeated for every bidder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidResponseSerializationBenchmark {
+
+    private static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    @Param({"1", "5", "20"})
+    private int bidders;
+
+    private BidResponse bidResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ObjectNode response = (ObjectNode) MAPPER.mapper().readTree(ResourceUtil.readFromClasspath(
+                "org/prebid/server/benchmark/auction/test-auction-generic-response.json"));
+
+        final ArrayNode seatBids = (ArrayNode) response.get("seatbid");
+        final ObjectNode seatBid = (ObjectNode) seatBids.get(0);
+        seatBids.removeAll();
+
+        for (int i = 0; i < bidders; i++) {
+            final String bidder = "generic" + i;
+            final ObjectNode bidderSeatBid = seatBid.deepCopy().put("seat", bidder);
+            final ObjectNode bid = (ObjectNode) bidderSeatBid.get("bid").get(0);
+            bid.put("id", "bid_id_" + i);
+            ((ObjectNode) bid.get("ext").get("prebid")).putObject("targeting")
+                    .put("hb_pb", "3.30")
+                    .put("hb_bidder", bidder)
+                    .put("hb_size", "300x250")
+                    .put("hb_pb_" + bidder, "3.30")
+                    .put("hb_bidder_" + bidder, bidder)
+                    .put("hb_size_" + bidder, "300x250");
+            seatBids.add(bidderSeatBid);
+        }
+
+        bidResponse = MAPPER.mapper().treeToValue(response, BidResponse.class);
+    }
+
+    @Benchmark
+    public Buffer encodeToBuffer() {
+        return MAPPER.encodeToBuffer(bidResponse);
+    }
+
+    @Benchmark
+    public Buffer encodeToString() {
+        return Buffer.buffer(MAPPER.encodeToString(bidResponse));
+    }
+}
@@ -0,0 +1,101 @@
+package org.prebid.server.benchmark.auction;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.auction.BidderImpExtCopier;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of copying imp.ext for every bidder of the auction, as {@code ExchangeService} does when preparing bidder
+ * requests: {@code deepCopy} copies parameters of all the bidders for each of them, {@code bidderScopedCopy} copies
+ * only the parameters of the bidder the request is made for.
+ * <p>
+ * One operation prepares imps for all the bidders. Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidderImpExtCopyBenchmark {
+
+    private static final ObjectMapper MAPPER = ObjectMapperProvider.mapper();
+
+    @Param({"10", "50"})
+    private int bidderCount;
+
+    @Param({"1", "10"})
+    private int impCount;
+
+    private List<String> bidders;
+
+    private List<ObjectNode> impExts;
+
+    @Setup
+    public void setUp() {
+        bidders = new ArrayList<>(bidderCount);
+        for (int i = 0; i < bidderCount; i++) {
+            bidders.add("bidder" + i);
+        }
+
+        impExts = new ArrayList<>(impCount);
+        for (int i = 0; i < impCount; i++) {
+            impExts.add(givenImpExt(i));
+        }
+    }
+
+    @Benchmark
+    public void deepCopy(Blackhole blackhole) {
+        for (String bidder : bidders) {
+            for (ObjectNode impExt : impExts) {
+                blackhole.consume(impExt.deepCopy());
+            }
+        }
+    }
+
+    @Benchmark
+    public void bidderScopedCopy(Blackhole blackhole) {
+        for (String bidder : bidders) {
+            for (ObjectNode impExt : impExts) {
+                blackhole.consume(BidderImpExtCopier.copyFor(bidder, impExt));
+            }
+        }
+    }
+
+    private ObjectNode givenImpExt(int impIndex) {
+        final ObjectNode bidderParams = MAPPER.createObjectNode();
+        for (String bidder : bidders) {
+            bidderParams.set(bidder, MAPPER.createObjectNode()
+                    .put("placementId", "placement-" + impIndex)
+                    .put("siteId", 12345)
+                    .put("zoneId", 67890)
+                    .put("keywords", "sports,news,weather"));
+        }
+
+        final ObjectNode prebid = MAPPER.createObjectNode();
+        prebid.set("bidder", bidderParams);
+        prebid.set("storedrequest", MAPPER.createObjectNode().put("id", "stored-imp-" + impIndex));
+
+        final ObjectNode impExt = MAPPER.createObjectNode().put("tid", "tid-" + impIndex);
+        impExt.set("gpid", MAPPER.getNodeFactory().textNode("/1234/homepage/slot-" + impIndex));
+        impExt.set("prebid", prebid);
+        return impExt;
+    }
+}
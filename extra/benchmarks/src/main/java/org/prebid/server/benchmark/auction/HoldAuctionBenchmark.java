@@ -0,0 +1,212 @@
+package org.prebid.server.benchmark.auction;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.Application;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.util.ResourceUtil;
+import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of the whole {@code /openrtb2/auction} call: request parsing and enrichment, {@code ExchangeService}
+ * holdAuction with bidder requests and responses, targeting keywords creation and response serialization.
+ * <p>
+ * Application is started in-process with its regular Spring configuration. Outgoing HTTP calls are served by the stub
+ * {@link HttpClient} returning the canned bidder response, so bidders answer instantly and only PBS work is measured.
+ * Fixtures are taken from the generic bidder functional test. Every bidder of the request is a request-level alias of
+ * the generic bidder. Run with {@code -prof gc} to see allocations per auction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HoldAuctionBenchmark {
+
+    private static final String FIXTURES_PATH = "org/prebid/server/benchmark/auction/";
+    private static final String BIDDER_ENDPOINT = "http://localhost/generic-exchange";
+
+    @Param({"1", "5", "20"})
+    private int bidders;
+
+    private Path settingsDir;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private Vertx vertx;
+
+    private io.vertx.core.http.HttpClient client;
+
+    private RequestOptions requestOptions;
+
+    private Buffer auctionRequest;
+
+    @Setup
+    public void setUp() throws IOException, ExecutionException, InterruptedException {
+        settingsDir = Files.createTempDirectory("pbs-benchmark");
+        Files.writeString(settingsDir.resolve("app-settings.yaml"), "accounts: []");
+
+        final int port = freePort();
+        applicationContext = new SpringApplicationBuilder(Application.class, StubHttpClientConfiguration.class)
+                .run(applicationArguments(port, freePort(), settingsDir));
+
+        vertx = Vertx.vertx();
+        client = vertx.createHttpClient();
+        requestOptions = new RequestOptions()
+                .setMethod(HttpMethod.POST)
+                .setHost("localhost")
+                .setPort(port)
+                .setURI("/openrtb2/auction");
+        auctionRequest = givenAuctionRequest(bidders);
+
+        final Buffer response = auction();
+        if (!response.toString().contains("\"seatbid\"")) {
+            throw new IllegalStateException("Auction did not return bids: " + response);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        vertx.close();
+        applicationContext.close();
+
+        try (Stream<Path> files = Files.list(settingsDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(settingsDir);
+    }
+
+    @Benchmark
+    public Buffer auction() throws ExecutionException, InterruptedException {
+        return client.request(requestOptions)
+                .compose(request -> request.send(auctionRequest))
+                .compose(io.vertx.core.http.HttpClientResponse::body)
+                .toCompletionStage()
+                .toCompletableFuture()
+                .get();
+    }
+
+    private static String[] applicationArguments(int port, int adminPort, Path settingsDir) {
+        final String dir = settingsDir.toString();
+        return new String[]{
+                "--server.http.port=" + port,
+                "--admin.port=" + adminPort,
+                "--status-response=ok",
+                "--metrics.accounts.default-verbosity=none",
+                "--currency-converter.external-rates.enabled=false",
+                "--cache.scheme=http",
+                "--cache.host=localhost",
+                "--cache.path=/cache",
+                "--cache.query=uuid=",
+                "--settings.filesystem.settings-filename=" + settingsDir.resolve("app-settings.yaml"),
+                "--settings.filesystem.stored-requests-dir=" + dir,
+                "--settings.filesystem.stored-imps-dir=" + dir,
+                "--settings.filesystem.profiles-dir=" + dir,
+                "--settings.filesystem.stored-responses-dir=" + dir,
+                "--settings.filesystem.categories-dir=" + dir,
+                "--gdpr.vendorlist.v2.cache-dir=" + dir,
+                "--gdpr.vendorlist.v3.cache-dir=" + dir,
+                "--adapters.generic.enabled=true",
+                "--adapters.generic.endpoint=" + BIDDER_ENDPOINT};
+    }
+
+    private static Buffer givenAuctionRequest(int bidders) throws IOException {
+        final ObjectNode request = (ObjectNode) ObjectMapperProvider.mapper()
+                .readTree(ResourceUtil.readFromClasspath(FIXTURES_PATH + "test-auction-generic-request.json"));
+
+        final ObjectNode impExt = (ObjectNode) request.get("imp").get(0).get("ext");
+        final ObjectNode aliases = ((ObjectNode) request.get("ext").get("prebid")).putObject("aliases");
+        for (int i = 1; i < bidders; i++) {
+            final String alias = "generic" + i;
+            aliases.put(alias, "generic");
+            impExt.set(alias, impExt.get("generic").deepCopy());
+        }
+
+        return Buffer.buffer(ObjectMapperProvider.mapper().writeValueAsBytes(request));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Configuration
+    public static class StubHttpClientConfiguration {
+
+        @Bean
+        @Primary
+        HttpClient stubHttpClient() throws IOException {
+            return new StubHttpClient(ResourceUtil.readFromClasspath(FIXTURES_PATH + "test-generic-bid-response.json"));
+        }
+    }
+
+    /**
+     * Answers bidder requests with the canned bid response and any other request (vendor lists, etc.) with no content.
+     */
+    private static class StubHttpClient implements HttpClient {
+
+        private final HttpClientResponse bidResponse;
+
+        private final HttpClientResponse noContent;
+
+        StubHttpClient(String bidResponseBody) {
+            bidResponse = HttpClientResponse.ofBuffer(200, MultiMap.caseInsensitiveMultiMap(),
+                    Buffer.buffer(bidResponseBody));
+            noContent = HttpClientResponse.of(204, MultiMap.caseInsensitiveMultiMap(), null);
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                                  String body, long timeoutMs, long maxResponseSize) {
+
+            return Future.succeededFuture(responseFor(url));
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                                  byte[] body, long timeoutMs, long maxResponseSize) {
+
+            return Future.succeededFuture(responseFor(url));
+        }
+
+        private HttpClientResponse responseFor(String url) {
+            return url.startsWith(BIDDER_ENDPOINT) ? bidResponse : noContent;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.prebid.server.benchmark.auction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of merging the incoming request with its stored request, default request and stored imps, as
+ * {@code StoredRequestProcessor} does: {@code mergePerObject} converts the request (and every imp) to json tree and
+ * back for each merge step, {@code mergeOnSingleTree} applies all the steps to one tree and binds it once.
+ * <p>
+ * Both variants start from the parsed {@link BidRequest}. Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoredRequestMergeBenchmark {
+
+    private static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private static final String STORED_REQUEST_ID = "stored-request";
+
+    /**
+     * Number of imps in the request, each of them refers to its own stored imp.
+     */
+    @Param({"1", "10", "50"})
+    private int impCount;
+
+    private JsonMerger jsonMerger;
+
+    private BidRequest bidRequest;
+
+    private BidRequest defaultBidRequest;
+
+    private JsonNode defaultBidRequestNode;
+
+    private String storedRequest;
+
+    private List<String> storedImps;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        jsonMerger = new JsonMerger(MAPPER);
+
+        final ObjectNode requestNode = MAPPER.mapper().createObjectNode().put("id", "request-id");
+        requestNode.set("ext", MAPPER.mapper().createObjectNode().set("prebid", MAPPER.mapper().createObjectNode()
+                .set("storedrequest", MAPPER.mapper().createObjectNode().put("id", STORED_REQUEST_ID))));
+        final ArrayNode imps = requestNode.putArray("imp");
+        storedImps = new ArrayList<>(impCount);
+        for (int i = 0; i < impCount; i++) {
+            final ObjectNode impExt = MAPPER.mapper().createObjectNode();
+            impExt.set("prebid", MAPPER.mapper().createObjectNode()
+                    .set("storedrequest", MAPPER.mapper().createObjectNode().put("id", "stored-imp-" + i)));
+            imps.addObject().put("id", "imp-" + i).set("ext", impExt);
+
+            storedImps.add(givenStoredImp(i));
+        }
+        bidRequest = MAPPER.mapper().treeToValue(requestNode, BidRequest.class);
+
+        storedRequest = """
+                {
+                  "site": {"page": "https://example.com/article", "publisher": {"id": "publisher-id"}},
+                  "device": {"ua": "Mozilla/5.0", "language": "en"},
+                  "tmax": 1000,
+                  "cur": ["USD"],
+                  "ext": {"prebid": {"targeting": {"includewinners": true, "includebidderkeys": true}}}
+                }""";
+
+        defaultBidRequest = BidRequest.builder().at(1).build();
+        defaultBidRequestNode = MAPPER.mapper().valueToTree(defaultBidRequest);
+    }
+
+    @Benchmark
+    public BidRequest mergePerObject() {
+        final BidRequest mergedWithStoredRequest =
+                jsonMerger.merge(bidRequest, storedRequest, STORED_REQUEST_ID, BidRequest.class);
+        final BidRequest mergedWithDefaultRequest =
+                jsonMerger.merge(mergedWithStoredRequest, defaultBidRequest, BidRequest.class);
+
+        final List<Imp> mergedImps = new ArrayList<>(mergedWithDefaultRequest.getImp());
+        for (int i = 0; i < mergedImps.size(); i++) {
+            mergedImps.set(i, jsonMerger.merge(mergedImps.get(i), storedImps.get(i), "stored-imp-" + i, Imp.class));
+        }
+
+        return mergedWithDefaultRequest.toBuilder().imp(mergedImps).build();
+    }
+
+    @Benchmark
+    public BidRequest mergeOnSingleTree() throws JsonProcessingException {
+        final JsonNode bidRequestNode = MAPPER.mapper().valueToTree(bidRequest);
+        final JsonNode mergedWithStoredRequest = jsonMerger.merge(bidRequestNode, storedRequest, STORED_REQUEST_ID);
+        final JsonNode mergedWithDefaultRequest = jsonMerger.merge(mergedWithStoredRequest, defaultBidRequestNode);
+
+        final ArrayNode mergedImps = (ArrayNode) mergedWithDefaultRequest.get("imp");
+        for (int i = 0; i < mergedImps.size(); i++) {
+            mergedImps.set(i, jsonMerger.merge(mergedImps.get(i), storedImps.get(i), "stored-imp-" + i));
+        }
+
+        return MAPPER.mapper().treeToValue(mergedWithDefaultRequest, BidRequest.class);
+    }
+
+    private static String givenStoredImp(int impIndex) {
+        return """
+                {
+                  "banner": {"format": [{"w": 300, "h": 250}, {"w": 300, "h": 600}]},
+                  "tagid": "slot-%d",
+                  "ext": {"prebid": {"bidder": {"appnexus": {"placementId": %d}, "rubicon": {"zoneId": %d}}}}
+                }""".formatted(impIndex, 10000 + impIndex, 20000 + impIndex);
+    }
+}
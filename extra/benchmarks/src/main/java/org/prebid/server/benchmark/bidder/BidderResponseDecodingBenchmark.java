@@ -0,0 +1,95 @@
+package org.prebid.server.benchmark.bidder;
+
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.buffer.Buffer;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the previous bidder response handling (decode body to {@link String} then parse it) against parsing
+ * directly from the received bytes, as bidders do now via {@link HttpResponse#getBodyBuffer()}.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidderResponseDecodingBenchmark {
+
+    private static final JacksonMapper MAPPER = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    /**
+     * Number of bids in the bidder response.
+     */
+    @Param({"1", "10", "50"})
+    private int bidCount;
+
+    /**
+     * Size of the creative markup in every bid: small banner tag vs inline VAST.
+     */
+    @Param({"512", "16384"})
+    private int admSize;
+
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() {
+        final String adm = "<div>" + StringUtils.repeat('x', admSize) + "</div>";
+        final List<Bid> bids = IntStream.range(0, bidCount)
+                .mapToObj(index -> Bid.builder()
+                        .id("bid-" + index)
+                        .impid("imp-" + index)
+                        .price(BigDecimal.valueOf(1.25))
+                        .adm(adm)
+                        .crid("creative-" + index)
+                        .adomain(List.of("advertiser.com"))
+                        .w(300)
+                        .h(250)
+                        .build())
+                .toList();
+
+        final BidResponse bidResponse = BidResponse.builder()
+                .id("response-id")
+                .cur("USD")
+                .seatbid(List.of(SeatBid.builder().seat("bidder").bid(bids).build()))
+                .build();
+
+        responseBytes = MAPPER.encodeToBytes(bidResponse);
+    }
+
+    @Benchmark
+    public BidResponse decodeFromString() {
+        final Buffer body = Buffer.buffer(responseBytes);
+        return MAPPER.decodeValue(body.toString(StandardCharsets.UTF_8), BidResponse.class);
+    }
+
+    @Benchmark
+    public BidResponse decodeFromBuffer() {
+        final HttpResponse response = HttpResponse.ofBuffer(200, null, Buffer.buffer(responseBytes));
+        return MAPPER.decodeValue(response.getBodyBuffer(), BidResponse.class);
+    }
+}
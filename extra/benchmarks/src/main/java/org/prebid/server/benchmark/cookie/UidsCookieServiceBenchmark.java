@@ -0,0 +1,132 @@
+package org.prebid.server.benchmark.cookie;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.http.Cookie;
+import io.vertx.core.http.HttpHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cookie.PrioritizedCoopSyncProvider;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.UidsCookieService;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.model.UpdateResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of handling the uids cookie of a heavily synced user.
+ * <p>
+ * {@code parse} is what every auction does: parses the cookies and looks up UIDs of the bidders taking part in the
+ * auction. {@code update} and {@code split} are what every setuid does. Parsed UIDs keep their decoded state, so each
+ * of them starts from parsing the cookies to not measure the already decoded ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UidsCookieServiceBenchmark {
+
+    private static final int MAX_COOKIE_SIZE_BYTES = 4096;
+    private static final int NUMBER_OF_UID_COOKIES = 3;
+    private static final int AUCTION_BIDDERS = 10;
+
+    @Param({"10", "60"})
+    private int families;
+
+    private UidsCookieService uidsCookieService;
+
+    private HttpRequestContext httpRequest;
+
+    private List<String> familyNames;
+
+    @Setup
+    public void setUp() {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        uidsCookieService = new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                null,
+                90,
+                MAX_COOKIE_SIZE_BYTES,
+                NUMBER_OF_UID_COOKIES,
+                new PrioritizedCoopSyncProvider(Collections.emptySet(), new BidderCatalog(Collections.emptyList())),
+                metrics,
+                mapper);
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        for (int i = 0; i < families; i++) {
+            uids.put("bidder" + i, UidWithExpiry.live(UUID.randomUUID().toString()));
+        }
+        familyNames = List.copyOf(uids.keySet());
+
+        final String cookieHeader = uidsCookieService
+                .splitUidsIntoCookies(new UidsCookie(Uids.builder().uids(uids).build(), mapper)).stream()
+                .filter(cookie -> !cookie.getValue().isEmpty())
+                .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+
+        httpRequest = HttpRequestContext.builder()
+                .headers(CaseInsensitiveMultiMap.builder().add(HttpHeaders.COOKIE, cookieHeader).build())
+                .build();
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        final UidsCookie uidsCookie = uidsCookieService.parseFromRequest(httpRequest);
+
+        blackhole.consume(uidsCookie.hasLiveUids());
+        for (int i = 0; i < AUCTION_BIDDERS; i++) {
+            blackhole.consume(uidsCookie.uidFrom(familyNames.get(i % families)));
+        }
+    }
+
+    @Benchmark
+    public UpdateResult<UidsCookie> update() {
+        return uidsCookieService.updateUidsCookie(
+                uidsCookieService.parseFromRequest(httpRequest), familyNames.get(0), "new-uid");
+    }
+
+    @Benchmark
+    public List<Cookie> split() {
+        final UpdateResult<UidsCookie> updateResult = uidsCookieService.updateUidsCookie(
+                uidsCookieService.parseFromRequest(httpRequest), familyNames.get(0), "new-uid");
+
+        return uidsCookieService.splitUidsIntoCookies(updateResult.getValue());
+    }
+}
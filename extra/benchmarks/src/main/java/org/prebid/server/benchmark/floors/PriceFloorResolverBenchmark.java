@@ -0,0 +1,152 @@
+package org.prebid.server.benchmark.floors;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.floors.BasicPriceFloorResolver;
+import org.prebid.server.floors.PriceFloorResolver;
+import org.prebid.server.floors.model.PriceFloorRules;
+import org.prebid.server.geolocation.CountryCodeMapper;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving floors for every imp of the request, as {@code PriceFloorProcessor} does for each bidder.
+ * <p>
+ * Floors are the same instance on every call, the way fetched floors are, so rules of the model group are compiled
+ * once and every call only matches the request against them. Schema is {@code mediaType|size|domain|country}, rules
+ * cover every combination of the values below including wildcards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceFloorResolverBenchmark {
+
+    private static final String BIDDER = "rubicon";
+
+    private static final List<String> MEDIA_TYPES = List.of("banner", "video", "*");
+    private static final List<String> SIZES = List.of("300x250", "728x90", "300x600", "*");
+    private static final List<String> COUNTRIES = List.of("USA", "GBR", "DEU", "*");
+
+    @Param({"10", "100"})
+    private int domains;
+
+    @Param({"1", "10"})
+    private int impCount;
+
+    private PriceFloorResolver priceFloorResolver;
+
+    private PriceFloorRules floorRules;
+
+    private BidRequest bidRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        priceFloorResolver = new BasicPriceFloorResolver(
+                new CurrencyConversionService(null),
+                new CountryCodeMapper(
+                        ResourceUtil.readFromClasspath("country-codes.csv"),
+                        ResourceUtil.readFromClasspath("mcc-country-codes.csv")),
+                metrics,
+                mapper);
+
+        floorRules = mapper.mapper().treeToValue(givenFloors(domains), PriceFloorRules.class);
+
+        final List<Imp> imps = new ArrayList<>(impCount);
+        for (int i = 0; i < impCount; i++) {
+            imps.add(Imp.builder()
+                    .id("imp-" + i)
+                    .banner(Banner.builder().format(List.of(Format.builder().w(300).h(250).build())).build())
+                    .build());
+        }
+        bidRequest = BidRequest.builder()
+                .imp(imps)
+                .site(Site.builder().domain("domain" + (domains / 2) + ".com").build())
+                .device(Device.builder().geo(Geo.builder().country("USA").build()).build())
+                .cur(List.of("USD"))
+                .build();
+    }
+
+    @Benchmark
+    public void resolve(Blackhole blackhole) {
+        for (Imp imp : bidRequest.getImp()) {
+            blackhole.consume(priceFloorResolver.resolve(
+                    bidRequest,
+                    floorRules,
+                    imp,
+                    ImpMediaType.banner,
+                    imp.getBanner().getFormat().getFirst(),
+                    BIDDER,
+                    new ArrayList<>()));
+        }
+    }
+
+    private static ObjectNode givenFloors(int domains) {
+        final ObjectNode floors = ObjectMapperProvider.mapper().createObjectNode().put("enabled", true);
+        final ObjectNode modelGroup = floors.putObject("data").put("currency", "USD")
+                .putArray("modelGroups").addObject()
+                .put("currency", "USD")
+                .put("default", 0.01);
+
+        final ObjectNode schema = modelGroup.putObject("schema").put("delimiter", "|");
+        final ArrayNode fields = schema.putArray("fields");
+        fields.add("mediaType").add("size").add("domain").add("country");
+
+        final ObjectNode values = modelGroup.putObject("values");
+        int rule = 0;
+        for (String mediaType : MEDIA_TYPES) {
+            for (String size : SIZES) {
+                for (int i = 0; i <= domains; i++) {
+                    final String domain = i < domains ? "domain" + i + ".com" : "*";
+                    for (String country : COUNTRIES) {
+                        values.put(String.join("|", mediaType, size, domain, country), 0.1 + rule++ % 100 / 100.0);
+                    }
+                }
+            }
+        }
+
+        return floors;
+    }
+}
@@ -0,0 +1,98 @@
+package org.prebid.server.benchmark.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.settings.model.Account;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-bidder metrics updates done for every auction.
+ * <p>
+ * {@code registryLookup} reproduces the way metrics were updated before handles were cached (name lookup in
+ * {@link MetricRegistry} on every update) and serves as the baseline for the rest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MetricsUpdateBenchmark {
+
+    private static final String BIDDER = "rubicon";
+
+    @Param({"flushingCounter", "counter"})
+    private CounterType counterType;
+
+    @Param({"basic", "detailed"})
+    private AccountMetricsVerbosityLevel accountVerbosity;
+
+    private MetricRegistry metricRegistry;
+
+    private Metrics metrics;
+
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        metricRegistry = new MetricRegistry();
+        metrics = new Metrics(
+                metricRegistry,
+                counterType,
+                new AccountMetricsVerbosityResolver(
+                        accountVerbosity, Collections.emptyList(), Collections.emptyList()));
+        account = Account.empty("accountId");
+    }
+
+    @Benchmark
+    public void registryLookup() {
+        metricRegistry.counter("adapter.rubicon.requests.type.openrtb2-web").inc();
+        metricRegistry.counter("adapter.rubicon.no_cookie_requests").inc();
+        metricRegistry.counter("adapter.rubicon.requests.gotbids").inc();
+        metricRegistry.timer("adapter.rubicon.request_time").update(120, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    public void updateAdapterRequestTypeAndNoCookieMetrics() {
+        metrics.updateAdapterRequestTypeAndNoCookieMetrics(BIDDER, MetricName.openrtb2web, true);
+    }
+
+    @Benchmark
+    public void updateAdapterRequestGotbidsMetrics() {
+        metrics.updateAdapterRequestGotbidsMetrics(BIDDER, account);
+    }
+
+    @Benchmark
+    public void updateAdapterResponseTime() {
+        metrics.updateAdapterResponseTime(BIDDER, account, 120);
+    }
+
+    @Benchmark
+    public void updateAdapterBidMetrics() {
+        metrics.updateAdapterBidMetrics(BIDDER, account, 1250L, true, "banner");
+    }
+
+    @Benchmark
+    public void updateAccountRequestMetrics() {
+        metrics.updateAccountRequestMetrics(account, MetricName.openrtb2web);
+    }
+}
@@ -0,0 +1,221 @@
+package org.prebid.server.benchmark.privacy;
+
+import com.codahale.metrics.MetricRegistry;
+import com.iabtcf.decoder.TCString;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.privacy.gdpr.Tcf2Service;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose02Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose03Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose04Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose05Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose06Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose07Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose08Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose09Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose10Strategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.BasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.FullEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.NoEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies.PurposeTwoBasicEnforcePurposeStrategy;
+import org.prebid.server.privacy.gdpr.tcfstrategies.specialfeature.SpecialFeaturesOneStrategy;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListFetchThrottler;
+import org.prebid.server.privacy.gdpr.vendorlist.VendorListService;
+import org.prebid.server.privacy.gdpr.vendorlist.VersionedVendorListService;
+import org.prebid.server.settings.model.EnforcePurpose;
+import org.prebid.server.settings.model.GdprConfig;
+import org.prebid.server.settings.model.Purpose;
+import org.prebid.server.settings.model.PurposeOneTreatmentInterpretation;
+import org.prebid.server.settings.model.Purposes;
+import org.prebid.server.settings.model.SpecialFeature;
+import org.prebid.server.settings.model.SpecialFeatures;
+import org.prebid.server.vertx.DeadlineScheduler;
+import org.prebid.server.vertx.httpclient.BasicHttpClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of resolving TCF permissions of all the bidders of the auction with {@link Tcf2Service#permissionsFor}.
+ * <p>
+ * Every purpose is fully enforced, the consent carries publisher restrictions for some of the vendors and the vendor
+ * list is already loaded, so the call completes synchronously. {@code permissionsCacheTtlMs=0} resolves permissions
+ * of every vendor on each call, otherwise they come from the permissions cache after the first call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Tcf2ServicePermissionsBenchmark {
+
+    private static final int VENDOR_LIST_VERSION = 150;
+
+    // 40 vendors of the list below, vendors 69, 410 and 925 have no consent, publisher restricts purpose 2 for
+    // vendors 128-132 (require consent) and purpose 7 for vendor 755 (not allowed)
+    private static final String CONSENT =
+            "CPXegUAPXegUAAHABBENCWEIAP_AAH_AAAggKNgBAAAEAABAAABAAIAAAAAXQRAAAAAAAAABAAAAABAAIAAAEAAAAA"
+            + "CAAAACAAAAAAAAAAAAAAAAAAAAAAAAAAAAAgAAAAAABAAAAAAAAAAAAAAAAAAAAAAAAAAAAgAAgCAAAAIAQAAABEEA"
+            + "QABBAAAAAAAAAAAAAAAAAAAAAAAAwAAAAAAAAAAAAAAAABAAAAAAAAAAAgAAAAAAAAAAAAACAAAAgo2AEAAAQAAEAA"
+            + "IEAAgAAAABdBEAAAAAAAAAEAAAAAEAAgAAAQAAAAAIAAAAIAAAAAAAAAAQAAAAAAAAAAAAAAAAACAAAAAAAEAAAAAA"
+            + "AAAAAAAAAAAAAAAAAAAAACAACAIAAAAgBAAAAEQQBAAEEAAAAAAAAgAAAAAAAAAAAAAADAAAAAAAAAAAAAAAAAEAAA"
+            + "AAAAAAACAAAAAAAAAAAAAAIAAACAEEgAwCAAIQcABAXmA";
+
+    private static final List<Integer> VENDOR_IDS = List.of(
+            10, 32, 52, 69, 76, 91, 126, 128, 129, 130, 132, 138, 142, 202, 238, 253, 278, 315, 345, 410,
+            521, 568, 737, 755, 765, 793, 804, 832, 836, 842, 852, 868, 874, 925, 1019, 1020, 1126, 1193, 1281, 1307);
+
+    @Param({"0", "60000"})
+    private long permissionsCacheTtlMs;
+
+    private Vertx vertx;
+
+    private Path cacheDir;
+
+    private Tcf2Service tcf2Service;
+
+    private Set<Integer> vendorIds;
+
+    private TCString consent;
+
+    @Setup
+    public void setUp() throws IOException {
+        vertx = Vertx.vertx();
+        cacheDir = Files.createTempDirectory("vendorlist");
+        Files.writeString(cacheDir.resolve(VENDOR_LIST_VERSION + ".json"), givenVendorList());
+
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        final VendorListService vendorListService = new VendorListService(
+                0.0,
+                cacheDir.toString(),
+                "http://localhost/{VERSION}",
+                1000,
+                3600000L,
+                false,
+                null,
+                vertx,
+                vertx.fileSystem(),
+                new BasicHttpClient(new DeadlineScheduler(vertx, 10L, metrics), vertx.createHttpClient()),
+                metrics,
+                "v3",
+                new JacksonMapper(ObjectMapperProvider.mapper()),
+                new VendorListFetchThrottler(FixedIntervalRetryPolicy.of(60000L), Clock.systemUTC()));
+
+        final FullEnforcePurposeStrategy full = new FullEnforcePurposeStrategy();
+        final BasicEnforcePurposeStrategy basic = new BasicEnforcePurposeStrategy();
+        final NoEnforcePurposeStrategy no = new NoEnforcePurposeStrategy();
+        final List<PurposeStrategy> purposeStrategies = List.of(
+                new Purpose01Strategy(full, basic, no),
+                new Purpose02Strategy(full, new PurposeTwoBasicEnforcePurposeStrategy(), no),
+                new Purpose03Strategy(full, basic, no),
+                new Purpose04Strategy(full, basic, no),
+                new Purpose05Strategy(full, basic, no),
+                new Purpose06Strategy(full, basic, no),
+                new Purpose07Strategy(full, basic, no),
+                new Purpose08Strategy(full, basic, no),
+                new Purpose09Strategy(full, basic, no),
+                new Purpose10Strategy(full, basic, no));
+
+        tcf2Service = new Tcf2Service(
+                givenGdprConfig(),
+                purposeStrategies,
+                List.of(new SpecialFeaturesOneStrategy()),
+                new VersionedVendorListService(vendorListService, vendorListService),
+                new BidderCatalog(Collections.emptyList()),
+                permissionsCacheTtlMs,
+                10000);
+
+        vendorIds = new LinkedHashSet<>(VENDOR_IDS);
+        consent = TCString.decode(CONSENT);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        vertx.close();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(cacheDir);
+    }
+
+    @Benchmark
+    public Collection<VendorPermission> permissionsFor() {
+        return tcf2Service.permissionsFor(vendorIds, consent).result();
+    }
+
+    private static GdprConfig givenGdprConfig() {
+        final Purpose purpose = Purpose.of(EnforcePurpose.full, true, Collections.emptyList(), null);
+        final SpecialFeature specialFeature = SpecialFeature.of(true, Collections.emptyList());
+
+        return GdprConfig.builder()
+                .purposes(Purposes.builder()
+                        .p1(purpose).p2(purpose).p3(purpose).p4(purpose).p5(purpose)
+                        .p6(purpose).p7(purpose).p8(purpose).p9(purpose).p10(purpose)
+                        .build())
+                .specialFeatures(SpecialFeatures.builder().sf1(specialFeature).sf2(specialFeature).build())
+                .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.ignore)
+                .build();
+    }
+
+    private static String givenVendorList() {
+        final StringJoiner vendors = new StringJoiner(",");
+        for (int i = 0; i < VENDOR_IDS.size(); i++) {
+            final int vendorId = VENDOR_IDS.get(i);
+            // every third vendor relies on legitimate interest for purposes 2 and 7 and lets publisher choose
+            final boolean flexible = i % 3 == 0;
+            vendors.add("""
+                    "%d": {"id": %d, "purposes": %s, "legIntPurposes": %s, "flexiblePurposes": %s,
+                    "specialPurposes": [1, 2], "features": [1], "specialFeatures": %s}"""
+                    .formatted(
+                            vendorId,
+                            vendorId,
+                            flexible ? "[1, 3, 4]" : "[1, 2, 3, 4, 7]",
+                            flexible ? "[2, 7, 8, 9, 10]" : "[8, 9, 10]",
+                            flexible ? "[2, 7]" : "[]",
+                            i % 2 == 0 ? "[1]" : "[]"));
+        }
+
+        return """
+                {"vendorListVersion": %d, "lastUpdated": "2024-01-01T00:00:00Z", "vendors": {%s}}"""
+                .formatted(VENDOR_LIST_VERSION, vendors);
+    }
+}
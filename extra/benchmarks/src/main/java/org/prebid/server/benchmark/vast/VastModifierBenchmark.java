@@ -0,0 +1,179 @@
+package org.prebid.server.benchmark.vast;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.events.EventsContext;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.metric.AccountMetricsVerbosityResolver;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.util.ResourceUtil;
+import org.prebid.server.vast.VastModifier;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of adding the tracking impression to VAST of the video bid, as {@code CoreCacheService} does for every cached
+ * video bid when events are enabled. {@code regexInjection} is the previous regex based way of finding the insertion
+ * point, kept here as a baseline.
+ * <p>
+ * VAST shapes are an inline linear ad, a wrapper, a pod of inline and wrapper ads and an inline ad without
+ * impressions. Each of them is padded up to the given size with extensions, the way verification scripts and tracking
+ * of intermediaries inflate VAST in the wild.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VastModifierBenchmark {
+
+    private static final String FIXTURES_PATH = "org/prebid/server/benchmark/vast/";
+    private static final String PADDING_PLACEHOLDER = "<!-- padding -->";
+    private static final String PADDING_EXTENSION = """
+            <Extension type="AdVerifications"><Verification vendor="verifier.example.com">\
+            <JavaScriptResource apiFramework="omid" browserOptional="true">\
+            <![CDATA[https://verifier.example.com/omid/verification.js?ad=%d]]></JavaScriptResource>\
+            <VerificationParameters><![CDATA[{"campaign":"%d","placement":"video"}]]></VerificationParameters>\
+            </Verification></Extension>
+            """;
+
+    private static final String BIDDER = "generic";
+    private static final String ACCOUNT_ID = "accountId";
+
+    private static final Pattern INLINE_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
+            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
+            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+
+    @Param({"inline", "wrapper", "ad-pod", "no-impression"})
+    private String shape;
+
+    /**
+     * Size of VAST the shape is padded up to.
+     */
+    @Param({"4", "128"})
+    private int vastKb;
+
+    private VastModifier vastModifier;
+
+    private EventsService eventsService;
+
+    private BidPutObject bidPutObject;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Metrics metrics = new Metrics(
+                new MetricRegistry(),
+                CounterType.counter,
+                new AccountMetricsVerbosityResolver(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+
+        eventsService = new EventsService("http://localhost:8080");
+        vastModifier = new VastModifier(new BidderCatalog(Collections.emptyList()), eventsService, metrics);
+
+        bidPutObject = BidPutObject.builder()
+                .type("xml")
+                .bidid("bidId")
+                .bidder(BIDDER)
+                .aid("auctionId")
+                .timestamp(1000L)
+                .value(new TextNode(givenVast(shape, vastKb)))
+                .build();
+    }
+
+    @Benchmark
+    public JsonNode scannerInjection() {
+        return vastModifier.modifyVastXml(true, Set.of(BIDDER), bidPutObject, ACCOUNT_ID, "web");
+    }
+
+    @Benchmark
+    public String regexInjection() {
+        final String vastUrlTracking = eventsService.vastUrlTracking(
+                bidPutObject.getBidid(),
+                BIDDER,
+                ACCOUNT_ID,
+                EventsContext.builder()
+                        .auctionId(bidPutObject.getAid())
+                        .auctionTimestamp(bidPutObject.getTimestamp())
+                        .integration("web")
+                        .build());
+
+        final String vastXml = bidPutObject.getValue().asText();
+        final String result = regexInjection(vastXml, vastUrlTracking, INLINE_OPEN_TAG_PATTERN,
+                INLINE_CLOSE_TAG_PATTERN);
+
+        return result != null
+                ? result
+                : regexInjection(vastXml, vastUrlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN);
+    }
+
+    private static String regexInjection(String vastXml,
+                                         String vastUrlTracking,
+                                         Pattern openTagPattern,
+                                         Pattern closeTagPattern) {
+
+        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
+        if (!openTagMatcher.find()) {
+            return null;
+        }
+
+        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
+        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
+            int replacementEnd = impressionCloseTagMatcher.end();
+            while (impressionCloseTagMatcher.find(replacementEnd)) {
+                replacementEnd = impressionCloseTagMatcher.end();
+            }
+            return insertUrlTracking(vastXml, replacementEnd, vastUrlTracking);
+        }
+
+        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
+        return closeTagMatcher.find(openTagMatcher.end())
+                ? insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking)
+                : vastXml;
+    }
+
+    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
+        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
+        return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+    }
+
+    private static String givenVast(String shape, int vastKb) throws IOException {
+        final String vast = ResourceUtil.readFromClasspath(FIXTURES_PATH + shape + ".xml");
+
+        final int paddingSize = vastKb * 1024 - vast.length();
+        final StringBuilder padding = new StringBuilder(Math.max(paddingSize, 0));
+        for (int i = 0; padding.length() < paddingSize; i++) {
+            padding.append(PADDING_EXTENSION.formatted(i, i));
+        }
+
+        return vast.replace(PADDING_PLACEHOLDER, padding);
+    }
+}
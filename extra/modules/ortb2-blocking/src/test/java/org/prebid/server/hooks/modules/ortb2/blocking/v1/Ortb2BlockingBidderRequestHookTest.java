@@ -271,6 +271,7 @@ public class Ortb2BlockingBidderRequestHookTest {
                 false,
                 false,
                 null,
+                null,
                 Ortb.of(false),
                 0L);
     }
@@ -24,12 +24,18 @@ public class ActivityController {
     }
 
     public boolean isAllowed(ActivityInvocationPayload activityInvocationPayload) {
+        return invoke(activityInvocationPayload).allowed();
+    }
+
+    Invocation invoke(ActivityInvocationPayload activityInvocationPayload) {
         debug.emitActivityInvocationDefaultResult(allowByDefault);
         boolean result = allowByDefault;
+        int processedRules = 0;
 
         for (Rule rule : rules) {
             final Rule.Result ruleResult = rule.proceed(activityInvocationPayload);
             debug.emitProcessedRule(rule, ruleResult);
+            processedRules++;
 
             if (ruleResult != Rule.Result.ABSTAIN) {
                 result = ruleResult == Rule.Result.ALLOW;
@@ -37,6 +43,12 @@ public class ActivityController {
             }
         }
 
-        return result;
+        return new Invocation(result, processedRules);
+    }
+
+    /**
+     * Result of the invocation along with the number of rules processed to get it.
+     */
+    record Invocation(boolean allowed, int processedRules) {
     }
 }
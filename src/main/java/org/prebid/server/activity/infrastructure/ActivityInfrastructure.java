@@ -5,6 +5,8 @@ import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
+import org.prebid.server.activity.infrastructure.payload.GeoActivityInvocationPayload;
+import org.prebid.server.activity.infrastructure.payload.GpcActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 
@@ -12,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ActivityInfrastructure {
 
@@ -20,6 +23,8 @@ public class ActivityInfrastructure {
     private final Map<Activity, ActivityController> activitiesControllers;
     private final ActivityInfrastructureDebug debug;
 
+    private final Map<InvocationKey, ActivityController.Invocation> invocationResults;
+
     public ActivityInfrastructure(Map<Activity, ActivityController> activitiesControllers,
                                   ActivityInfrastructureDebug debug) {
 
@@ -27,6 +32,8 @@ public class ActivityInfrastructure {
 
         this.activitiesControllers = activitiesControllers;
         this.debug = Objects.requireNonNull(debug);
+
+        invocationResults = new ConcurrentHashMap<>();
     }
 
     private static void validate(Map<Activity, ActivityController> activitiesControllers) {
@@ -37,12 +44,30 @@ public class ActivityInfrastructure {
 
     public boolean isAllowed(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
         debug.emitActivityInvocation(activity, activityInvocationPayload);
-        final boolean result = activitiesControllers.get(activity).isAllowed(activityInvocationPayload);
+        final boolean result = debug.isTraceEnabled()
+                ? activitiesControllers.get(activity).isAllowed(activityInvocationPayload)
+                : isAllowedReusingResult(activity, activityInvocationPayload);
         debug.emitActivityInvocationResult(activity, activityInvocationPayload, result);
 
         return result;
     }
 
+    private boolean isAllowedReusingResult(Activity activity, ActivityInvocationPayload activityInvocationPayload) {
+        final InvocationKey key = InvocationKey.of(activity, activityInvocationPayload);
+
+        final ActivityController.Invocation reusedInvocation = invocationResults.get(key);
+        if (reusedInvocation != null) {
+            debug.emitReusedProcessedRules(reusedInvocation.processedRules());
+            return reusedInvocation.allowed();
+        }
+
+        final ActivityController.Invocation invocation =
+                activitiesControllers.get(activity).invoke(activityInvocationPayload);
+        invocationResults.putIfAbsent(key, invocation);
+
+        return invocation.allowed();
+    }
+
     public void updateActivityMetrics(Activity activity, ComponentType componentType, String componentName) {
         debug.updateActivityMetrics(activity, componentType, componentName);
     }
@@ -54,4 +79,41 @@ public class ActivityInfrastructure {
     public Set<PrivacyModuleQualifier> skippedPrivacyModules() {
         return debug.skippedPrivacyModules();
     }
+
+    /**
+     * Rules and privacy modules see nothing of the payload but the component, geo and gpc, so the same activity is
+     * resolved once per auction for them. Rules of the reused result are still counted as processed. Not used with
+     * debug trace, which has to log every processed rule.
+     * <p>
+     * Payload without geo or gpc matches conditions on them, unlike payload with empty geo or gpc, so the kind of
+     * the payload is a part of the key too.
+     */
+    private record InvocationKey(Activity activity,
+                                 ComponentType componentType,
+                                 String componentName,
+                                 boolean isGeoPayload,
+                                 String country,
+                                 String region,
+                                 boolean isGpcPayload,
+                                 String gpc) {
+
+        static InvocationKey of(Activity activity, ActivityInvocationPayload payload) {
+            final GeoActivityInvocationPayload geoPayload = payload instanceof GeoActivityInvocationPayload
+                    ? (GeoActivityInvocationPayload) payload
+                    : null;
+            final GpcActivityInvocationPayload gpcPayload = payload instanceof GpcActivityInvocationPayload
+                    ? (GpcActivityInvocationPayload) payload
+                    : null;
+
+            return new InvocationKey(
+                    activity,
+                    payload.componentType(),
+                    payload.componentName(),
+                    geoPayload != null,
+                    geoPayload != null ? geoPayload.country() : null,
+                    geoPayload != null ? geoPayload.region() : null,
+                    gpcPayload != null,
+                    gpcPayload != null ? gpcPayload.gpc() : null);
+        }
+    }
 }
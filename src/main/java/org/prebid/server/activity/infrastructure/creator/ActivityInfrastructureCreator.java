@@ -1,6 +1,9 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
@@ -36,7 +39,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BinaryOperator;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -46,12 +48,15 @@ public class ActivityInfrastructureCreator {
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
     private static final int MODULE_MAX_SKIP_RATE = 100;
+    private static final int COMPILED_ACTIVITIES_CACHE_SIZE = 10_000;
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private final Map<CompiledActivitiesKey, CompiledActivities> compiledActivities;
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
@@ -64,6 +69,12 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+
+        // account is merged with the default one on every request, so its privacy configuration is compared by value
+        compiledActivities = Caffeine.newBuilder()
+                .maximumSize(COMPILED_ACTIVITIES_CACHE_SIZE)
+                .<CompiledActivitiesKey, CompiledActivities>build()
+                .asMap();
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -76,22 +87,14 @@ public class ActivityInfrastructureCreator {
     }
 
     Map<Activity, ActivityController> parse(Account account, GppContext gppContext, ActivityInfrastructureDebug debug) {
-        final Optional<AccountPrivacyConfig> accountPrivacyConfig = Optional.ofNullable(account.getPrivacy());
-
-        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration = accountPrivacyConfig
-                .map(AccountPrivacyConfig::getActivities)
-                .orElseGet(Collections::emptyMap);
-
-        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs = accountPrivacyConfig
-                .map(AccountPrivacyConfig::getModules)
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(
-                        AccountPrivacyModuleConfig::getCode,
-                        UnaryOperator.identity(),
-                        takeFirstAndLogDuplicates(account.getId())));
+        final AccountPrivacyConfig accountPrivacyConfig = account.getPrivacy();
+        final CompiledActivities compiled = accountPrivacyConfig != null
+                ? compiledActivities.computeIfAbsent(
+                CompiledActivitiesKey.of(account.getId(), accountPrivacyConfig),
+                key -> compile(key.getAccountId(), key.getPrivacyConfig()))
+                : CompiledActivities.EMPTY;
 
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs = compiled.getModulesConfigs();
         final Set<PrivacyModuleQualifier> skipPrivacyModules = modulesConfigs.entrySet().stream()
                 .filter(entry -> shouldSkipPrivacyModule(entry.getValue()))
                 .map(Map.Entry::getKey)
@@ -99,20 +102,55 @@ public class ActivityInfrastructureCreator {
 
         return Arrays.stream(Activity.values()).collect(Collectors.toMap(
                 UnaryOperator.identity(),
-                fallbackActivity(
-                        activitiesConfiguration,
-                        accountPrivacyConfig,
-                        activity -> from(
-                                activity,
-                                activitiesConfiguration.get(activity),
-                                modulesConfigs,
-                                skipPrivacyModules,
-                                gppContext,
-                                debug)),
+                activity -> from(
+                        compiled.getActivities().get(activity),
+                        modulesConfigs,
+                        skipPrivacyModules,
+                        gppContext,
+                        debug),
                 (oldValue, newValue) -> oldValue,
                 enumMapFactory()));
     }
 
+    /**
+     * Resolves everything that does not depend on the request: privacy modules configuration and rules configuration
+     * of each activity. Rules are bound to GPP of the request in {@link #parse}, same rules configuration instances
+     * are passed to rule creators for every request of the account.
+     */
+    private CompiledActivities compile(String accountId, AccountPrivacyConfig accountPrivacyConfig) {
+        final Map<Activity, AccountActivityConfiguration> activitiesConfiguration =
+                MapUtils.emptyIfNull(accountPrivacyConfig.getActivities());
+
+        final Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs =
+                ListUtils.emptyIfNull(accountPrivacyConfig.getModules()).stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toMap(
+                                AccountPrivacyModuleConfig::getCode,
+                                UnaryOperator.identity(),
+                                takeFirstAndLogDuplicates(accountId)));
+
+        final boolean imitateTransmitEids = imitateTransmitEids(activitiesConfiguration, accountPrivacyConfig);
+
+        final Map<Activity, CompiledActivity> activities = new EnumMap<>(Activity.class);
+        for (Activity originalActivity : Activity.values()) {
+            final Activity activity = originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
+                    ? Activity.TRANSMIT_UFPD
+                    : originalActivity;
+
+            final AccountActivityConfiguration activityConfiguration = activitiesConfiguration.get(activity);
+            if (activityConfiguration != null) {
+                activities.put(originalActivity, CompiledActivity.of(
+                        activity,
+                        allowFromConfig(activityConfiguration.getAllow()),
+                        ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
+                                .filter(Objects::nonNull)
+                                .toList()));
+            }
+        }
+
+        return CompiledActivities.of(modulesConfigs, activities);
+    }
+
     private BinaryOperator<AccountPrivacyModuleConfig> takeFirstAndLogDuplicates(String accountId) {
         return (first, second) -> {
             logger.warn("Duplicate configuration found for privacy module %s for account %s"
@@ -123,40 +161,32 @@ public class ActivityInfrastructureCreator {
         };
     }
 
-    // TODO: remove this wrapper after transition period
-    private Function<Activity, ActivityController> fallbackActivity(
-            Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
-            Optional<AccountPrivacyConfig> accountPrivacyConfig,
-            Function<Activity, ActivityController> activityControllerCreator) {
+    // TODO: remove this fallback after transition period
+    private boolean imitateTransmitEids(Map<Activity, AccountActivityConfiguration> activitiesConfiguration,
+                                        AccountPrivacyConfig accountPrivacyConfig) {
 
-        final boolean imitateTransmitEids = !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
+        return !activitiesConfiguration.containsKey(Activity.TRANSMIT_EIDS)
                 && activitiesConfiguration.containsKey(Activity.TRANSMIT_UFPD)
-                && accountPrivacyConfig
-                .map(AccountPrivacyConfig::getGdpr)
+                && Optional.ofNullable(accountPrivacyConfig.getGdpr())
                 .map(AccountGdprConfig::getPurposes)
                 .map(Purposes::getP4)
                 .or(() -> Optional.ofNullable(defaultPurpose4))
                 .map(Purpose::getEid)
                 .map(PurposeEid::getActivityTransition)
                 .orElse(false);
-
-        return originalActivity -> originalActivity == Activity.TRANSMIT_EIDS && imitateTransmitEids
-                ? activityControllerCreator.apply(Activity.TRANSMIT_UFPD)
-                : activityControllerCreator.apply(originalActivity);
     }
 
     private static boolean shouldSkipPrivacyModule(AccountPrivacyModuleConfig config) {
         return ThreadLocalRandom.current().nextInt(MODULE_MAX_SKIP_RATE) < config.getSkipRate();
     }
 
-    private ActivityController from(Activity activity,
-                                    AccountActivityConfiguration activityConfiguration,
+    private ActivityController from(CompiledActivity compiledActivity,
                                     Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs,
                                     Set<PrivacyModuleQualifier> skipPrivacyModules,
                                     GppContext gppContext,
                                     ActivityInfrastructureDebug debug) {
 
-        if (activityConfiguration == null) {
+        if (compiledActivity == null) {
             return ActivityController.of(
                     ActivityInfrastructure.ALLOW_ACTIVITY_BY_DEFAULT,
                     Collections.emptyList(),
@@ -164,19 +194,17 @@ public class ActivityInfrastructureCreator {
         }
 
         final ActivityControllerCreationContext creationContext = ActivityControllerCreationContext.of(
-                activity,
+                compiledActivity.getActivity(),
                 modulesConfigs,
                 skipPrivacyModules,
                 gppContext);
 
-        final boolean allow = allowFromConfig(activityConfiguration.getAllow());
-        final List<Rule> rules = ListUtils.emptyIfNull(activityConfiguration.getRules()).stream()
-                .filter(Objects::nonNull)
+        final List<Rule> rules = compiledActivity.getRules().stream()
                 .map(ruleConfiguration -> createRule(ruleConfiguration, creationContext))
                 .filter(Objects::nonNull)
                 .toList();
 
-        return ActivityController.of(allow, rules, debug);
+        return ActivityController.of(compiledActivity.isAllow(), rules, debug);
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -200,4 +228,33 @@ public class ActivityInfrastructureCreator {
     private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledActivitiesKey {
+
+        String accountId;
+
+        AccountPrivacyConfig privacyConfig;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledActivities {
+
+        private static final CompiledActivities EMPTY =
+                CompiledActivities.of(Collections.emptyMap(), Collections.emptyMap());
+
+        Map<PrivacyModuleQualifier, AccountPrivacyModuleConfig> modulesConfigs;
+
+        Map<Activity, CompiledActivity> activities;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledActivity {
+
+        Activity activity;
+
+        boolean allow;
+
+        List<AccountActivityRuleConfig> rules;
+    }
 }
@@ -149,7 +149,11 @@ public class USCustomLogicModuleCreator implements PrivacyModuleCreator {
     private JsonLogicNode jsonLogicNode(ObjectNode jsonLogicConfig) {
         final String jsonAsString = jsonLogicConfig.toString();
         return jsonLogicNodesCache != null
-                ? jsonLogicNodesCache.computeIfAbsent(jsonAsString, jsonLogic::parse)
-                : jsonLogic.parse(jsonAsString);
+                ? jsonLogicNodesCache.computeIfAbsent(jsonAsString, this::parseAndCompile)
+                : parseAndCompile(jsonAsString);
+    }
+
+    private JsonLogicNode parseAndCompile(String jsonLogicConfig) {
+        return jsonLogic.compile(jsonLogic.parse(jsonLogicConfig));
     }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.activity.infrastructure.creator.rule;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ComponentType;
@@ -12,30 +14,54 @@ import org.prebid.server.settings.model.activity.rule.AccountActivityConditionsR
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
 public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityConditionsRuleConfig> {
 
+    private final Map<AccountActivityConditionsRuleConfig, CompiledRules> compiledRules;
+
     public ConditionsRuleCreator() {
         super(AccountActivityConditionsRuleConfig.class);
+
+        // rules configuration lives as long as compiled account activities keep it, weak keys are compared by identity
+        compiledRules = Caffeine.newBuilder()
+                .weakKeys()
+                .<AccountActivityConditionsRuleConfig, CompiledRules>build()
+                .asMap();
     }
 
     @Override
     protected Rule fromConfiguration(AccountActivityConditionsRuleConfig ruleConfiguration,
                                      ActivityControllerCreationContext creationContext) {
 
+        final CompiledRules rules = compiledRules.computeIfAbsent(ruleConfiguration, ConditionsRuleCreator::compile);
+        final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
+
+        return sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds())
+                ? rules.getSidsMatched()
+                : rules.getSidsNotMatched();
+    }
+
+    /**
+     * Rule depends on the request only by GPP sids, so both its variants are created once per configuration.
+     */
+    private static CompiledRules compile(AccountActivityConditionsRuleConfig ruleConfiguration) {
         final boolean allow = allowFromConfig(ruleConfiguration.getAllow());
         final AccountActivityConditionsRuleConfig.Condition condition = ruleConfiguration.getCondition();
 
-        return new ConditionsRule(
-                condition != null ? setOf(condition.getComponentTypes()) : null,
-                condition != null ? caseInsensitiveSetOf(condition.getComponentNames()) : null,
-                sidsMatched(condition, creationContext.getGppContext().scope().getSectionsIds()),
-                condition != null ? geoCodes(condition.getGeoCodes()) : null,
-                condition != null ? condition.getGpc() : null,
-                allow);
+        final Set<ComponentType> componentTypes = condition != null ? setOf(condition.getComponentTypes()) : null;
+        final Set<String> componentNames = condition != null
+                ? caseInsensitiveSetOf(condition.getComponentNames())
+                : null;
+        final List<ConditionsRule.GeoCode> geoCodes = condition != null ? geoCodes(condition.getGeoCodes()) : null;
+        final String gpc = condition != null ? condition.getGpc() : null;
+
+        return CompiledRules.of(
+                new ConditionsRule(componentTypes, componentNames, true, geoCodes, gpc, allow),
+                new ConditionsRule(componentTypes, componentNames, false, geoCodes, gpc, allow));
     }
 
     private static boolean allowFromConfig(Boolean configValue) {
@@ -91,4 +117,12 @@ public class ConditionsRuleCreator extends AbstractRuleCreator<AccountActivityCo
                 stringGeoCode.substring(0, firstDot),
                 stringGeoCode.substring(firstDot + 1));
     }
+
+    @Value(staticConstructor = "of")
+    private static class CompiledRules {
+
+        ConditionsRule sidsMatched;
+
+        ConditionsRule sidsNotMatched;
+    }
 }
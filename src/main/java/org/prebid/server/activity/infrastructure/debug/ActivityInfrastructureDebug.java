@@ -78,6 +78,16 @@ public class ActivityInfrastructureDebug {
         }
     }
 
+    /**
+     * Counts rules behind the reused invocation result as processed again, so the processed rules metric does not
+     * depend on whether the result was reused or not.
+     */
+    public void emitReusedProcessedRules(int processedRules) {
+        if (processedRules > 0) {
+            metrics.updateRequestsActivityProcessedRulesCount(processedRules);
+        }
+    }
+
     private void collectSkippedPrivacyModules(Rule rule) {
         if (rule instanceof SkippedPrivacyModule module) {
             skippedPrivacyModules.add(module.skippedModule());
@@ -118,6 +128,10 @@ public class ActivityInfrastructureDebug {
         }
     }
 
+    public boolean isTraceEnabled() {
+        return atLeast(TraceLevel.basic);
+    }
+
     public List<ExtTraceActivityInfrastructure> trace() {
         return Collections.unmodifiableList(traceLog);
     }
@@ -34,6 +34,7 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.BidderResponseInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.CategoryMappingResult;
+import org.prebid.server.auction.model.ImpIdIndex;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.PaaFormat;
 import org.prebid.server.auction.model.Rejection;
@@ -410,7 +411,7 @@ public class BidResponseCreator {
                                                            BidRequestCacheInfo cacheInfo,
                                                            AuctionContext auctionContext) {
 
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIdIndex imps = auctionContext.impIdIndex();
         final Account account = auctionContext.getAccount();
         final List<BidderResponseInfo> result = new ArrayList<>();
         final List<BidderResponse> bidderResponses = categoryMappingResult.getBidderResponses();
@@ -490,7 +491,7 @@ public class BidResponseCreator {
     private BidInfo toBidInfo(Bid bid,
                               BidType type,
                               String seat,
-                              List<Imp> imps,
+                              ImpIdIndex imps,
                               String bidder,
                               CategoryMappingResult categoryMappingResult,
                               BidRequestCacheInfo cacheInfo,
@@ -510,20 +511,14 @@ public class BidResponseCreator {
                 .build();
     }
 
-    private static Imp correspondingImp(Bid bid, List<Imp> imps) {
+    private static Imp correspondingImp(Bid bid, ImpIdIndex imps) {
         final String impId = bid.getImpid();
-        return correspondingImp(impId, imps)
+        return imps.find(impId)
                 // Should never occur. See ResponseBidValidator
                 .orElseThrow(
                         () -> new PreBidException("Bid with impId %s doesn't have matched imp".formatted(impId)));
     }
 
-    private static Optional<Imp> correspondingImp(String impId, List<Imp> imps) {
-        return imps.stream()
-                .filter(imp -> Objects.equals(impId, imp.getId()))
-                .findFirst();
-    }
-
     private Integer resolveTtl(Bid bid, BidType type, Imp imp, BidRequestCacheInfo cacheInfo, Account account) {
         final Integer bidTtl = bid.getExp();
         final Integer impTtl = imp != null ? imp.getExp() : null;
@@ -892,7 +887,7 @@ public class BidResponseCreator {
                 : Collections.emptyList();
 
         // TODO: Remove after transition period
-        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+        final ImpIdIndex imps = auctionContext.impIdIndex();
         final List<FledgeAuctionConfig> deprecatedFledgeConfigs = bidderResponseInfos.stream()
                 .flatMap(bidderResponseInfo -> toDeprecatedFledgeConfigs(bidderResponseInfo, imps))
                 .toList();
@@ -1008,7 +1003,7 @@ public class BidResponseCreator {
     }
 
     private Stream<FledgeAuctionConfig> toDeprecatedFledgeConfigs(BidderResponseInfo bidderResponseInfo,
-                                                                  List<Imp> imps) {
+                                                                  ImpIdIndex imps) {
 
         return Optional.ofNullable(bidderResponseInfo.getSeatBid().getFledgeAuctionConfigs())
                 .stream()
@@ -1020,8 +1015,8 @@ public class BidResponseCreator {
                         bidderResponseInfo.getAdapterCode()));
     }
 
-    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, List<Imp> imps) {
-        final ExtImpAuctionEnvironment fledgeEnabled = correspondingImp(fledgeAuctionConfig.getImpId(), imps)
+    private boolean validateFledgeConfig(FledgeAuctionConfig fledgeAuctionConfig, ImpIdIndex imps) {
+        final ExtImpAuctionEnvironment fledgeEnabled = imps.find(fledgeAuctionConfig.getImpId())
                 .map(Imp::getExt)
                 .map(ext -> convertValue(ext, "ae", ExtImpAuctionEnvironment.class))
                 .orElse(ExtImpAuctionEnvironment.SERVER_SIDE_AUCTION);
@@ -1380,6 +1375,9 @@ public class BidResponseCreator {
 
         final Map<String, List<ExtBidderError>> bidErrors = new HashMap<>();
         final Map<String, List<ExtBidderError>> bidWarnings = new HashMap<>();
+        final TargetingKeywordsCreators keywordsCreators = targeting != null
+                ? new TargetingKeywordsCreators(targeting, bidRequest, account, bidWarnings)
+                : null;
         final List<SeatBid> seatBids = bidderResponseInfos.stream()
                 .map(BidderResponseInfo::getSeatBid)
                 .map(BidderSeatBidInfo::getBidsInfos)
@@ -1387,7 +1385,7 @@ public class BidResponseCreator {
                 .map(bidInfos -> toSeatBid(
                         bidInfos,
                         targeting,
-                        bidRequest,
+                        keywordsCreators,
                         requestCacheInfo,
                         cacheResult.getCacheBids(),
                         account,
@@ -1466,7 +1464,7 @@ public class BidResponseCreator {
      */
     private SeatBid toSeatBid(List<BidInfo> bidInfos,
                               ExtRequestTargeting targeting,
-                              BidRequest bidRequest,
+                              TargetingKeywordsCreators keywordsCreators,
                               BidRequestCacheInfo requestCacheInfo,
                               Map<Bid, CacheInfo> bidToCacheInfo,
                               Account account,
@@ -1483,7 +1481,7 @@ public class BidResponseCreator {
                 .map(bidInfo -> toBid(
                         bidInfo,
                         targeting,
-                        bidRequest,
+                        keywordsCreators,
                         account,
                         bidWarnings))
                 .filter(Objects::nonNull)
@@ -1544,7 +1542,7 @@ public class BidResponseCreator {
      */
     private Bid toBid(BidInfo bidInfo,
                       ExtRequestTargeting targeting,
-                      BidRequest bidRequest,
+                      TargetingKeywordsCreators keywordsCreators,
                       Account account,
                       Map<String, List<ExtBidderError>> bidWarnings) {
 
@@ -1558,8 +1556,7 @@ public class BidResponseCreator {
 
         final Map<String, String> targetingKeywords;
         if (shouldIncludeTargetingInResponse(targeting, bidInfo.getTargetingInfo())) {
-            final TargetingKeywordsCreator keywordsCreator = resolveKeywordsCreator(
-                    bidType, targeting, bidRequest, account, bidWarnings);
+            final TargetingKeywordsCreator keywordsCreator = keywordsCreators.forBidType(bidType);
 
             final boolean isWinningBid = targetingInfo.isWinningBid();
             final String seat = targetingInfo.getSeat();
@@ -1791,74 +1788,22 @@ public class BidResponseCreator {
                 : null;
     }
 
-    private TargetingKeywordsCreator resolveKeywordsCreator(BidType bidType,
-                                                            ExtRequestTargeting targeting,
-                                                            BidRequest bidRequest,
-                                                            Account account,
-                                                            Map<String, List<ExtBidderError>> bidWarnings) {
-
-        final Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType =
-                keywordsCreatorByBidType(targeting, bidRequest, account, bidWarnings);
-
-        return keywordsCreatorByBidType.getOrDefault(
-                bidType, keywordsCreator(targeting, bidRequest, account, bidWarnings));
-    }
-
     /**
-     * Extracts targeting keywords settings from the bid request and creates {@link TargetingKeywordsCreator}
-     * instance if it is present.
+     * Extracts price granularity for the given {@link BidType} from {@link ExtRequestTargeting} if it exists.
      */
-    private TargetingKeywordsCreator keywordsCreator(ExtRequestTargeting targeting,
-                                                     BidRequest bidRequest,
-                                                     Account account,
-                                                     Map<String, List<ExtBidderError>> bidWarnings) {
-
-        final JsonNode priceGranularityNode = targeting.getPricegranularity();
-        return priceGranularityNode == null || priceGranularityNode.isNull()
-                ? null
-                : createKeywordsCreator(targeting, priceGranularityNode, bidRequest, account, bidWarnings);
-    }
-
-    /**
-     * Returns a map of {@link BidType} to correspondent {@link TargetingKeywordsCreator}
-     * extracted from {@link ExtRequestTargeting} if it exists.
-     */
-    private Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType(
-            ExtRequestTargeting targeting,
-            BidRequest bidRequest,
-            Account account,
-            Map<String, List<ExtBidderError>> bidWarnings) {
-
+    private static JsonNode mediaTypePriceGranularity(ExtRequestTargeting targeting, BidType bidType) {
         final ExtMediaTypePriceGranularity mediaTypePriceGranularity = targeting.getMediatypepricegranularity();
         if (mediaTypePriceGranularity == null) {
-            return Collections.emptyMap();
-        }
-
-        final Map<BidType, TargetingKeywordsCreator> result = new EnumMap<>(BidType.class);
-
-        final ObjectNode banner = mediaTypePriceGranularity.getBanner();
-        final boolean isBannerNull = banner == null || banner.isNull();
-        if (!isBannerNull) {
-            result.put(
-                    BidType.banner, createKeywordsCreator(targeting, banner, bidRequest, account, bidWarnings));
-        }
-
-        final ObjectNode video = mediaTypePriceGranularity.getVideo();
-        final boolean isVideoNull = video == null || video.isNull();
-        if (!isVideoNull) {
-            result.put(
-                    BidType.video, createKeywordsCreator(targeting, video, bidRequest, account, bidWarnings));
-        }
-
-        final ObjectNode xNative = mediaTypePriceGranularity.getXNative();
-        final boolean isNativeNull = xNative == null || xNative.isNull();
-        if (!isNativeNull) {
-            result.put(
-                    BidType.xNative, createKeywordsCreator(targeting, xNative, bidRequest, account, bidWarnings)
-            );
+            return null;
         }
 
-        return result;
+        final ObjectNode priceGranularity = switch (bidType) {
+            case banner -> mediaTypePriceGranularity.getBanner();
+            case video -> mediaTypePriceGranularity.getVideo();
+            case xNative -> mediaTypePriceGranularity.getXNative();
+            case audio -> null;
+        };
+        return priceGranularity == null || priceGranularity.isNull() ? null : priceGranularity;
     }
 
     private TargetingKeywordsCreator createKeywordsCreator(ExtRequestTargeting targeting,
@@ -2007,6 +1952,64 @@ public class BidResponseCreator {
         }
     }
 
+    /**
+     * {@link TargetingKeywordsCreator}s of the single auction response.
+     * <p>
+     * Creator depends only on the request targeting settings and bid type, so it is resolved once per bid type
+     * on the first use and then shared by all the bids of that type.
+     */
+    private class TargetingKeywordsCreators {
+
+        private final ExtRequestTargeting targeting;
+        private final BidRequest bidRequest;
+        private final Account account;
+        private final Map<String, List<ExtBidderError>> bidWarnings;
+
+        private final Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType = new EnumMap<>(BidType.class);
+        private TargetingKeywordsCreator defaultKeywordsCreator;
+        private boolean defaultKeywordsCreatorResolved;
+
+        TargetingKeywordsCreators(ExtRequestTargeting targeting,
+                                  BidRequest bidRequest,
+                                  Account account,
+                                  Map<String, List<ExtBidderError>> bidWarnings) {
+
+            this.targeting = targeting;
+            this.bidRequest = bidRequest;
+            this.account = account;
+            this.bidWarnings = bidWarnings;
+        }
+
+        TargetingKeywordsCreator forBidType(BidType bidType) {
+            if (keywordsCreatorByBidType.containsKey(bidType)) {
+                return keywordsCreatorByBidType.get(bidType);
+            }
+
+            final JsonNode priceGranularity = mediaTypePriceGranularity(targeting, bidType);
+            final TargetingKeywordsCreator keywordsCreator = priceGranularity != null
+                    ? createKeywordsCreator(targeting, priceGranularity, bidRequest, account, bidWarnings)
+                    : defaultKeywordsCreator();
+
+            keywordsCreatorByBidType.put(bidType, keywordsCreator);
+            return keywordsCreator;
+        }
+
+        /**
+         * Creates {@link TargetingKeywordsCreator} from targeting price granularity if it is present.
+         */
+        private TargetingKeywordsCreator defaultKeywordsCreator() {
+            if (!defaultKeywordsCreatorResolved) {
+                final JsonNode priceGranularity = targeting.getPricegranularity();
+                defaultKeywordsCreator = priceGranularity == null || priceGranularity.isNull()
+                        ? null
+                        : createKeywordsCreator(targeting, priceGranularity, bidRequest, account, bidWarnings);
+                defaultKeywordsCreatorResolved = true;
+            }
+
+            return defaultKeywordsCreator;
+        }
+    }
+
     private record PaaResult(List<ExtIgi> igis, ExtBidResponseFledge fledge) {
     }
 }
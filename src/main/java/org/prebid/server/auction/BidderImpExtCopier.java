@@ -0,0 +1,80 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Copies imp.ext for the request to the single bidder.
+ * <p>
+ * Unlike {@link ObjectNode#deepCopy()} of the whole ext, parameters of the other bidders under
+ * {@code ext.prebid.bidder} and {@code ext.prebid.imp} are not copied at all, so preparing the imp for every bidder
+ * doesn't get more expensive with each bidder added to the imp. Everything else is deep copied, so the result can be
+ * modified freely without affecting the original ext or the copies made for the other bidders.
+ */
+public final class BidderImpExtCopier {
+
+    private static final String PREBID_EXT = "prebid";
+    private static final String BIDDER_EXT = "bidder";
+    private static final String IMP_EXT = "imp";
+
+    private BidderImpExtCopier() {
+    }
+
+    public static ObjectNode copyFor(String bidder, ObjectNode impExt) {
+        final ObjectNode copy = impExt.objectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = impExt.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            copy.set(field.getKey(), PREBID_EXT.equals(field.getKey()) && value.isObject()
+                    ? copyPrebidFor(bidder, (ObjectNode) value)
+                    : value.deepCopy());
+        }
+
+        return copy;
+    }
+
+    private static ObjectNode copyPrebidFor(String bidder, ObjectNode prebid) {
+        final ObjectNode copy = prebid.objectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = prebid.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final String name = field.getKey();
+            final JsonNode value = field.getValue();
+
+            final JsonNode copiedValue;
+            if (BIDDER_EXT.equals(name) && value.isObject()) {
+                copiedValue = copyMatching((ObjectNode) value, bidder::equals);
+            } else if (IMP_EXT.equals(name) && value.isObject()) {
+                // imp.ext.prebid.imp keys are matched case-insensitively by ImpAdjuster
+                copiedValue = copyMatching((ObjectNode) value, key -> StringUtils.equalsIgnoreCase(key, bidder));
+            } else {
+                copiedValue = value.deepCopy();
+            }
+            copy.set(name, copiedValue);
+        }
+
+        return copy;
+    }
+
+    private static ObjectNode copyMatching(ObjectNode node, Predicate<String> keyFilter) {
+        final ObjectNode copy = node.objectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (keyFilter.test(field.getKey())) {
+                copy.set(field.getKey(), field.getValue().deepCopy());
+            }
+        }
+
+        return copy;
+    }
+}
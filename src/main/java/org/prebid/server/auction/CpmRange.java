@@ -31,7 +31,12 @@ public class CpmRange {
      */
     public static String fromCpm(BigDecimal cpm, PriceGranularity priceGranularity, Account account) {
         final BigDecimal value = fromCpmAsNumber(cpm, priceGranularity, account);
-        return value != null ? format(value, priceGranularity.getPrecision()) : DEFAULT_CPM;
+        return value != null ? formatBucket(value, priceGranularity) : DEFAULT_CPM;
+    }
+
+    private static String formatBucket(BigDecimal value, PriceGranularity priceGranularity) {
+        final String formattedBucket = priceGranularity.formattedBucket(value);
+        return formattedBucket != null ? formattedBucket : format(value, priceGranularity.getPrecision());
     }
 
     /**
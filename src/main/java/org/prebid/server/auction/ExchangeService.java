@@ -908,7 +908,7 @@ public class ExchangeService {
 
         return bidRequest.getImp().stream()
                 .filter(imp -> bidderParamsFromImpExt(imp.getExt()).hasNonNull(bidder))
-                .map(imp -> imp.toBuilder().ext(imp.getExt().deepCopy()).build())
+                .map(imp -> imp.toBuilder().ext(BidderImpExtCopier.copyFor(bidder, imp.getExt())).build())
                 .map(imp -> impAdjuster.adjust(imp, bidder, debugWarnings))
                 .map(imp -> prepareImp(imp, bidder, bidRequest, transmitTid, useFirstPartyData, account, debugWarnings))
                 .toList();
@@ -961,17 +961,8 @@ public class ExchangeService {
             return null;
         }
 
-        final Iterator<String> fieldsIterator = extImpPrebid.fieldNames();
-        final ObjectNode modifiedExtImpPrebid = extImpPrebid.deepCopy();
-
-        while (fieldsIterator.hasNext()) {
-            final String fieldName = fieldsIterator.next();
-            if (!BIDDER_FIELDS_EXCEPTION_LIST.contains(fieldName)) {
-                modifiedExtImpPrebid.remove(fieldName);
-            }
-        }
-
-        return modifiedExtImpPrebid;
+        // imp.ext is already the bidder's own copy, so it's safe to modify it in place
+        return ((ObjectNode) extImpPrebid).retain(BIDDER_FIELDS_EXCEPTION_LIST);
     }
 
     private App prepareApp(App app, ObjectNode fpdApp, boolean useFirstPartyData) {
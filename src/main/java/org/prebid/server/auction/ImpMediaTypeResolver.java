@@ -2,10 +2,10 @@ package org.prebid.server.auction;
 
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
+import org.prebid.server.auction.model.ImpIdIndex;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 
-import java.util.List;
 import java.util.Objects;
 
 public class ImpMediaTypeResolver {
@@ -13,7 +13,7 @@ public class ImpMediaTypeResolver {
     private ImpMediaTypeResolver() {
     }
 
-    public static ImpMediaType resolve(String bidImpId, List<Imp> imps, BidType bidType) {
+    public static ImpMediaType resolve(String bidImpId, ImpIdIndex imps, BidType bidType) {
         return switch (bidType) {
             case banner -> ImpMediaType.banner;
             case xNative -> ImpMediaType.xNative;
@@ -22,13 +22,9 @@ public class ImpMediaTypeResolver {
         };
     }
 
-    private static ImpMediaType resolveBidAdjustmentVideoMediaType(String bidImpId, List<Imp> imps) {
-        final Video bidImpVideo = imps.stream()
-                .filter(imp -> imp.getId().equals(bidImpId))
-                .map(Imp::getVideo)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+    private static ImpMediaType resolveBidAdjustmentVideoMediaType(String bidImpId, ImpIdIndex imps) {
+        final Imp bidImp = imps.get(bidImpId);
+        final Video bidImpVideo = bidImp != null ? bidImp.getVideo() : null;
 
         if (bidImpVideo == null) {
             return ImpMediaType.video_outstream;
@@ -8,9 +8,12 @@ import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.math.RoundingMode;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -47,6 +50,8 @@ public class PriceGranularity {
     private List<ExtGranularityRange> ranges;
     private BigDecimal rangesMax;
     private Integer precision;
+    // formatted values of all the buckets, present only for the predefined granularities
+    private Map<BigDecimal, String> formattedBuckets;
 
     private PriceGranularity(List<ExtGranularityRange> ranges, BigDecimal rangesMax, Integer precision) {
         this.ranges = ranges;
@@ -58,7 +63,17 @@ public class PriceGranularity {
      * Creates {@link PriceGranularity} from {@link ExtPriceGranularity}.
      */
     public static PriceGranularity createFromExtPriceGranularity(ExtPriceGranularity extPriceGranularity) {
-        return createFromRanges(extPriceGranularity.getPrecision(), extPriceGranularity.getRanges());
+        final Integer precision = extPriceGranularity.getPrecision();
+        final List<ExtGranularityRange> ranges = extPriceGranularity.getRanges();
+
+        // predefined granularities usually come in the form of ranges, reuse shared instance for them
+        for (PriceGranularity priceGranularity : STRING_TO_CUSTOM_PRICE_GRANULARITY.values()) {
+            if (priceGranularity.isSameAs(precision, ranges)) {
+                return priceGranularity;
+            }
+        }
+
+        return createFromRanges(precision, ranges);
     }
 
     /**
@@ -99,6 +114,35 @@ public class PriceGranularity {
         return precision;
     }
 
+    /**
+     * Returns formatted value of the bucket if it is precomputed, otherwise returns null.
+     */
+    String formattedBucket(BigDecimal bucket) {
+        return formattedBuckets != null ? formattedBuckets.get(bucket) : null;
+    }
+
+    private boolean isSameAs(Integer precision, List<ExtGranularityRange> ranges) {
+        if (!Objects.equals(this.precision, precision) || ranges == null || this.ranges.size() != ranges.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < ranges.size(); i++) {
+            final ExtGranularityRange range = this.ranges.get(i);
+            final ExtGranularityRange otherRange = ranges.get(i);
+            if (otherRange == null
+                    || !isSameValue(range.getMax(), otherRange.getMax())
+                    || !isSameValue(range.getIncrement(), otherRange.getIncrement())) {
+
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameValue(BigDecimal value, BigDecimal otherValue) {
+        return otherValue != null && value.compareTo(otherValue) == 0;
+    }
+
     /**
      * Creates {@link PriceGranularity} for string representation and puts it to
      * {@link EnumMap<PriceGranularityType, PriceGranularity>}.
@@ -107,8 +151,36 @@ public class PriceGranularity {
                                                   Integer precision,
                                                   ExtGranularityRange... ranges) {
 
-        STRING_TO_CUSTOM_PRICE_GRANULARITY.put(type,
-                PriceGranularity.createFromRanges(precision, Arrays.asList(ranges)));
+        final PriceGranularity priceGranularity = PriceGranularity.createFromRanges(precision, List.of(ranges));
+        priceGranularity.formattedBuckets = formatBuckets(priceGranularity);
+
+        STRING_TO_CUSTOM_PRICE_GRANULARITY.put(type, priceGranularity);
+    }
+
+    /**
+     * Formats all the values {@link CpmRange} can round price to with the given {@link PriceGranularity}
+     * regardless of rounding mode.
+     */
+    private static Map<BigDecimal, String> formatBuckets(PriceGranularity priceGranularity) {
+        final Map<BigDecimal, String> formattedBuckets = new HashMap<>();
+
+        BigDecimal min = BigDecimal.ZERO;
+        for (ExtGranularityRange range : priceGranularity.ranges) {
+            final BigDecimal increment = range.getIncrement();
+            final int bucketsNumber = range.getMax().subtract(min).divide(increment, 0, RoundingMode.CEILING)
+                    .intValueExact();
+
+            // the same arithmetic as CpmRange uses, so the values are equal including the scale
+            for (int i = 0; i <= bucketsNumber; i++) {
+                final BigDecimal bucket = BigDecimal.valueOf(i).multiply(increment).add(min);
+                formattedBuckets.put(bucket, CpmRange.format(bucket, priceGranularity.precision));
+            }
+            min = range.getMax();
+        }
+        formattedBuckets.put(
+                priceGranularity.rangesMax, CpmRange.format(priceGranularity.rangesMax, priceGranularity.precision));
+
+        return Collections.unmodifiableMap(formattedBuckets);
     }
 
     /**
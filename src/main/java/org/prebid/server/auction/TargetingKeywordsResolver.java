@@ -5,6 +5,7 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.model.ImpIdIndex;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
@@ -147,9 +148,7 @@ public class TargetingKeywordsResolver {
             return null;
         }
 
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), impid))
-                .findFirst()
+        return ImpIdIndex.of(bidRequest).find(impid)
                 .<JsonNode>map(imp -> mapper.mapper().valueToTree(imp))
                 .orElse(null);
     }
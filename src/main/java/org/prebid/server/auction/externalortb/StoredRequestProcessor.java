@@ -1,6 +1,8 @@
 package org.prebid.server.auction.externalortb;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -28,10 +30,12 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,9 +49,10 @@ import java.util.stream.Collectors;
 public class StoredRequestProcessor {
 
     private static final String OVERRIDE_BID_REQUEST_ID_TEMPLATE = "{{UUID}}";
+    private static final String IMP_FIELD = "imp";
 
     private final long defaultTimeout;
-    private final BidRequest defaultBidRequest;
+    private final JsonNode defaultBidRequestNode;
     private final boolean generateBidRequestId;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
@@ -68,7 +73,7 @@ public class StoredRequestProcessor {
                                   JsonMerger jsonMerger) {
 
         this.defaultTimeout = defaultTimeout;
-        this.defaultBidRequest = readBidRequest(
+        this.defaultBidRequestNode = readBidRequestNode(
                 defaultBidRequestPath, Objects.requireNonNull(fileSystem), Objects.requireNonNull(mapper));
         this.generateBidRequestId = generateBidRequestId;
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
@@ -183,12 +188,13 @@ public class StoredRequestProcessor {
                 id -> metrics.updateStoredImpsMetric(storedDataResult.getStoredIdToImp().containsKey(id)));
     }
 
-    private static BidRequest readBidRequest(String defaultBidRequestPath,
-                                             FileSystem fileSystem,
-                                             JacksonMapper mapper) {
+    private static JsonNode readBidRequestNode(String defaultBidRequestPath,
+                                               FileSystem fileSystem,
+                                               JacksonMapper mapper) {
 
         return StringUtils.isNotBlank(defaultBidRequestPath)
-                ? mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class)
+                ? mapper.mapper().valueToTree(
+                mapper.decodeValue(fileSystem.readFileBlocking(defaultBidRequestPath), BidRequest.class))
                 : null;
     }
 
@@ -249,59 +255,114 @@ public class StoredRequestProcessor {
      * Runs {@link BidRequest} and {@link Imp}s merge processes.
      * <p>
      * The merging priority is: original request > stored request > default request
+     * <p>
+     * All the merges are made on the single json tree of the request, which is bound to {@link BidRequest} once
+     * at the end.
      */
     private BidRequest mergeBidRequestAndImps(BidRequest bidRequest,
                                               String storedRequestId,
                                               Map<Imp, String> impToStoredId,
                                               StoredDataResult<String> storedDataResult) {
 
-        final BidRequest mergedWithStoredRequest = mergeBidRequest(bidRequest, storedRequestId, storedDataResult);
+        final JsonNode bidRequestNode = mapper.mapper().valueToTree(bidRequest);
+
+        final JsonNode mergedWithStoredRequest = mergeBidRequest(bidRequestNode, storedRequestId, storedDataResult);
+
+        final JsonNode mergedWithDefaultRequest = mergeDefaultRequest(mergedWithStoredRequest);
 
-        final BidRequest mergedWithDefaultRequest = mergeDefaultRequest(mergedWithStoredRequest);
+        final JsonNode mergedWithImps = mergeImps(
+                mergedWithDefaultRequest, bidRequest.getImp(), impToStoredId, storedDataResult);
 
-        return mergeImps(mergedWithDefaultRequest, impToStoredId, storedDataResult);
+        return toBidRequest(mergedWithImps, storedRequestId, impToStoredId.values());
     }
 
-    private BidRequest mergeDefaultRequest(BidRequest bidRequest) {
-        return jsonMerger.merge(bidRequest, defaultBidRequest, BidRequest.class);
+    /**
+     * Merges request with default request. Explicit nulls which might come from stored request are dropped first,
+     * otherwise merge patch would treat them as removal of the corresponding default request fields.
+     */
+    private JsonNode mergeDefaultRequest(JsonNode bidRequestNode) {
+        return defaultBidRequestNode != null
+                ? jsonMerger.merge(removeNullMembers(bidRequestNode), defaultBidRequestNode)
+                : bidRequestNode;
+    }
+
+    /**
+     * Removes null members of passed node and all its descendants in place. Passed node must not be shared: it is
+     * either a result of merge patch or a freshly created tree.
+     */
+    private static JsonNode removeNullMembers(JsonNode node) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final JsonNode value = fields.next().getValue();
+                if (value.isNull()) {
+                    fields.remove();
+                } else {
+                    removeNullMembers(value);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(StoredRequestProcessor::removeNullMembers);
+        }
+
+        return node;
     }
 
     /**
      * Merges original request with request from stored request source. Values from original request
      * has higher priority than stored request values.
      */
-    private BidRequest mergeBidRequest(BidRequest originalRequest,
-                                       String storedRequestId,
-                                       StoredDataResult<String> storedDataResult) {
+    private JsonNode mergeBidRequest(JsonNode originalRequestNode,
+                                     String storedRequestId,
+                                     StoredDataResult<String> storedDataResult) {
 
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
         return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+                ? jsonMerger.merge(originalRequestNode, storedRequest, storedRequestId)
+                : originalRequestNode;
     }
 
     /**
      * Merges {@link Imp}s from original request with Imps from stored request source. Values from original request
      * has higher priority than stored request values.
+     * <p>
+     * Imps of the original request always replace the imps of stored and default requests, so imps of the merged
+     * request node are at the same positions as the original ones.
      */
-    private BidRequest mergeImps(BidRequest bidRequest,
-                                 Map<Imp, String> impToStoredId,
-                                 StoredDataResult<String> storedDataResult) {
-
-        if (impToStoredId.isEmpty()) {
-            return bidRequest;
+    private JsonNode mergeImps(JsonNode bidRequestNode,
+                               List<Imp> originalImps,
+                               Map<Imp, String> impToStoredId,
+                               StoredDataResult<String> storedDataResult) {
+
+        final JsonNode impsNode = bidRequestNode.get(IMP_FIELD);
+        if (impToStoredId.isEmpty() || impsNode == null || !impsNode.isArray()) {
+            return bidRequestNode;
         }
-        final List<Imp> mergedImps = new ArrayList<>(bidRequest.getImp());
-        for (int i = 0; i < mergedImps.size(); i++) {
-            final Imp imp = mergedImps.get(i);
-            final String storedRequestId = impToStoredId.get(imp);
+
+        final ArrayNode mergedImps = (ArrayNode) impsNode;
+        for (int i = 0; i < originalImps.size() && i < mergedImps.size(); i++) {
+            final String storedRequestId = impToStoredId.get(originalImps.get(i));
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
-                mergedImps.set(i, mergedImp);
+                mergedImps.set(i, jsonMerger.merge(mergedImps.get(i), storedImp, storedRequestId));
             }
         }
-        return bidRequest.toBuilder().imp(mergedImps).build();
+        return bidRequestNode;
+    }
+
+    private BidRequest toBidRequest(JsonNode bidRequestNode, String storedRequestId, Collection<String> storedImpIds) {
+        try {
+            return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
+        } catch (JsonProcessingException e) {
+            final Set<String> storedIds = new LinkedHashSet<>();
+            if (StringUtils.isNotBlank(storedRequestId)) {
+                storedIds.add(storedRequestId);
+            }
+            storedIds.addAll(storedImpIds);
+
+            throw new InvalidRequestException("Can't convert merging result for id %s: %s"
+                    .formatted(String.join(", ", storedIds), e.getMessage()));
+        }
     }
 
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
@@ -71,6 +71,10 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    public ImpIdIndex impIdIndex() {
+        return ImpIdIndex.of(bidRequest);
+    }
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -22,6 +22,10 @@ public class BidderRequest {
 
     Map<String, Price> originalPriceFloors;
 
+    public ImpIdIndex impIdIndex() {
+        return ImpIdIndex.of(bidRequest);
+    }
+
     public BidderRequest with(BidRequest bidRequest) {
         return toBuilder().bidRequest(bidRequest).build();
     }
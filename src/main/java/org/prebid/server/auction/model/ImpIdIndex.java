@@ -0,0 +1,65 @@
+package org.prebid.server.auction.model;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable index of the {@link Imp}s of the {@link BidRequest} by their ids.
+ * <p>
+ * Index is built once per request instance and shared by everything processing bids of that request,
+ * so finding the imp of each bid costs a map lookup instead of scanning all the imps of the request.
+ * If several imps have the same id, the first one is indexed.
+ */
+public final class ImpIdIndex {
+
+    private static final ImpIdIndex EMPTY = new ImpIdIndex(Collections.emptyMap());
+
+    // requests are compared by identity and are not held by the index, so entries go away together with requests
+    private static final Map<BidRequest, ImpIdIndex> REQUEST_INDEXES = Caffeine.newBuilder()
+            .weakKeys()
+            .<BidRequest, ImpIdIndex>build()
+            .asMap();
+
+    private final Map<String, Imp> impIdToImp;
+
+    private ImpIdIndex(Map<String, Imp> impIdToImp) {
+        this.impIdToImp = impIdToImp;
+    }
+
+    public static ImpIdIndex of(BidRequest bidRequest) {
+        if (bidRequest == null || CollectionUtils.isEmpty(bidRequest.getImp())) {
+            return EMPTY;
+        }
+
+        return REQUEST_INDEXES.computeIfAbsent(bidRequest, request -> of(request.getImp()));
+    }
+
+    public static ImpIdIndex of(List<Imp> imps) {
+        if (CollectionUtils.isEmpty(imps)) {
+            return EMPTY;
+        }
+
+        final Map<String, Imp> impIdToImp = new HashMap<>(imps.size() * 2);
+        for (Imp imp : imps) {
+            impIdToImp.putIfAbsent(imp.getId(), imp);
+        }
+
+        return new ImpIdIndex(Collections.unmodifiableMap(impIdToImp));
+    }
+
+    public Imp get(String impId) {
+        return impIdToImp.get(impId);
+    }
+
+    public Optional<Imp> find(String impId) {
+        return Optional.ofNullable(get(impId));
+    }
+}
@@ -11,6 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.ImpMediaTypeResolver;
 import org.prebid.server.auction.model.AuctionParticipation;
 import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.ImpIdIndex;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
@@ -94,7 +95,7 @@ public class BidAdjustmentsProcessor {
 
             final ImpMediaType mediaType = ImpMediaTypeResolver.resolve(
                     bidderBid.getBid().getImpid(),
-                    bidRequest.getImp(),
+                    ImpIdIndex.of(bidRequest),
                     bidderBid.getType());
 
             final Price priceWithFactorsApplied = applyBidAdjustmentFactors(
@@ -6,6 +6,7 @@ import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.CompositeBidderResponse;
 import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 
 import java.util.Collections;
@@ -56,6 +57,14 @@ public interface Bidder<T> {
         return Collections.emptyMap();
     }
 
+    /**
+     * Tells if bidder is able to exchange bids with its endpoint in protobuf wire format: its requests carry
+     * {@link BidRequest} payload and it makes bids from {@link HttpResponse#getBidResponse()} when it is present.
+     */
+    default boolean isProtobufWireFormatSupported() {
+        return false;
+    }
+
     /**
      * This method is much the same as {@link #makeHttpRequests}, except it is fed the bidder request
      * that timed out, and expects that only one notification "request" will be generated. A use case for multiple
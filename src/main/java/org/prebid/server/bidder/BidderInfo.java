@@ -6,6 +6,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.List;
 
@@ -38,6 +39,8 @@ public class BidderInfo {
 
     CompressionType compressionType;
 
+    WireFormat wireFormat;
+
     Ortb ortb;
 
     long tmaxDeductionMs;
@@ -57,6 +60,7 @@ public class BidderInfo {
                                     boolean ccpaEnforced,
                                     boolean modifyingVastXmlAllowed,
                                     CompressionType compressionType,
+                                    WireFormat wireFormat,
                                     org.prebid.server.spring.config.bidder.model.Ortb ortb,
                                     long tmaxDeductionMs) {
 
@@ -77,6 +81,7 @@ public class BidderInfo {
                 ccpaEnforced,
                 modifyingVastXmlAllowed,
                 compressionType,
+                wireFormat,
                 Ortb.of(ortb.getMultiFormatSupported()),
                 tmaxDeductionMs);
     }
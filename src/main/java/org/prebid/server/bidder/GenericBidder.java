@@ -4,14 +4,17 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderCall;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 import org.prebid.server.util.BidderUtil;
 import org.prebid.server.util.HttpUtil;
 
@@ -26,28 +29,57 @@ import java.util.stream.Collectors;
 public class GenericBidder implements Bidder<BidRequest> {
 
     private final String endpointUrl;
+    private final WireFormat wireFormat;
     private final JacksonMapper mapper;
 
-    public GenericBidder(String endpointUrl, JacksonMapper mapper) {
+    public GenericBidder(String endpointUrl, WireFormat wireFormat, JacksonMapper mapper) {
         this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+        this.wireFormat = Objects.requireNonNull(wireFormat);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
     @Override
     public final Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest bidRequest) {
-        return Result.withValue(BidderUtil.defaultRequest(bidRequest, endpointUrl, mapper));
+        return Result.withValue(wireFormat == WireFormat.PROTOBUF
+                ? protobufRequest(bidRequest)
+                : BidderUtil.defaultRequest(bidRequest, endpointUrl, mapper));
+    }
+
+    /**
+     * Creates request without body, since protobuf body is encoded from the payload right before sending.
+     */
+    private HttpRequest<BidRequest> protobufRequest(BidRequest bidRequest) {
+        return HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri(endpointUrl)
+                .headers(HttpUtil.headers())
+                .impIds(BidderUtil.impIds(bidRequest))
+                .payload(bidRequest)
+                .build();
     }
 
     @Override
     public final Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = decodeBidResponse(httpCall.getResponse());
             return Result.withValues(extractBids(httpCall.getRequest().getPayload(), bidResponse));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
         }
     }
 
+    private BidResponse decodeBidResponse(HttpResponse httpResponse) {
+        final BidResponse decodedBidResponse = httpResponse.getBidResponse();
+        return decodedBidResponse != null
+                ? decodedBidResponse
+                : mapper.decodeValue(httpResponse.getBodyBuffer(), BidResponse.class);
+    }
+
+    @Override
+    public boolean isProtobufWireFormatSupported() {
+        return true;
+    }
+
     private static List<BidderBid> extractBids(BidRequest bidRequest, BidResponse bidResponse) {
         if (bidResponse == null || CollectionUtils.isEmpty(bidResponse.getSeatbid())) {
             return Collections.emptyList();
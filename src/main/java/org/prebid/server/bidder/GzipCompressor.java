@@ -0,0 +1,73 @@
+package org.prebid.server.bidder;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip compressor of the bidder request bodies.
+ * <p>
+ * Each thread (in practice - each event loop) owns its own {@link Deflater} and output buffer which are reset and
+ * reused for every body, so compression allocates nothing but the resulting array. Produces RFC 1952 gzip with
+ * a minimal header: no file name, modification time or extra fields.
+ */
+final class GzipCompressor {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final int TRAILER_SIZE = 8;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    // buffers grown by occasional huge bodies are not kept to not hold the memory forever
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<GzipCompressor> COMPRESSORS = ThreadLocal.withInitial(GzipCompressor::new);
+
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc = new CRC32();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    private GzipCompressor() {
+    }
+
+    static byte[] gzip(byte[] value) {
+        return COMPRESSORS.get().compress(value);
+    }
+
+    private byte[] compress(byte[] value) {
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            crc.update(value);
+
+            System.arraycopy(HEADER, 0, buffer, 0, HEADER.length);
+            int length = HEADER.length;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            if (length + TRAILER_SIZE > buffer.length) {
+                buffer = Arrays.copyOf(buffer, length + TRAILER_SIZE);
+            }
+            writeIntLittleEndian((int) crc.getValue(), length);
+            writeIntLittleEndian(value.length, length + 4);
+
+            return Arrays.copyOf(buffer, length + TRAILER_SIZE);
+        } finally {
+            deflater.reset();
+            crc.reset();
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+
+    private void writeIntLittleEndian(int value, int offset) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -13,6 +13,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 
@@ -54,6 +55,7 @@ public class HttpBidderRequestEnricher {
         addOriginalRequestHeaders(bidderRequestHeadersCopy, originalRequestHeaders);
         addXPrebidHeader(bidderRequestHeadersCopy, bidRequest);
         addContentEncodingHeader(bidderRequestHeadersCopy, resolveCompressionType(bidderName, aliases));
+        addWireFormatHeaders(bidderRequestHeadersCopy, resolveWireFormat(bidderName, aliases));
 
         return bidderRequestHeadersCopy;
     }
@@ -117,4 +119,17 @@ public class HttpBidderRequestEnricher {
                 .map(BidderInfo::getCompressionType)
                 .orElse(CompressionType.NONE);
     }
+
+    private static void addWireFormatHeaders(MultiMap bidderHeaders, WireFormat wireFormat) {
+        if (wireFormat == WireFormat.PROTOBUF) {
+            bidderHeaders.set(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+            bidderHeaders.set(HttpUtil.ACCEPT_HEADER, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+        }
+    }
+
+    private WireFormat resolveWireFormat(String bidderName, BidderAliases aliases) {
+        return Optional.ofNullable(bidderCatalog.bidderInfoByName(aliases.resolveBidder(bidderName)))
+                .map(BidderInfo::getWireFormat)
+                .orElse(WireFormat.JSON);
+    }
 }
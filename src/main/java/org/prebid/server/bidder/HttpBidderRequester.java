@@ -1,11 +1,15 @@
 package org.prebid.server.bidder;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.response.BidResponse;
+import com.iabtechlab.openrtb.v2.OpenRtb;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.aliases.BidderAliases;
@@ -28,16 +32,20 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.protobuf.ProtobufMapper;
+import org.prebid.server.protobuf.request.ProtobufRequestUtils;
+import org.prebid.server.protobuf.request.RequestExtensionMappersSpecification;
+import org.prebid.server.protobuf.response.ProtobufResponseUtils;
+import org.prebid.server.protobuf.response.ResponseExtensionMappersSpecification;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,7 +57,6 @@ import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Implements HTTP communication functionality common for {@link Bidder}'s.
@@ -70,13 +77,18 @@ public class HttpBidderRequester {
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
     private final JacksonMapper mapper;
+    private final Metrics metrics;
     private final double logSamplingRate;
 
+    private final ProtobufMapper<BidRequest, OpenRtb.BidRequest> protobufBidRequestMapper;
+    private final ProtobufMapper<OpenRtb.BidResponse, BidResponse> protobufBidResponseMapper;
+
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
                                JacksonMapper mapper,
+                               Metrics metrics,
                                double logSamplingRate) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
@@ -84,7 +96,13 @@ public class HttpBidderRequester {
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
         this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
         this.logSamplingRate = logSamplingRate;
+
+        protobufBidRequestMapper = ProtobufRequestUtils.bidRequestMapper(
+                RequestExtensionMappersSpecification.builder(mapper.mapper()).build());
+        protobufBidResponseMapper = ProtobufResponseUtils.bidResponseMapper(
+                ResponseExtensionMappersSpecification.builder(mapper.mapper()).build());
     }
 
     /**
@@ -117,7 +135,7 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, httpRequest, timeout));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -199,20 +217,28 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName, HttpRequest<T> httpRequest, Timeout timeout) {
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        return createRequest(bidderName, httpRequest, remainingTimeout)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(String bidderName,
+                                                         HttpRequest<T> httpRequest,
+                                                         long remainingTimeout) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
-        final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
+        final byte[] preparedBody;
+        try {
+            preparedBody = compressIfRequired(bidderName, encodeBody(httpRequest), requestHeaders);
+        } catch (PreBidException e) {
+            return Future.failedFuture(e);
+        }
 
         return httpClient.request(
                 httpRequest.getMethod(),
@@ -222,25 +248,50 @@ public class HttpBidderRequester {
                 remainingTimeout);
     }
 
-    private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
-        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
-        return Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
-                ? gzip(body)
-                : body;
+    /**
+     * Returns body to send to the bidder: request made by bidder as is, or {@link BidRequest} payload encoded to
+     * protobuf if bidder exchanges bids in protobuf wire format.
+     */
+    private <T> byte[] encodeBody(HttpRequest<T> httpRequest) {
+        if (!isProtobuf(httpRequest.getHeaders().get(HttpUtil.CONTENT_TYPE_HEADER))) {
+            return httpRequest.getBody();
+        }
+
+        if (!(httpRequest.getPayload() instanceof BidRequest bidRequest)) {
+            throw new PreBidException("Protobuf wire format is supported only for OpenRTB bid request");
+        }
+
+        try {
+            return protobufBidRequestMapper.map(bidRequest).toByteArray();
+        } catch (RuntimeException e) {
+            throw new PreBidException("Failed to encode request to protobuf: " + e.getMessage());
+        }
     }
 
-    private static byte[] gzip(byte[] value) {
-        try (
-                ByteArrayOutputStream obj = new ByteArrayOutputStream();
-                GZIPOutputStream gzip = new GZIPOutputStream(obj)) {
+    private static boolean isProtobuf(String contentType) {
+        return StringUtils.startsWithIgnoreCase(contentType, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+    }
 
-            gzip.write(value);
-            gzip.finish();
+    private byte[] compressIfRequired(String bidderName, byte[] body, MultiMap headers) {
+        final String contentEncodingHeader = headers.get(HttpUtil.CONTENT_ENCODING_HEADER);
+        return body != null && Objects.equals(contentEncodingHeader, HttpHeaderValues.GZIP.toString())
+                ? gzip(bidderName, body)
+                : body;
+    }
 
-            return obj.toByteArray();
-        } catch (IOException e) {
+    private byte[] gzip(String bidderName, byte[] body) {
+        final long startTime = System.nanoTime();
+        final byte[] compressedBody;
+        try {
+            compressedBody = GzipCompressor.gzip(body);
+        } catch (RuntimeException e) {
             throw new PreBidException("Failed to compress request : " + e.getMessage());
         }
+
+        metrics.updateAdapterRequestCompressionMetrics(
+                bidderName, System.nanoTime() - startTime, body.length - compressedBody.length);
+
+        return compressedBody;
     }
 
     /**
@@ -265,12 +316,34 @@ public class HttpBidderRequester {
      * Produces {@link Future} with {@link BidderCall} containing request, response and possible error description
      * (if status code indicates an error).
      */
-    private static <T> Future<BidderCall<T>> processResponse(HttpClientResponse response,
-                                                             HttpRequest<T> httpRequest) {
-
+    private <T> Future<BidderCall<T>> processResponse(HttpClientResponse response, HttpRequest<T> httpRequest) {
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
-        return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
+        final MultiMap headers = response.getHeaders();
+        final Buffer body = response.getBodyBuffer();
+
+        if (statusCode != HttpResponseStatus.OK.code() || !isProtobuf(headers.get(HttpUtil.CONTENT_TYPE_HEADER))) {
+            final HttpResponse httpResponse = HttpResponse.ofBuffer(statusCode, headers, body);
+            return Future.succeededFuture(
+                    BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
+        }
+
+        try {
+            final HttpResponse httpResponse = HttpResponse.ofBidResponse(
+                    statusCode, headers, body, decodeProtobufBidResponse(body));
+            return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, null));
+        } catch (InvalidProtocolBufferException | RuntimeException e) {
+            final HttpResponse httpResponse = HttpResponse.ofBuffer(statusCode, headers, body);
+            return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse,
+                    BidderError.badServerResponse("Failed to decode protobuf response: " + e.getMessage())));
+        }
+    }
+
+    private BidResponse decodeProtobufBidResponse(Buffer body) throws InvalidProtocolBufferException {
+        final OpenRtb.BidResponse bidResponse = body != null
+                ? OpenRtb.BidResponse.parseFrom(body.getByteBuf().nioBuffer())
+                : OpenRtb.BidResponse.getDefaultInstance();
+
+        return protobufBidResponseMapper.map(bidResponse);
     }
 
     /**
@@ -473,7 +546,9 @@ public class HttpBidderRequester {
 
             final HttpResponse response = httpCall.getResponse();
             if (response != null) {
-                builder.responsebody(response.getBody());
+                builder.responsebody(response.getBidResponse() != null
+                        ? mapper.encodeToString(response.getBidResponse())
+                        : response.getBody());
                 builder.status(response.getStatusCode());
             }
 
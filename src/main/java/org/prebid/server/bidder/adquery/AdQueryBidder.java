@@ -162,7 +162,7 @@ public class AdQueryBidder implements Bidder<AdQueryRequest> {
     public final Result<List<BidderBid>> makeBids(BidderCall<AdQueryRequest> httpCall, BidRequest bidRequest) {
         try {
             final AdQueryResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), AdQueryResponse.class);
+                    httpCall.getResponse().getBodyBuffer(), AdQueryResponse.class);
             return Result.withValues(extractBids(bidResponse, bidRequest.getId()));
         } catch (DecodeException | PreBidException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
@@ -54,7 +54,7 @@ public class CriteoBidder implements Bidder<BidRequest> {
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final CriteoBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), CriteoBidResponse.class);
+                    httpCall.getResponse().getBodyBuffer(), CriteoBidResponse.class);
 
             return CompositeBidderResponse.builder()
                     .bids(extractBids(bidResponse))
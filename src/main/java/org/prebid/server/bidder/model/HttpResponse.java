@@ -1,17 +1,107 @@
 package org.prebid.server.bidder.model;
 
+import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.model.ResponseBody;
+
+import java.util.Objects;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body is kept as raw bytes, so bidders are able to decode it directly with
+ * {@link org.prebid.server.json.JacksonMapper#decodeValue(Buffer, Class)}. The {@link String} view is built
+ * lazily, only when somebody asks for it (e.g. debug info).
+ * <p>
+ * Responses received in protobuf wire format are decoded by the transport, so they also carry
+ * the {@link BidResponse} bidders can use instead of parsing the body.
  */
-@Value(staticConstructor = "of")
-public class HttpResponse {
+public final class HttpResponse {
+
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final ResponseBody body;
+
+    private final BidResponse bidResponse;
+
+    private HttpResponse(int statusCode, MultiMap headers, ResponseBody body, BidResponse bidResponse) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.bidResponse = bidResponse;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, ResponseBody.of(body), null);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpResponse(statusCode, headers, ResponseBody.ofBuffer(bodyBuffer), null);
+    }
+
+    public static HttpResponse ofBidResponse(int statusCode,
+                                             MultiMap headers,
+                                             Buffer bodyBuffer,
+                                             BidResponse bidResponse) {
+
+        return new HttpResponse(statusCode, headers, ResponseBody.ofBuffer(bodyBuffer), bidResponse);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns body as it was received, see {@link ResponseBody#asBuffer()}.
+     */
+    public Buffer getBodyBuffer() {
+        return body.asBuffer();
+    }
+
+    /**
+     * Returns body as string, see {@link ResponseBody#asString()}.
+     */
+    public String getBody() {
+        return body.asString();
+    }
+
+    /**
+     * Returns {@link BidResponse} already decoded from the body (e.g. from protobuf), or null if the body should be
+     * decoded by bidder.
+     */
+    public BidResponse getBidResponse() {
+        return bidResponse;
+    }
 
-    int statusCode;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpResponse that = (HttpResponse) o;
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(body, that.body)
+                && Objects.equals(bidResponse, that.bidResponse);
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, body, bidResponse);
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
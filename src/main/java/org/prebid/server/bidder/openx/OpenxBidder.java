@@ -93,7 +93,7 @@ public class OpenxBidder implements Bidder<BidRequest> {
     public CompositeBidderResponse makeBidderResponse(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
             final OpenxBidResponse bidResponse = mapper.decodeValue(
-                    httpCall.getResponse().getBody(), OpenxBidResponse.class);
+                    httpCall.getResponse().getBodyBuffer(), OpenxBidResponse.class);
 
             return CompositeBidderResponse.builder()
                     .bids(extractBids(bidRequest, bidResponse))
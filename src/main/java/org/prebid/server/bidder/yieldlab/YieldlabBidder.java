@@ -411,7 +411,7 @@ public class YieldlabBidder implements Bidder<Void> {
         final List<BidderError> errors = new ArrayList<>();
         try {
             final List<YieldlabBid> yieldlabBids = mapper.decodeValue(
-                    httpCall.getResponse().getBody(),
+                    httpCall.getResponse().getBodyBuffer(),
                     YIELDLAB_BID_TYPE_REFERENCE);
             return Result.of(extractBids(bidRequest, yieldlabBids, errors), errors);
         } catch (DecodeException | PreBidException e) {
@@ -0,0 +1,231 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.CacheBatchRejectedException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces cache objects of concurrent auctions into a single cache request.
+ * <p>
+ * Each event loop context collects its own batch, so auctions are batched only with auctions of the same event loop
+ * and the batch is sent and completed on its thread. Batch is sent once the window passes since its first auction or
+ * once it reaches the max number of objects, whatever happens first. Objects of an auction are never split between
+ * batches, so auction which does not fit into the current batch sends it and starts the next one. Cache request timeout
+ * is the largest remaining timeout of the batched auctions, while each auction is failed on its own deadline, so an
+ * auction close to its deadline does not cut the time of the others. Auctions which are already timed out by then are
+ * failed without being sent.
+ * <p>
+ * If Cache Service rejects the batch, objects of each batched auction are sent once again in a separate request, so
+ * an auction with invalid objects does not fail the others. Any other failure fails all the batched auctions.
+ * <p>
+ * Calls made outside of the event loop thread are sent right away.
+ */
+public class CacheRequestBatcher {
+
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxObjects;
+    private final BatchSender sender;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public CacheRequestBatcher(Vertx vertx,
+                               long windowMs,
+                               int maxObjects,
+                               BatchSender sender,
+                               Metrics metrics,
+                               Clock clock) {
+
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Batch window must be positive");
+        }
+        if (maxObjects <= 0) {
+            throw new IllegalArgumentException("Batch max objects must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxObjects = maxObjects;
+        this.sender = Objects.requireNonNull(sender);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Returns cache response holding results of the given objects only, in the same order.
+     */
+    public Future<BidCacheResponse> put(List<BidPutObject> putObjects, Timeout timeout) {
+        final Context context = Vertx.currentContext();
+        if (context == null || !context.isEventLoopContext() || !Context.isOnEventLoopThread()) {
+            return send(putObjects, timeout.remaining());
+        }
+
+        Batch batch = context.get(this);
+        if (batch != null && batch.objects + putObjects.size() > maxObjects) {
+            vertx.cancelTimer(batch.timerId);
+            flush(context, batch);
+            batch = null;
+        }
+
+        if (batch == null) {
+            batch = new Batch(clock.millis());
+            context.put(this, batch);
+
+            final Batch newBatch = batch;
+            batch.timerId = vertx.setTimer(windowMs, ignored -> flush(context, newBatch));
+        }
+
+        final Promise<BidCacheResponse> promise = Promise.promise();
+        batch.add(Entry.of(putObjects, timeout, promise));
+
+        if (batch.objects >= maxObjects) {
+            vertx.cancelTimer(batch.timerId);
+            flush(context, batch);
+        }
+
+        return promise.future();
+    }
+
+    private void flush(Context context, Batch batch) {
+        context.remove(this);
+
+        final List<Entry> entries = new ArrayList<>(batch.entries.size());
+        final List<BidPutObject> putObjects = new ArrayList<>(batch.objects);
+        long timeoutMs = 0;
+
+        for (Entry entry : batch.entries) {
+            final long remainingTimeout = entry.getTimeout().remaining();
+            if (remainingTimeout <= 0) {
+                entry.getPromise().fail(new TimeoutException("Timeout has been exceeded"));
+                continue;
+            }
+
+            timeoutMs = Math.max(timeoutMs, remainingTimeout);
+            entries.add(entry);
+            putObjects.addAll(entry.getPutObjects());
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        for (Entry entry : entries) {
+            final long remainingTimeout = entry.getTimeout().remaining();
+            if (remainingTimeout < timeoutMs) {
+                failOnDeadline(entry, remainingTimeout);
+            }
+        }
+
+        metrics.updateCacheBatchMetrics(entries.size(), putObjects.size(), clock.millis() - batch.startTime);
+
+        send(putObjects, timeoutMs).onComplete(result -> complete(entries, result));
+    }
+
+    private void failOnDeadline(Entry entry, long remainingTimeout) {
+        final Promise<BidCacheResponse> promise = entry.getPromise();
+        final long timerId = vertx.setTimer(Math.max(remainingTimeout, 1L),
+                ignored -> promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+        promise.future().onComplete(ignored -> vertx.cancelTimer(timerId));
+    }
+
+    private Future<BidCacheResponse> send(List<BidPutObject> putObjects, long timeoutMs) {
+        try {
+            return sender.send(putObjects, timeoutMs);
+        } catch (RuntimeException e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private void complete(List<Entry> entries, AsyncResult<BidCacheResponse> result) {
+        if (result.failed()) {
+            final Throwable cause = result.cause();
+            if (entries.size() > 1 && cause instanceof CacheBatchRejectedException) {
+                entries.forEach(this::sendSeparately);
+            } else {
+                entries.forEach(entry -> entry.getPromise().tryFail(cause));
+            }
+            return;
+        }
+
+        final List<CacheObject> responses = result.result().getResponses();
+        int offset = 0;
+        for (Entry entry : entries) {
+            final int size = entry.getPutObjects().size();
+            entry.getPromise().tryComplete(BidCacheResponse.of(responses.subList(offset, offset + size)));
+            offset += size;
+        }
+    }
+
+    private void sendSeparately(Entry entry) {
+        final Promise<BidCacheResponse> promise = entry.getPromise();
+        if (promise.future().isComplete()) {
+            return;
+        }
+
+        final long remainingTimeout = entry.getTimeout().remaining();
+        if (remainingTimeout <= 0) {
+            promise.tryFail(new TimeoutException("Timeout has been exceeded"));
+            return;
+        }
+
+        send(entry.getPutObjects(), remainingTimeout).onComplete(result -> {
+            if (result.succeeded()) {
+                promise.tryComplete(result.result());
+            } else {
+                promise.tryFail(result.cause());
+            }
+        });
+    }
+
+    /**
+     * Sends cache request with the given objects, response is expected to hold a result for each of them.
+     */
+    @FunctionalInterface
+    public interface BatchSender {
+
+        Future<BidCacheResponse> send(List<BidPutObject> putObjects, long timeoutMs);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Entry {
+
+        List<BidPutObject> putObjects;
+
+        Timeout timeout;
+
+        Promise<BidCacheResponse> promise;
+    }
+
+    private static final class Batch {
+
+        private final long startTime;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private int objects;
+        private long timerId;
+
+        private Batch(long startTime) {
+            this.startTime = startTime;
+        }
+
+        private void add(Entry entry) {
+            entries.add(entry);
+            objects += entry.getPutObjects().size();
+        }
+    }
+}
@@ -6,12 +6,14 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
+import org.prebid.server.cache.model.CacheBatching;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -27,6 +29,7 @@ import org.prebid.server.cache.proto.response.bid.CacheObject;
 import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.exception.CacheBatchRejectedException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.identity.UUIDIdGenerator;
@@ -85,6 +88,8 @@ public class CoreCacheService {
     private final boolean appendTraceInfoToCacheId;
     private final String datacenterRegion;
 
+    private final CacheRequestBatcher cacheRequestBatcher;
+
     public CoreCacheService(
             HttpClient httpClient,
             URL externalEndpointUrl,
@@ -100,7 +105,9 @@ public class CoreCacheService {
             Metrics metrics,
             Clock clock,
             UUIDIdGenerator idGenerator,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Vertx vertx,
+            CacheBatching cacheBatching) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.externalEndpointUrl = Objects.requireNonNull(externalEndpointUrl);
@@ -121,6 +128,18 @@ public class CoreCacheService {
 
         this.appendTraceInfoToCacheId = appendTraceInfoToCacheId;
         this.datacenterRegion = normalizeDatacenterRegion(datacenterRegion);
+
+        cacheRequestBatcher = cacheBatching != null ? createCacheRequestBatcher(vertx, cacheBatching) : null;
+    }
+
+    private CacheRequestBatcher createCacheRequestBatcher(Vertx vertx, CacheBatching cacheBatching) {
+        return new CacheRequestBatcher(
+                vertx,
+                cacheBatching.getWindowMs(),
+                cacheBatching.getMaxObjects(),
+                this::sendBatch,
+                metrics,
+                clock);
     }
 
     public String getEndpointHost() {
@@ -301,7 +320,8 @@ public class CoreCacheService {
             cachedCreatives.add(makeDebugCacheCreative(cachedDebugLog, hbCacheId, videoCacheTtl));
         }
 
-        final long remainingTimeout = auctionContext.getTimeoutContext().getTimeout().remaining();
+        final Timeout timeout = auctionContext.getTimeoutContext().getTimeout();
+        final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return Future.succeededFuture(CacheServiceResult.of(null, new TimeoutException("Timeout has been exceeded"),
                     Collections.emptyMap()));
@@ -311,6 +331,11 @@ public class CoreCacheService {
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
+        // debug http call of batched request would expose creatives of other auctions, so debug auctions go alone
+        if (cacheRequestBatcher != null && !auctionContext.getDebugContext().isDebugEnabled()) {
+            return doCacheOpenrtbBatched(bidCacheRequest.getPuts(), bids, videoBids, hbCacheId, accountId, timeout);
+        }
+
         final String url = ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString();
         final String body = mapper.encodeToString(bidCacheRequest);
         final CacheHttpRequest httpRequest = CacheHttpRequest.of(externalEndpointUrl.toString(), body);
@@ -328,6 +353,50 @@ public class CoreCacheService {
                 .otherwise(exception -> failResponseOpenrtb(exception, accountId, httpRequest, startTime));
     }
 
+    private Future<CacheServiceResult> doCacheOpenrtbBatched(List<BidPutObject> putObjects,
+                                                             List<CacheBid> bids,
+                                                             List<CacheBid> videoBids,
+                                                             String hbCacheId,
+                                                             String accountId,
+                                                             Timeout timeout) {
+
+        final long startTime = clock.millis();
+        return cacheRequestBatcher.put(putObjects, timeout)
+                .map(bidCacheResponse -> {
+                    metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+
+                    final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+                    return CacheServiceResult.of(null, null, toResultMap(bids, videoBids, uuids, hbCacheId));
+                })
+                .otherwise(exception -> {
+                    metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+                    return CacheServiceResult.of(null, exception, Collections.emptyMap());
+                });
+    }
+
+    private Future<BidCacheResponse> sendBatch(List<BidPutObject> putObjects, long timeoutMs) {
+        return httpClient.post(
+                        ObjectUtils.firstNonNull(internalEndpointUrl, externalEndpointUrl).toString(),
+                        cacheHeaders,
+                        mapper.encodeToString(BidCacheRequest.of(putObjects)),
+                        timeoutMs)
+                .map(response -> toBatchCacheResponse(response, putObjects.size()))
+                .onFailure(exception -> {
+                    logger.warn("Error occurred while sending batch to cache service: {}", exception.getMessage());
+                    logger.debug("Error occurred while sending batch to cache service", exception);
+                });
+    }
+
+    private BidCacheResponse toBatchCacheResponse(HttpClientResponse response, int bidCount) {
+        final int statusCode = response.getStatusCode();
+        // cache service rejects the whole request if any of its objects is invalid or there are too many of them
+        if (statusCode >= 400 && statusCode < 500) {
+            throw new CacheBatchRejectedException("HTTP status code " + statusCode);
+        }
+
+        return decodeBidCacheResponse(statusCode, response.getBody(), bidCount);
+    }
+
     private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
                                                       CacheHttpRequest httpRequest,
                                                       int bidCount,
@@ -464,6 +533,13 @@ public class CoreCacheService {
                                                 String accountId,
                                                 long startTime) {
 
+        final BidCacheResponse bidCacheResponse = decodeBidCacheResponse(statusCode, responseBody, bidCount);
+
+        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+        return bidCacheResponse;
+    }
+
+    private BidCacheResponse decodeBidCacheResponse(int statusCode, String responseBody, int bidCount) {
         if (statusCode != 200) {
             throw new PreBidException("HTTP status code " + statusCode);
         }
@@ -480,7 +556,6 @@ public class CoreCacheService {
             throw new PreBidException("The number of response cache objects doesn't match with bids");
         }
 
-        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
         return bidCacheResponse;
     }
 
@@ -0,0 +1,16 @@
+package org.prebid.server.cache.model;
+
+import lombok.Value;
+
+/**
+ * Holds the limits of batching cache requests of concurrent auctions.
+ * <p>
+ * Used for representing configuration.
+ */
+@Value(staticConstructor = "of")
+public class CacheBatching {
+
+    long windowMs;
+
+    int maxObjects;
+}
@@ -76,6 +76,24 @@ public class UidsCookie {
         return new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper);
     }
 
+    /**
+     * Performs deletion of all UIDs which are not 'live' and returns newly constructed {@link UidsCookie}
+     * to avoid mutation of the current {@link UidsCookie} object. Returns the same {@link UidsCookie} if all
+     * UIDs are 'live'.
+     */
+    public UidsCookie deleteExpiredUids() {
+        final Map<String, UidWithExpiry> uidsMap = new HashMap<>();
+        uids.getUids().forEach((familyName, uid) -> {
+            if (uid != null && uid.getUid() != null && isLive(uid)) {
+                uidsMap.put(familyName, uid);
+            }
+        });
+
+        return uidsMap.size() != uids.getUids().size()
+                ? new UidsCookie(uids.toBuilder().uids(uidsMap).build(), mapper)
+                : this;
+    }
+
     /**
      * Performs updates of UID value by family name and returns newly constructed {@link UidsCookie}
      * to avoid mutation of the current {@link UidsCookie}.
@@ -20,13 +20,13 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -42,6 +42,9 @@ public class UidsCookieService {
     private static final int MIN_NUMBER_OF_UID_COOKIES = 1;
     private static final int MAX_NUMBER_OF_UID_COOKIES = 30;
 
+    private static final Comparator<UidWithExpiry> UIDS_BY_EXPIRES = Comparator.comparing(
+            UidWithExpiry::getExpires, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     private final String optOutCookieName;
     private final String optOutCookieValue;
     private final String hostCookieFamily;
@@ -120,11 +123,10 @@ public class UidsCookieService {
      * Retrieves UIDs cookie (base64 encoded) value from cookies map and transforms it into {@link UidsCookie}.
      */
     UidsCookie parseFromCookies(Map<String, String> cookies) {
-        final Uids parsedUids = parseUids(cookies);
         final boolean isOptedOut = isOptedOut(cookies);
 
         final Uids uids = Uids.builder()
-                .uids(isOptedOut ? Collections.emptyMap() : enrichAndSanitizeUids(parsedUids, cookies))
+                .uids(isOptedOut ? Collections.emptyMap() : enrichAndSanitizeUids(parseUids(cookies), cookies))
                 .optout(isOptedOut)
                 .build();
 
@@ -147,8 +149,7 @@ public class UidsCookieService {
                 final Uids parsedUids = mapper.decodeValue(
                         Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
                 if (parsedUids != null && parsedUids.getUids() != null) {
-                    parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
-                            newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
+                    parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, UidsCookieService::latest));
                 }
             } catch (IllegalArgumentException | DecodeException e) {
                 logger.debug("Could not decode or parse {} cookie value {}", e, COOKIE_NAME, cookie.getValue());
@@ -158,6 +159,10 @@ public class UidsCookieService {
         return Uids.builder().uids(uids).build();
     }
 
+    private static UidWithExpiry latest(UidWithExpiry left, UidWithExpiry right) {
+        return UIDS_BY_EXPIRES.compare(left, right) > 0 ? left : right;
+    }
+
     /**
      * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
      * as a value.
@@ -248,7 +253,7 @@ public class UidsCookieService {
      * Removes expired {@link Uids}, updates {@link UidsCookie} with new uid for family name according to priority
      */
     public UpdateResult<UidsCookie> updateUidsCookie(UidsCookie uidsCookie, String familyName, String uid) {
-        final UidsCookie initialCookie = removeExpiredUids(uidsCookie);
+        final UidsCookie initialCookie = uidsCookie.deleteExpiredUids();
 
         // At the moment, Facebook calls /setuid with a UID of 0 if the user isn't logged into Facebook.
         // They shouldn't be sending us a sentinel value... but since they are, we're refusing to save that ID.
@@ -260,19 +265,6 @@ public class UidsCookieService {
         return UpdateResult.updated(updatedCookie);
     }
 
-    private static UidsCookie removeExpiredUids(UidsCookie uidsCookie) {
-        final Set<String> families = uidsCookie.getCookieUids().getUids().keySet();
-
-        UidsCookie updatedCookie = uidsCookie;
-        for (String family : families) {
-            updatedCookie = updatedCookie.hasLiveUidFrom(family)
-                    ? updatedCookie
-                    : updatedCookie.deleteUid(family);
-        }
-
-        return updatedCookie;
-    }
-
     public List<Cookie> splitUidsIntoCookies(UidsCookie uidsCookie) {
         final Uids cookieUids = uidsCookie.getCookieUids();
         final Map<String, UidWithExpiry> uids = cookieUids.getUids();
@@ -321,26 +313,32 @@ public class UidsCookieService {
         return splitCookies;
     }
 
+    /**
+     * Orders cookie families so that prioritized ones go first, each group ordered by expiration date.
+     * <p>
+     * Priority is resolved once per family instead of once per comparison.
+     */
     private Iterator<String> cookieFamilyNamesByDescPriorityAndExpiration(UidsCookie uidsCookie) {
-        return uidsCookie.getCookieUids().getUids().entrySet().stream()
-                .sorted(this::compareCookieFamilyNames)
-                .map(Map.Entry::getKey)
-                .iterator();
-    }
+        final Map<String, UidWithExpiry> uids = uidsCookie.getCookieUids().getUids();
+        final List<Map.Entry<String, UidWithExpiry>> prioritized = new ArrayList<>();
+        final List<Map.Entry<String, UidWithExpiry>> regular = new ArrayList<>(uids.size());
+
+        for (Map.Entry<String, UidWithExpiry> entry : uids.entrySet()) {
+            if (prioritizedCoopSyncProvider.isPrioritizedFamily(entry.getKey())) {
+                prioritized.add(entry);
+            } else {
+                regular.add(entry);
+            }
+        }
 
-    private int compareCookieFamilyNames(Map.Entry<String, UidWithExpiry> left,
-                                         Map.Entry<String, UidWithExpiry> right) {
+        prioritized.sort(Map.Entry.comparingByValue(UIDS_BY_EXPIRES));
+        regular.sort(Map.Entry.comparingByValue(UIDS_BY_EXPIRES));
 
-        final boolean leftPrioritized = prioritizedCoopSyncProvider.isPrioritizedFamily(left.getKey());
-        final boolean rightPrioritized = prioritizedCoopSyncProvider.isPrioritizedFamily(right.getKey());
+        final List<String> cookieFamilies = new ArrayList<>(uids.size());
+        prioritized.forEach(entry -> cookieFamilies.add(entry.getKey()));
+        regular.forEach(entry -> cookieFamilies.add(entry.getKey()));
 
-        if ((leftPrioritized && rightPrioritized) || (!leftPrioritized && !rightPrioritized)) {
-            return left.getValue().getExpires().compareTo(right.getValue().getExpires());
-        } else if (leftPrioritized) {
-            return -1;
-        } else { // right is prioritized
-            return 1;
-        }
+        return cookieFamilies.iterator();
     }
 
     private void updateSyncSizeMetrics(String nextCookieFamily) {
@@ -1,24 +1,55 @@
 package org.prebid.server.cookie.model;
 
-import lombok.Value;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.prebid.server.json.ZonedDateTimeModule;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 
 /**
  * Bundles the UID with an Expiration date. After the expiration, the UID is no longer valid.
+ * <p>
+ * UID parsed from the cookie keeps expiration date as it came and parses it only when somebody asks for it, so
+ * families which are not looked up during the request never pay for the date parsing. The same string is written
+ * back to the cookie. Expiration date which cannot be parsed is treated as absent.
  */
-@Value
-public class UidWithExpiry {
+public final class UidWithExpiry {
 
     private static final long LIVE_TTL_MS = Duration.ofDays(14).toMillis();
     private static final long EXPIRED_TTL_MS = Duration.ofMinutes(5).toMillis();
 
-    String uid;
+    private static final ZonedDateTime INVALID_EXPIRES = ZonedDateTime.of(LocalDateTime.MIN, ZoneOffset.UTC);
 
-    ZonedDateTime expires;
+    private final String uid;
+
+    private final String expiresValue;
+
+    private volatile ZonedDateTime expires;
+
+    public UidWithExpiry(String uid, ZonedDateTime expires) {
+        this.uid = uid;
+        this.expiresValue = null;
+        this.expires = expires != null ? expires : INVALID_EXPIRES;
+    }
+
+    private UidWithExpiry(String uid, String expiresValue) {
+        this.uid = uid;
+        this.expiresValue = expiresValue;
+        this.expires = null;
+    }
+
+    @JsonCreator
+    public static UidWithExpiry of(@JsonProperty("uid") String uid, @JsonProperty("expires") String expires) {
+        return new UidWithExpiry(uid, expires);
+    }
 
     public static UidWithExpiry live(String uid) {
         return create(uid, LIVE_TTL_MS);
@@ -31,4 +62,63 @@ public class UidWithExpiry {
     private static UidWithExpiry create(String uid, long ttlMs) {
         return new UidWithExpiry(uid, ZonedDateTime.now(Clock.systemUTC()).plus(ttlMs, ChronoUnit.MILLIS));
     }
+
+    public String getUid() {
+        return uid;
+    }
+
+    @JsonIgnore
+    public ZonedDateTime getExpires() {
+        ZonedDateTime result = expires;
+        if (result == null) {
+            result = parseExpires(expiresValue);
+            expires = result;
+        }
+
+        return result != INVALID_EXPIRES ? result : null;
+    }
+
+    @JsonProperty("expires")
+    private String getExpiresValue() {
+        if (expiresValue != null) {
+            return expiresValue;
+        }
+
+        final ZonedDateTime currentExpires = getExpires();
+        return currentExpires != null ? ZonedDateTimeModule.FORMATTER.format(currentExpires) : null;
+    }
+
+    private static ZonedDateTime parseExpires(String value) {
+        if (value == null) {
+            return INVALID_EXPIRES;
+        }
+
+        try {
+            return ZonedDateTime.parse(value, ZonedDateTimeModule.FORMATTER);
+        } catch (DateTimeParseException e) {
+            return INVALID_EXPIRES;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final UidWithExpiry that = (UidWithExpiry) o;
+        return Objects.equals(uid, that.uid) && Objects.equals(getExpires(), that.getExpires());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uid, getExpires());
+    }
+
+    @Override
+    public String toString() {
+        return "UidWithExpiry(uid=" + uid + ", expires=" + getExpires() + ")";
+    }
 }
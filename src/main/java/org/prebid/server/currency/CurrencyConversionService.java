@@ -1,12 +1,12 @@
 package org.prebid.server.currency;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.currency.proto.CurrencyConversionRates;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.JacksonMapper;
@@ -26,9 +26,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -43,11 +40,16 @@ public class CurrencyConversionService implements Initializable {
     // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
     private static final int DEFAULT_PRICE_PRECISION = 3;
 
+    private static final int REQUEST_RATES_CACHE_SIZE = 10_000;
+
     private final String currencyServerUrl;
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
+    // request rates instances are compared by identity, so resolved rates are shared only within the same request
+    private final Map<Map<String, Map<String, BigDecimal>>, CurrencyRatesTable> requestCurrencyRatesTables;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private volatile Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private volatile CurrencyRatesTable externalCurrencyRatesTable;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -60,6 +62,12 @@ public class CurrencyConversionService implements Initializable {
             currencyServerUrl = null;
             mapper = null;
         }
+
+        requestCurrencyRatesTables = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(REQUEST_RATES_CACHE_SIZE)
+                .<Map<String, Map<String, BigDecimal>>, CurrencyRatesTable>build()
+                .asMap();
     }
 
     /**
@@ -119,6 +127,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            externalCurrencyRatesTable = CurrencyRatesTable.precomputed(receivedCurrencyRates);
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -134,6 +143,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            externalCurrencyRatesTable = null;
         }
 
         return null;
@@ -199,15 +209,16 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final CurrencyRatesTable requestCurrencyRatesTable = requestCurrencyRatesTable(requestCurrencyRates);
+        final CurrencyRatesTable firstPriorityRates;
+        final CurrencyRatesTable secondPriorityRates;
 
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            firstPriorityRates = requestCurrencyRatesTable;
+            secondPriorityRates = externalCurrencyRatesTable;
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            firstPriorityRates = externalCurrencyRatesTable;
+            secondPriorityRates = requestCurrencyRatesTable;
         }
 
         final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
@@ -223,6 +234,12 @@ public class CurrencyConversionService implements Initializable {
         return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
+    private CurrencyRatesTable requestCurrencyRatesTable(Map<String, Map<String, BigDecimal>> requestCurrencyRates) {
+        return MapUtils.isNotEmpty(requestCurrencyRates)
+                ? requestCurrencyRatesTables.computeIfAbsent(requestCurrencyRates, CurrencyRatesTable::lazy)
+                : null;
+    }
+
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
@@ -243,116 +260,22 @@ public class CurrencyConversionService implements Initializable {
     /**
      * Returns conversion rate from the given currency rates according to priority.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
+    private static BigDecimal getConversionRateByPriority(CurrencyRatesTable firstPriorityRates,
+                                                          CurrencyRatesTable secondPriorityRates,
                                                           String fromCurrency,
                                                           String toCurrency) {
 
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
+        final BigDecimal conversionRate = getConversionRate(firstPriorityRates, fromCurrency, toCurrency);
+        return conversionRate != null
+                ? conversionRate
+                : getConversionRate(secondPriorityRates, fromCurrency, toCurrency);
     }
 
-    /**
-     * Looking for rates for a currency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+    private static BigDecimal getConversionRate(CurrencyRatesTable currencyRatesTable,
                                                 String fromCurrency,
                                                 String toCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
-
-        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
-        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
-                reverseCurrencyRates);
-        if (intermediateConversionRate != null) {
-            return intermediateConversionRate;
-        }
-
-        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
-                                                        String currency) {
-        final BigDecimal reverseConversionRate = currencyRates != null
-                ? currencyRates.get(currency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate,
-                getRatePrecision(reverseConversionRate),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
-
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
-                                                             Map<String, BigDecimal> reverseCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
-            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.getFirst();
-                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
-                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
-                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
-                        // chose the largest precision among intermediate rates
-                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
-    }
-
-    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                      String fromCurrency,
-                                                      String toCurrency) {
-        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
-            final BigDecimal fromRate = rates.get(fromCurrency);
-            final BigDecimal toRate = rates.get(toCurrency);
-            if (fromRate != null && toRate != null) {
-                return toRate.divide(fromRate,
-                        getRatePrecision(fromRate, toRate),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-
-        return null;
-    }
-
-    private static int getRatePrecision(BigDecimal... rates) {
-        final int precision = Arrays.stream(rates)
-                .map(BigDecimal::precision)
-                .max(Integer::compareTo)
-                .orElse(DEFAULT_PRICE_PRECISION);
 
-        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+        return currencyRatesTable != null ? currencyRatesTable.conversionRate(fromCurrency, toCurrency) : null;
     }
 
     private boolean isRatesStale() {
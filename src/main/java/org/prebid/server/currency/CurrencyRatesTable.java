@@ -0,0 +1,198 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Conversion rates for every currency pair derivable from the given rates, stored in a flat matrix indexed by
+ * currency position, so resolved conversion is a single array read.
+ * <p>
+ * Pair rate is looked for as straight, reverse, intermediate and then cross rate, either eagerly for the whole
+ * matrix or lazily on the first request of the pair. Instances are immutable from the outside and safe to share
+ * between threads.
+ */
+final class CurrencyRatesTable {
+
+    // This number is chosen because of PriceGranularities default precision value of 2 + 1 for better accuracy
+    private static final int DEFAULT_PRICE_PRECISION = 3;
+
+    // marks resolved pair without conversion rate, compared by identity
+    private static final BigDecimal NO_RATE = new BigDecimal("-1");
+
+    private final Map<String, Map<String, BigDecimal>> currencyConversionRates;
+    private final Map<String, Integer> currencyIndexes;
+    private final int currenciesNumber;
+    private final AtomicReferenceArray<BigDecimal> conversionRates;
+
+    private CurrencyRatesTable(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        this.currencyConversionRates = currencyConversionRates;
+
+        currencyIndexes = new HashMap<>();
+        currencyConversionRates.forEach((fromCurrency, rates) -> {
+            addCurrency(fromCurrency);
+            if (rates != null) {
+                rates.keySet().forEach(this::addCurrency);
+            }
+        });
+
+        currenciesNumber = currencyIndexes.size();
+        conversionRates = new AtomicReferenceArray<>(currenciesNumber * currenciesNumber);
+    }
+
+    /**
+     * Creates table with all the rates resolved upfront. Suits rarely changed rates used by every request.
+     */
+    static CurrencyRatesTable precomputed(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        final CurrencyRatesTable table = lazy(currencyConversionRates);
+        for (String fromCurrency : table.currencyIndexes.keySet()) {
+            for (String toCurrency : table.currencyIndexes.keySet()) {
+                table.conversionRate(fromCurrency, toCurrency);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Creates table which resolves rate of each currency pair on the first request.
+     */
+    static CurrencyRatesTable lazy(Map<String, Map<String, BigDecimal>> currencyConversionRates) {
+        return new CurrencyRatesTable(MapUtils.emptyIfNull(currencyConversionRates));
+    }
+
+    private void addCurrency(String currency) {
+        if (currency != null) {
+            currencyIndexes.putIfAbsent(currency, currencyIndexes.size());
+        }
+    }
+
+    /**
+     * Returns conversion rate for the given currency pair or null if there is no such.
+     */
+    BigDecimal conversionRate(String fromCurrency, String toCurrency) {
+        final Integer fromIndex = currencyIndexes.get(fromCurrency);
+        final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+        if (toIndex == null) {
+            return null;
+        }
+
+        final int index = fromIndex * currenciesNumber + toIndex;
+        BigDecimal conversionRate = conversionRates.get(index);
+        if (conversionRate == null) {
+            final BigDecimal resolvedRate = resolveConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+            conversionRate = resolvedRate != null ? resolvedRate : NO_RATE;
+            conversionRates.set(index, conversionRate);
+        }
+
+        return conversionRate != NO_RATE ? conversionRate : null;
+    }
+
+    /**
+     * Looking for rates for a currency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    private static BigDecimal resolveConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                    String fromCurrency,
+                                                    String toCurrency) {
+        if (MapUtils.isEmpty(currencyConversionRates)) {
+            return null;
+        }
+
+        BigDecimal conversionRate;
+        final Map<String, BigDecimal> directCurrencyRates = currencyConversionRates.get(fromCurrency);
+
+        conversionRate = directCurrencyRates != null ? directCurrencyRates.get(toCurrency) : null;
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> reverseCurrencyRates = currencyConversionRates.get(toCurrency);
+        conversionRate = findReverseConversionRate(reverseCurrencyRates, fromCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final BigDecimal intermediateConversionRate = findIntermediateConversionRate(directCurrencyRates,
+                reverseCurrencyRates);
+        if (intermediateConversionRate != null) {
+            return intermediateConversionRate;
+        }
+
+        return findCrossConversionRate(currencyConversionRates, fromCurrency, toCurrency);
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> currencyRates,
+                                                        String currency) {
+        final BigDecimal reverseConversionRate = currencyRates != null
+                ? currencyRates.get(currency)
+                : null;
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate,
+                getRatePrecision(reverseConversionRate),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> directCurrencyRates,
+                                                             Map<String, BigDecimal> reverseCurrencyRates) {
+        BigDecimal conversionRate = null;
+        if (MapUtils.isNotEmpty(directCurrencyRates) && MapUtils.isNotEmpty(reverseCurrencyRates)) {
+            final List<String> sharedCurrencies = new ArrayList<>(directCurrencyRates.keySet());
+            sharedCurrencies.retainAll(reverseCurrencyRates.keySet());
+
+            if (!sharedCurrencies.isEmpty()) {
+                // pick any found shared currency
+                final String sharedCurrency = sharedCurrencies.getFirst();
+                final BigDecimal directCurrencyRateIntermediate = directCurrencyRates.get(sharedCurrency);
+                final BigDecimal reverseCurrencyRateIntermediate = reverseCurrencyRates.get(sharedCurrency);
+                conversionRate = directCurrencyRateIntermediate.divide(reverseCurrencyRateIntermediate,
+                        // chose the largest precision among intermediate rates
+                        getRatePrecision(directCurrencyRateIntermediate, reverseCurrencyRateIntermediate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return conversionRate;
+    }
+
+    private static BigDecimal findCrossConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                      String fromCurrency,
+                                                      String toCurrency) {
+        for (Map<String, BigDecimal> rates : currencyConversionRates.values()) {
+            final BigDecimal fromRate = rates.get(fromCurrency);
+            final BigDecimal toRate = rates.get(toCurrency);
+            if (fromRate != null && toRate != null) {
+                return toRate.divide(fromRate,
+                        getRatePrecision(fromRate, toRate),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+
+        return null;
+    }
+
+    private static int getRatePrecision(BigDecimal... rates) {
+        final int precision = Arrays.stream(rates)
+                .map(BigDecimal::precision)
+                .max(Integer::compareTo)
+                .orElse(DEFAULT_PRICE_PRECISION);
+
+        return Math.max(precision, DEFAULT_PRICE_PRECISION);
+    }
+}
@@ -0,0 +1,12 @@
+package org.prebid.server.exception;
+
+/**
+ * Cache Service rejected the whole batch, most likely because of one of the batched objects or their number.
+ */
+@SuppressWarnings("serial")
+public class CacheBatchRejectedException extends PreBidException {
+
+    public CacheBatchRejectedException(String message) {
+        super(message);
+    }
+}
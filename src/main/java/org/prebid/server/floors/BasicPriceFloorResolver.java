@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
@@ -49,17 +50,13 @@ import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
-import org.prebid.server.util.dsl.config.PrebidConfigSource;
 import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
 import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
-import org.prebid.server.util.dsl.config.impl.SimpleParameters;
-import org.prebid.server.util.dsl.config.impl.SimpleSource;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -72,8 +69,6 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
 
     private static final String DEFAULT_RULES_CURRENCY = "USD";
-    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
-    private static final String WILDCARD_CATCH_ALL = "*";
 
     private static final String VIDEO_ALIAS = "video-instream";
 
@@ -95,6 +90,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private final JacksonMapper mapper;
 
     private final PrebidConfigMatchingStrategy matchingStrategy;
+    private final Map<PriceFloorModelGroup, PriceFloorRulesIndex> rulesIndexes;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
@@ -107,6 +103,11 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         this.mapper = Objects.requireNonNull(mapper);
 
         matchingStrategy = new MostAccurateCombinationStrategy();
+        // model groups of fetched floors live as long as fetcher keeps them, weak keys are compared by identity
+        rulesIndexes = Caffeine.newBuilder()
+                .weakKeys()
+                .<PriceFloorModelGroup, PriceFloorRulesIndex>build()
+                .asMap();
     }
 
     @Override
@@ -137,15 +138,13 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
             return null;
         }
 
-        final Map<String, BigDecimal> values = keysToLowerCase(modelGroup.getValues());
-        final PrebidConfigSource source = SimpleSource.of(
-                WILDCARD_CATCH_ALL,
-                ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER),
-                values.keySet());
-        final PrebidConfigParameters parameters = createParameters(schema, bidRequest, imp, mediaType, format, bidder);
+        final PriceFloorRulesIndex rulesIndex = rulesIndexes.computeIfAbsent(
+                modelGroup, PriceFloorRulesIndex::compile);
+        final PrebidConfigParameters parameters = rulesIndex.narrow(
+                createParameters(schema, bidRequest, imp, mediaType, format, bidder));
 
-        final String rule = matchingStrategy.match(source, parameters);
-        final BigDecimal floorForRule = rule != null ? values.get(rule) : null;
+        final String rule = matchingStrategy.match(rulesIndex, parameters);
+        final BigDecimal floorForRule = rule != null ? rulesIndex.floor(rule) : null;
         final BigDecimal floor = floorForRule != null ? floorForRule : modelGroup.getDefaultFloor();
         final String modelGroupCurrency = modelGroup.getCurrency();
         final String floorCurrency = StringUtils.isNotEmpty(modelGroupCurrency)
@@ -188,15 +187,7 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return CollectionUtils.isNotEmpty(modelGroups) ? modelGroups.getFirst() : null;
     }
 
-    private static <V> Map<String, V> keysToLowerCase(Map<String, V> map) {
-        return map.entrySet().stream()
-                .collect(
-                        HashMap::new,
-                        (hashMap, entry) -> hashMap.put(entry.getKey().toLowerCase(), entry.getValue()),
-                        HashMap::putAll);
-    }
-
-    private PrebidConfigParameters createParameters(PriceFloorSchema schema,
+    private List<PrebidConfigParameter> createParameters(PriceFloorSchema schema,
                                                     BidRequest bidRequest,
                                                     Imp imp,
                                                     ImpMediaType mediaType,
@@ -207,11 +198,9 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
                 ? Collections.singletonList(mediaType)
                 : mediaTypesFromImp(imp);
 
-        final List<PrebidConfigParameter> conditionsMatchers = schema.getFields().stream()
+        return schema.getFields().stream()
                 .map(field -> createParameter(field, bidRequest, imp, resolvedMediaTypes, format, bidder))
                 .toList();
-
-        return SimpleParameters.of(conditionsMatchers);
     }
 
     private static List<ImpMediaType> mediaTypesFromImp(Imp imp) {
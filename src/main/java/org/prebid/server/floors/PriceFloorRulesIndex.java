@@ -0,0 +1,163 @@
+package org.prebid.server.floors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.util.dsl.config.PrebidConfigIndexedSource;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.PrebidConfigParameters;
+import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
+import org.prebid.server.util.dsl.config.impl.SimpleParameters;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable rules lookup compiled once per {@link PriceFloorModelGroup}.
+ * <p>
+ * Keeps lower-cased rules with their floors and, per schema field, the set of values mentioned by any rule.
+ * The latter allows to drop request values which can't match any rule before candidate rules are generated,
+ * that doesn't change the matched rule, but makes generated combinations set much smaller.
+ */
+final class PriceFloorRulesIndex implements PrebidConfigIndexedSource {
+
+    private static final String SCHEMA_DEFAULT_DELIMITER = "|";
+    private static final String WILDCARD_CATCH_ALL = "*";
+
+    private final String delimiter;
+    private final Map<String, BigDecimal> floorsByRule;
+    private final List<Set<String>> valuesByField;
+
+    private PriceFloorRulesIndex(String delimiter,
+                                 Map<String, BigDecimal> floorsByRule,
+                                 List<Set<String>> valuesByField) {
+
+        this.delimiter = delimiter;
+        this.floorsByRule = floorsByRule;
+        this.valuesByField = valuesByField;
+    }
+
+    static PriceFloorRulesIndex compile(PriceFloorModelGroup modelGroup) {
+        final PriceFloorSchema schema = modelGroup.getSchema();
+        final String delimiter = ObjectUtils.defaultIfNull(
+                ObjectUtil.getIfNotNull(schema, PriceFloorSchema::getDelimiter), SCHEMA_DEFAULT_DELIMITER);
+        final int fieldsNumber = schema != null ? CollectionUtils.size(schema.getFields()) : 0;
+
+        final Map<String, BigDecimal> floorsByRule = new HashMap<>();
+        final List<Set<String>> valuesByField = new ArrayList<>(fieldsNumber);
+        for (int i = 0; i < fieldsNumber; i++) {
+            valuesByField.add(new HashSet<>());
+        }
+
+        boolean narrowingAllowed = fieldsNumber > 0;
+        for (Map.Entry<String, BigDecimal> entry : modelGroup.getValues().entrySet()) {
+            final String rule = entry.getKey().toLowerCase();
+            floorsByRule.put(rule, entry.getValue());
+
+            final String[] ruleValues = StringUtils.splitByWholeSeparatorPreserveAllTokens(rule, delimiter);
+            // request value containing delimiter may produce such rule, so keep all combinations in that case
+            if (ruleValues.length != fieldsNumber) {
+                narrowingAllowed = false;
+                continue;
+            }
+            for (int i = 0; i < fieldsNumber; i++) {
+                valuesByField.get(i).add(ruleValues[i]);
+            }
+        }
+
+        return new PriceFloorRulesIndex(
+                delimiter,
+                Collections.unmodifiableMap(floorsByRule),
+                narrowingAllowed ? valuesByField.stream().map(Set::copyOf).toList() : null);
+    }
+
+    @Override
+    public String wildcard() {
+        return WILDCARD_CATCH_ALL;
+    }
+
+    @Override
+    public String separator() {
+        return delimiter;
+    }
+
+    @Override
+    public Iterable<String> rules() {
+        return floorsByRule.keySet();
+    }
+
+    @Override
+    public boolean contains(String rule) {
+        return floorsByRule.containsKey(rule.toLowerCase());
+    }
+
+    BigDecimal floor(String rule) {
+        return floorsByRule.get(rule.toLowerCase());
+    }
+
+    /**
+     * Removes values which are not mentioned by any rule on the corresponding position.
+     * A direct parameter without known values is turned into the wildcard.
+     */
+    PrebidConfigParameters narrow(List<PrebidConfigParameter> parameters) {
+        if (valuesByField == null || valuesByField.size() != parameters.size()) {
+            return SimpleParameters.of(parameters);
+        }
+
+        List<PrebidConfigParameter> narrowedParameters = null;
+        for (int i = 0; i < parameters.size(); i++) {
+            final PrebidConfigParameter parameter = parameters.get(i);
+            final PrebidConfigParameter narrowedParameter = parameter instanceof PrebidConfigParameter.Direct direct
+                    ? narrow(direct, valuesByField.get(i))
+                    : parameter;
+
+            if (narrowedParameter != parameter && narrowedParameters == null) {
+                narrowedParameters = new ArrayList<>(parameters);
+            }
+            if (narrowedParameters != null) {
+                narrowedParameters.set(i, narrowedParameter);
+            }
+        }
+
+        return SimpleParameters.of(narrowedParameters != null ? narrowedParameters : parameters);
+    }
+
+    private static PrebidConfigParameter narrow(PrebidConfigParameter.Direct parameter, Set<String> knownValues) {
+        int total = 0;
+        int matched = 0;
+        for (String value : parameter.values()) {
+            total++;
+            if (isKnown(value, knownValues)) {
+                matched++;
+            }
+        }
+
+        if (matched == total) {
+            return parameter;
+        }
+        if (matched == 0) {
+            return PrebidConfigParameter.wildcard();
+        }
+
+        final List<String> matchedValues = new ArrayList<>(matched);
+        for (String value : parameter.values()) {
+            if (isKnown(value, knownValues)) {
+                matchedValues.add(value);
+            }
+        }
+        return SimpleDirectParameter.of(matchedValues);
+    }
+
+    private static boolean isKnown(String value, Set<String> knownValues) {
+        return value != null && knownValues.contains(value.toLowerCase());
+    }
+}
@@ -0,0 +1,92 @@
+package org.prebid.server.geolocation;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import inet.ipaddr.IPAddress;
+import inet.ipaddr.IPAddressString;
+import io.vertx.core.Future;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Wrapper for geolocation service which keeps successful lookup results in bounded in-memory cache.
+ * <p>
+ * Optionally, results can be shared by the whole network an IP belongs to (/24 for IPv4 and /48 for IPv6),
+ * which noticeably improves hit ratio since geo databases rarely differ inside such networks.
+ * <p>
+ * Cached results are not bound to the database they were resolved from, so the owner of the wrapped service
+ * should call {@link #invalidateAll()} once the database is updated.
+ */
+public class CachingGeoLocationService implements GeoLocationService {
+
+    private static final int IPV4_PREFIX_LENGTH = 24;
+    private static final int IPV6_PREFIX_LENGTH = 48;
+
+    private final GeoLocationService geoLocationService;
+    private final Metrics metrics;
+    private final boolean prefixKeys;
+
+    private final Map<String, GeoInfo> cache;
+
+    public CachingGeoLocationService(GeoLocationService geoLocationService,
+                                     Metrics metrics,
+                                     int size,
+                                     long ttlSeconds,
+                                     boolean prefixKeys) {
+
+        this.geoLocationService = Objects.requireNonNull(geoLocationService);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.prefixKeys = prefixKeys;
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .<String, GeoInfo>build()
+                .asMap();
+    }
+
+    @Override
+    public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final String key = cacheKey(ip);
+        final GeoInfo cachedGeoInfo = key != null ? cache.get(key) : null;
+        metrics.updateGeoLocationCacheMetric(cachedGeoInfo != null);
+
+        if (cachedGeoInfo != null) {
+            return Future.succeededFuture(cachedGeoInfo);
+        }
+
+        return geoLocationService.lookup(ip, timeout)
+                .onSuccess(geoInfo -> cacheGeoInfo(key, geoInfo));
+    }
+
+    /**
+     * Drops all cached results, so subsequent lookups are resolved by the wrapped service again.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private void cacheGeoInfo(String key, GeoInfo geoInfo) {
+        if (key != null && geoInfo != null) {
+            cache.put(key, geoInfo);
+        }
+    }
+
+    private String cacheKey(String ip) {
+        if (ip == null || !prefixKeys) {
+            return ip;
+        }
+
+        final IPAddress address = new IPAddressString(ip).getAddress();
+        if (address == null) {
+            return ip;
+        }
+
+        final int prefixLength = address.isIPv4() ? IPV4_PREFIX_LENGTH : IPV6_PREFIX_LENGTH;
+        return address.toPrefixBlock(prefixLength).toCanonicalString();
+    }
+}
@@ -18,15 +18,24 @@ import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * By default, database is loaded into heap. In memory-mapped mode it is extracted from the archive next to it
+ * once per update and mapped from disk instead, so the heap is not occupied by the whole database.
+ * In both modes new reader replaces the previous one atomically, lookups in flight keep using the old one.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, FileProcessor {
 
@@ -34,7 +43,17 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private final boolean memoryMapped;
+
+    private volatile DatabaseReader databaseReader;
+
+    public MaxMindGeoLocationService() {
+        this(false);
+    }
+
+    public MaxMindGeoLocationService(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +72,14 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
                         .formatted(DATABASE_FILE_NAME, dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            final DatabaseReader.Builder readerBuilder = memoryMapped
+                    ? new DatabaseReader.Builder(extractDatabaseFile(tarInput, dataFilePath))
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    : new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY);
+
+            // previous reader is not closed explicitly: it might still be used by lookups in flight,
+            // its memory (or mapping) is released by GC
+            databaseReader = readerBuilder.build();
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -63,6 +89,7 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
 
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final DatabaseReader databaseReader = this.databaseReader;
         if (databaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
@@ -87,6 +114,21 @@ public class MaxMindGeoLocationService implements GeoLocationService, FileProces
         }
     }
 
+    /**
+     * Writes database next to the archive under temporary name first and then renames it, so the file
+     * currently mapped by previous reader is never overwritten in place.
+     */
+    private static File extractDatabaseFile(InputStream databaseInput, String dataFilePath) throws IOException {
+        final Path databasePath = Path.of(dataFilePath).resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpDatabasePath = databasePath.resolveSibling(DATABASE_FILE_NAME + ".tmp");
+
+        Files.copy(databaseInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmpDatabasePath, databasePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return databasePath.toFile();
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
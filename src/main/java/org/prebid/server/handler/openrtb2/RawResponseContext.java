@@ -4,6 +4,7 @@ import io.vertx.core.MultiMap;
 import lombok.Builder;
 import lombok.Value;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.model.ResponseBody;
 
 @Value
 @Builder(toBuilder = true)
@@ -11,7 +12,7 @@ public class RawResponseContext {
 
     AuctionContext auctionContext;
 
-    String responseBody;
+    ResponseBody responseBody;
 
     MultiMap responseHeaders;
 }
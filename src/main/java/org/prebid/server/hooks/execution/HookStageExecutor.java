@@ -6,7 +6,6 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -42,7 +41,7 @@ import org.prebid.server.hooks.execution.v1.bidder.BidderInvocationContextImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderRequestPayloadImpl;
 import org.prebid.server.hooks.execution.v1.bidder.BidderResponsePayloadImpl;
 import org.prebid.server.hooks.execution.v1.entrypoint.EntrypointPayloadImpl;
-import org.prebid.server.hooks.execution.v1.exitpoint.ExitpointPayloadImpl;
+import org.prebid.server.hooks.execution.v1.exitpoint.EncodedExitpointPayload;
 import org.prebid.server.hooks.v1.Hook;
 import org.prebid.server.hooks.v1.InvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
@@ -58,9 +57,11 @@ import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.ResponseBody;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
 import org.prebid.server.settings.model.HooksAdminConfig;
+import org.prebid.server.vertx.DeadlineScheduler;
 
 import java.time.Clock;
 import java.util.Collection;
@@ -88,7 +89,7 @@ public class HookStageExecutor {
     private final Map<String, Boolean> hostModuleExecution;
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
-    private final Vertx vertx;
+    private final DeadlineScheduler deadlineScheduler;
     private final Clock clock;
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
@@ -99,7 +100,7 @@ public class HookStageExecutor {
                               Map<String, Boolean> hostModuleExecution,
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
-                              Vertx vertx,
+                              DeadlineScheduler deadlineScheduler,
                               Clock clock,
                               ObjectMapper mapper,
                               boolean isConfigToInvokeRequired,
@@ -109,7 +110,7 @@ public class HookStageExecutor {
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
-        this.vertx = vertx;
+        this.deadlineScheduler = deadlineScheduler;
         this.clock = clock;
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
@@ -122,7 +123,7 @@ public class HookStageExecutor {
                                            Map<String, Boolean> hostModuleExecution,
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
-                                           Vertx vertx,
+                                           DeadlineScheduler deadlineScheduler,
                                            Clock clock,
                                            JacksonMapper mapper,
                                            boolean isConfigToInvokeRequired,
@@ -137,7 +138,7 @@ public class HookStageExecutor {
                 hostModuleExecution,
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
-                Objects.requireNonNull(vertx),
+                Objects.requireNonNull(deadlineScheduler),
                 Objects.requireNonNull(clock),
                 mapper.mapper(),
                 isConfigToInvokeRequired,
@@ -340,7 +341,7 @@ public class HookStageExecutor {
     }
 
     public Future<HookStageExecutionResult<ExitpointPayload>> executeExitpointStage(MultiMap responseHeaders,
-                                                                                    String responseBody,
+                                                                                    ResponseBody responseBody,
                                                                                     AuctionContext auctionContext) {
 
         final Account account = ObjectUtils.defaultIfNull(auctionContext.getAccount(), EMPTY_ACCOUNT);
@@ -349,7 +350,7 @@ public class HookStageExecutor {
         final Endpoint endpoint = context.getEndpoint();
 
         return stageExecutor(StageWithHookType.EXITPOINT, ENTITY_HTTP_RESPONSE, context, account, endpoint)
-                .withInitialPayload(ExitpointPayloadImpl.of(responseHeaders, responseBody))
+                .withInitialPayload(EncodedExitpointPayload.of(responseHeaders, responseBody))
                 .withInvocationContextProvider(auctionInvocationContextProvider(endpoint, auctionContext))
                 .withRejectAllowed(false)
                 .execute();
@@ -360,7 +361,7 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(deadlineScheduler, clock)
                 .withStage(stage)
                 .withEntity(entity)
                 .withHookExecutionContext(context);
@@ -0,0 +1,34 @@
+package org.prebid.server.hooks.execution.v1.exitpoint;
+
+import io.vertx.core.MultiMap;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
+import org.prebid.server.model.ResponseBody;
+
+/**
+ * {@link ExitpointPayload} of the response which body is already encoded: the {@link String} body is decoded only
+ * if some hook asks for it.
+ */
+@Accessors(fluent = true)
+@Value(staticConstructor = "of")
+public class EncodedExitpointPayload implements ExitpointPayload {
+
+    MultiMap responseHeaders;
+
+    ResponseBody body;
+
+    @Override
+    public String responseBody() {
+        return body.asString();
+    }
+
+    /**
+     * Returns body of the given payload, still encoded if none of the hooks has replaced it.
+     */
+    public static ResponseBody bodyOf(ExitpointPayload payload) {
+        return payload instanceof EncodedExitpointPayload encodedPayload
+                ? encodedPayload.body()
+                : ResponseBody.of(payload.responseBody());
+    }
+}
@@ -1,20 +1,30 @@
 package org.prebid.server.json;
 
 import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNodeType;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicParseException;
 import io.github.jamsesso.jsonlogic.ast.JsonLogicParser;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicExpression;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
 public class JsonLogic {
 
     private final JsonLogicEvaluator evaluator;
+    private final JsonLogicCompiler compiler;
 
     public JsonLogic(JsonLogicEvaluator jsonLogicEvaluator) {
+        this(jsonLogicEvaluator, Collections.emptyList());
+    }
+
+    public JsonLogic(JsonLogicEvaluator jsonLogicEvaluator, Collection<? extends JsonLogicExpression> expressions) {
         evaluator = Objects.requireNonNull(jsonLogicEvaluator);
+        compiler = new JsonLogicCompiler(evaluator, Objects.requireNonNull(expressions));
     }
 
     public JsonLogicNode parse(String jsonNode) {
@@ -25,12 +35,33 @@ public class JsonLogic {
         }
     }
 
+    /**
+     * Prepares parsed node for repeated evaluation. Returned node is immutable and can be cached and shared,
+     * {@link #evaluate(JsonLogicNode, Map)} gives the same result for it as for the original node.
+     */
+    public JsonLogicNode compile(JsonLogicNode jsonLogicNode) {
+        return jsonLogicNode instanceof CompiledJsonLogicNode
+                ? jsonLogicNode
+                : new CompiledJsonLogicNode(jsonLogicNode, compiler.compile(jsonLogicNode));
+    }
+
     public boolean evaluate(JsonLogicNode jsonLogicNode, Map<String, Object> data) throws JsonLogicEvaluationException {
-        final Object result = evaluator.evaluate(jsonLogicNode, data);
+        final Object result = jsonLogicNode instanceof CompiledJsonLogicNode compiledNode
+                ? compiledNode.compiled().evaluate(data)
+                : evaluator.evaluate(jsonLogicNode, data);
 
         if (result instanceof Boolean booleanResult) {
             return booleanResult;
         }
         throw new JsonLogicEvaluationException("Wrong type was returned.");
     }
+
+    private record CompiledJsonLogicNode(JsonLogicNode original, JsonLogicCompiler.CompiledNode compiled)
+            implements JsonLogicNode {
+
+        @Override
+        public JsonLogicNodeType getType() {
+            return original.getType();
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package org.prebid.server.json;
+
+import io.github.jamsesso.jsonlogic.ast.JsonLogicArray;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicNode;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicOperation;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicString;
+import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluator;
+import io.github.jamsesso.jsonlogic.evaluator.JsonLogicExpression;
+import io.github.jamsesso.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.jamsesso.jsonlogic.utils.ArrayLike;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns {@link JsonLogicNode} tree into the tree of closures, so the evaluation doesn't have to dispatch on node
+ * types and look up operations by name every time:
+ * <ul>
+ * <li>primitives and arrays of primitives are evaluated once, at compile time;</li>
+ * <li>variables with a plain constant name become direct map accessors;</li>
+ * <li>{@code and}/{@code or} are short-circuited inline, other operations with pre-evaluated arguments are bound
+ * to their implementation.</li>
+ * </ul>
+ * Anything else is delegated to {@link JsonLogicEvaluator}, so the result is always the same as for tree-walking
+ * evaluation.
+ */
+final class JsonLogicCompiler {
+
+    private final JsonLogicEvaluator evaluator;
+    private final Map<String, PreEvaluatedArgumentsExpression> expressions;
+
+    JsonLogicCompiler(JsonLogicEvaluator evaluator, Collection<? extends JsonLogicExpression> expressions) {
+        this.evaluator = evaluator;
+        this.expressions = expressions.stream()
+                .filter(PreEvaluatedArgumentsExpression.class::isInstance)
+                .map(PreEvaluatedArgumentsExpression.class::cast)
+                .collect(Collectors.toMap(JsonLogicExpression::key, Function.identity(), (first, second) -> first));
+    }
+
+    CompiledNode compile(JsonLogicNode node) {
+        if (node instanceof JsonLogicPrimitive<?> || isArrayOfPrimitives(node)) {
+            return constantOrDelegate(node);
+        }
+        if (node instanceof JsonLogicVariable variable) {
+            return compileVariable(variable);
+        }
+        if (node instanceof JsonLogicOperation operation) {
+            return compileOperation(operation);
+        }
+
+        return delegate(node);
+    }
+
+    private static boolean isArrayOfPrimitives(JsonLogicNode node) {
+        if (!(node instanceof JsonLogicArray array)) {
+            return false;
+        }
+
+        for (int i = 0; i < array.size(); i++) {
+            if (!(array.get(i) instanceof JsonLogicPrimitive<?>)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompiledNode constantOrDelegate(JsonLogicNode node) {
+        try {
+            final Object value = evaluator.evaluate(node, null);
+            return data -> value;
+        } catch (JsonLogicEvaluationException e) {
+            return delegate(node);
+        }
+    }
+
+    private CompiledNode compileVariable(JsonLogicVariable variable) {
+        final String name = variable.getKey() instanceof JsonLogicString key ? key.getValue() : null;
+        final JsonLogicNode defaultValueNode = variable.getDefaultValue();
+        if (name == null || name.isEmpty() || name.indexOf('.') >= 0
+                || !(defaultValueNode instanceof JsonLogicPrimitive<?>)) {
+
+            return delegate(variable);
+        }
+
+        final Object defaultValue;
+        try {
+            defaultValue = evaluator.evaluate(defaultValueNode, null);
+        } catch (JsonLogicEvaluationException e) {
+            return delegate(variable);
+        }
+
+        final CompiledNode fallback = delegate(variable);
+        return data -> {
+            if (data == null) {
+                return defaultValue;
+            }
+            if (!(data instanceof Map<?, ?> map)) {
+                return fallback.evaluate(data);
+            }
+
+            final Object value = map.get(name);
+            if (value == null) {
+                return defaultValue;
+            }
+            // keep the same number representation as JsonLogicEvaluator does
+            return value instanceof Number number ? number.doubleValue() : value;
+        };
+    }
+
+    private CompiledNode compileOperation(JsonLogicOperation operation) {
+        final String operator = operation.getOperator();
+        final JsonLogicArray argumentNodes = operation.getArguments();
+        final List<CompiledNode> arguments = new ArrayList<>(argumentNodes.size());
+        for (int i = 0; i < argumentNodes.size(); i++) {
+            arguments.add(compile(argumentNodes.get(i)));
+        }
+
+        if (arguments.isEmpty()) {
+            return delegate(operation);
+        }
+        if ("and".equals(operator)) {
+            return compileLogic(arguments, false);
+        }
+        if ("or".equals(operator)) {
+            return compileLogic(arguments, true);
+        }
+
+        final PreEvaluatedArgumentsExpression expression = expressions.get(operator);
+        if (expression == null) {
+            return delegate(operation);
+        }
+
+        return data -> expression.evaluate(evaluateArguments(arguments, data), data);
+    }
+
+    private static CompiledNode compileLogic(List<CompiledNode> arguments, boolean stopOnTruthy) {
+        final CompiledNode[] compiledArguments = arguments.toArray(new CompiledNode[0]);
+        return data -> {
+            Object result = null;
+            for (CompiledNode argument : compiledArguments) {
+                result = argument.evaluate(data);
+                if (io.github.jamsesso.jsonlogic.JsonLogic.truthy(result) == stopOnTruthy) {
+                    return result;
+                }
+            }
+            return result;
+        };
+    }
+
+    private static List<Object> evaluateArguments(List<CompiledNode> arguments, Object data)
+            throws JsonLogicEvaluationException {
+
+        final List<Object> values = new ArrayList<>(arguments.size());
+        for (CompiledNode argument : arguments) {
+            values.add(argument.evaluate(data));
+        }
+
+        // the same unwrapping PreEvaluatedArgumentsExpression does for the single array argument
+        return values.size() == 1 && ArrayLike.isEligible(values.getFirst())
+                ? new ArrayLike(values.getFirst())
+                : values;
+    }
+
+    private CompiledNode delegate(JsonLogicNode node) {
+        return data -> evaluator.evaluate(node, data);
+    }
+
+    @FunctionalInterface
+    interface CompiledNode {
+
+        Object evaluate(Object data) throws JsonLogicEvaluationException;
+    }
+}
@@ -8,14 +8,27 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.json.merge.JsonMergePatch;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Objects;
 
 public class JsonMerger {
 
     private final JacksonMapper mapper;
+    private final Map<String, JsonNode> storedDataTreeCache;
 
     public JsonMerger(JacksonMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * Creates merger which keeps parsed stored data trees in the given cache, keyed by raw stored JSON.
+     * <p>
+     * Since the key is the content itself, updated or invalidated stored data never hits a stale tree.
+     * The cached trees are never modified: merge patch deep-copies its input before applying changes.
+     */
+    public JsonMerger(JacksonMapper mapper, Map<String, JsonNode> storedDataTreeCache) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.storedDataTreeCache = storedDataTreeCache;
     }
 
     /**
@@ -24,24 +37,28 @@ public class JsonMerger {
      * with reason message.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
-        final JsonNode storedRequestJsonNode;
+        final JsonNode mergedNode = merge(mapper.mapper().valueToTree(originalObject), storedData, id);
         try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
-        } catch (IOException e) {
-            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+            return mapper.mapper().treeToValue(mergedNode, classToCast);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException(
+                    "Can't convert merging result for id %s: %s".formatted(id, e.getMessage()));
         }
+    }
+
+    /**
+     * Merges passed json node with json retrieved from stored data map by id. Returns new node, passed one is not
+     * modified. In case of any exception during merging, throws {@link InvalidRequestException} with reason message.
+     */
+    public JsonNode merge(JsonNode originalNode, String storedData, String id) {
+        final JsonNode storedRequestJsonNode = storedDataTree(storedData, id);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
-                    classToCast);
+            return JsonMergePatch.fromJson(originalNode).apply(storedRequestJsonNode);
         } catch (JsonPatchException e) {
             throw new InvalidRequestException(
                     "Couldn't create merge patch from origin object node for id %s: %s".formatted(id, e.getMessage()));
-        } catch (JsonProcessingException e) {
-            throw new InvalidRequestException(
-                    "Can't convert merging result for id %s: %s".formatted(id, e.getMessage()));
         }
     }
 
@@ -75,4 +92,27 @@ public class JsonMerger {
             throw new InvalidRequestException("Couldn't create merge patch for json nodes");
         }
     }
+
+    private JsonNode storedDataTree(String storedData, String id) {
+        if (storedDataTreeCache == null || storedData == null) {
+            return parseStoredData(storedData, id);
+        }
+
+        final JsonNode cachedTree = storedDataTreeCache.get(storedData);
+        if (cachedTree != null) {
+            return cachedTree;
+        }
+
+        final JsonNode parsedTree = parseStoredData(storedData, id);
+        storedDataTreeCache.put(storedData, parsedTree);
+        return parsedTree;
+    }
+
+    private JsonNode parseStoredData(String storedData, String id) {
+        try {
+            return mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+    }
 }
@@ -14,12 +14,12 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
 
-class ZonedDateTimeModule extends SimpleModule {
+public class ZonedDateTimeModule extends SimpleModule {
 
     // see https://stackoverflow.com/q/30090710
     // this format is equal to "yyyy-MM-dd'T'HH:mm:ss.nnnnnnnnnXXX" but allows less than 9 nanosecond digits in
     // parsed strings, as a side effect trailing zeros will be removed when formatting ZonedDateTime into string
-    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+    public static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
             .appendPattern("yyyy-MM-dd'T'HH:mm:ss")
             .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
             .appendPattern("XXX")
@@ -13,6 +13,7 @@ import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.model.HttpLogSpec;
 import org.prebid.server.metric.MetricName;
+import org.prebid.server.model.ResponseBody;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.util.ObjectUtil;
 
@@ -41,7 +42,7 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
                                         RoutingContext routingContext,
                                         int statusCode,
-                                        String responseBody) {
+                                        ResponseBody responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
             logger.info(
@@ -49,7 +50,7 @@ public class HttpInteractionLogger {
                     routingContext.request().uri(),
                     toOneLineString(routingContext.body().asString()),
                     statusCode,
-                    responseBody);
+                    ObjectUtil.getIfNotNull(responseBody, ResponseBody::asString));
 
             incLoggedInteractions();
         }
@@ -66,14 +67,14 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Amp(AuctionContext auctionContext,
                                     RoutingContext routingContext,
                                     int statusCode,
-                                    String responseBody) {
+                                    ResponseBody responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
             logger.info(
                     "Requested URL: \"{}\", response status: \"{}\", response body: \"{}\"",
                     routingContext.request().uri(),
                     statusCode,
-                    responseBody);
+                    ObjectUtil.getIfNotNull(responseBody, ResponseBody::asString));
 
             incLoggedInteractions();
         }
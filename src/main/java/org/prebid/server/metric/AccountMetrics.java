@@ -15,6 +15,7 @@ class AccountMetrics extends UpdatableMetrics {
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
+    private final TrackingMetricRegistry metricRegistry;
     private final Function<MetricName, RequestTypeMetrics> requestTypeMetricsCreator;
     private final Map<MetricName, RequestTypeMetrics> requestTypeMetrics;
     private final AdapterMetrics adapterMetrics;
@@ -26,8 +27,13 @@ class AccountMetrics extends UpdatableMetrics {
     private final ProfileMetrics profileMetrics;
 
     AccountMetrics(MetricRegistry metricRegistry, CounterType counterType, String account) {
-        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+        this(new TrackingMetricRegistry(metricRegistry), counterType, account);
+    }
+
+    private AccountMetrics(TrackingMetricRegistry metricRegistry, CounterType counterType, String account) {
+        super(metricRegistry, Objects.requireNonNull(counterType),
                 nameCreator(createPrefix(Objects.requireNonNull(account))));
+        this.metricRegistry = metricRegistry;
         requestTypeMetricsCreator = requestType ->
                 new RequestTypeMetrics(metricRegistry, counterType, createPrefix(account), requestType);
         adapterMetrics = new AdapterMetrics(metricRegistry, counterType, createPrefix(account));
@@ -40,7 +46,7 @@ class AccountMetrics extends UpdatableMetrics {
         profileMetrics = new ProfileMetrics(metricRegistry, counterType, createPrefix(account));
     }
 
-    private static String createPrefix(String account) {
+    static String createPrefix(String account) {
         return "account." + account;
     }
 
@@ -48,6 +54,14 @@ class AccountMetrics extends UpdatableMetrics {
         return metricName -> "%s.%s".formatted(prefix, metricName);
     }
 
+    /**
+     * Removes metrics registered by this account from the registry. Metrics are matched by exact names, not by
+     * account prefix, since one account id might be a prefix of another one.
+     */
+    void removeMetrics() {
+        metricRegistry.close();
+    }
+
     AdapterMetrics adapter() {
         return adapterMetrics;
     }
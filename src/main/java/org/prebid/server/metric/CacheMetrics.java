@@ -13,6 +13,7 @@ class CacheMetrics extends UpdatableMetrics {
     private final RequestMetrics requestsMetrics;
     private final CacheCreativeSizeMetrics cacheCreativeSizeMetrics;
     private final CacheCreativeTtlMetrics cacheCreativeTtlMetrics;
+    private final CacheBatchMetrics cacheBatchMetrics;
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(
@@ -23,6 +24,7 @@ class CacheMetrics extends UpdatableMetrics {
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix());
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(metricRegistry, counterType, createPrefix());
+        cacheBatchMetrics = new CacheBatchMetrics(metricRegistry, counterType, createPrefix());
     }
 
     CacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -34,6 +36,7 @@ class CacheMetrics extends UpdatableMetrics {
         requestsMetrics = new RequestMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeSizeMetrics = new CacheCreativeSizeMetrics(metricRegistry, counterType, createPrefix(prefix));
         cacheCreativeTtlMetrics = new CacheCreativeTtlMetrics(metricRegistry, counterType, createPrefix(prefix));
+        cacheBatchMetrics = new CacheBatchMetrics(metricRegistry, counterType, createPrefix(prefix));
     }
 
     private static String createPrefix(String prefix) {
@@ -59,4 +62,8 @@ class CacheMetrics extends UpdatableMetrics {
     CacheCreativeTtlMetrics creativeTtl() {
         return cacheCreativeTtlMetrics;
     }
+
+    CacheBatchMetrics batch() {
+        return cacheBatchMetrics;
+    }
 }
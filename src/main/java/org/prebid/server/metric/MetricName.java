@@ -7,6 +7,12 @@ public enum MetricName {
     // connection
     connection_accept_errors,
 
+    // deadline scheduler
+    deadlines_scheduled,
+    deadlines_expired,
+    deadlines_cancelled,
+    deadline_timers_created,
+
     // circuit breaker
     db,
     geo,
@@ -22,6 +28,8 @@ public enum MetricName {
     geolocation_request_time,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
@@ -29,6 +37,9 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    request_compression_time,
+    request_compression_saved_bytes,
+    params_validation_time,
     prices,
     imps_requested,
     imps_dropped,
@@ -107,6 +118,8 @@ public enum MetricName {
     in_geo("in-geo"),
     out_geo("out-geo"),
     unknown_geo("unknown-geo"),
+    consent_cache_hit("consent-cache.hit"),
+    consent_cache_miss("consent-cache.miss"),
 
     // vendor list
     missing,
@@ -122,6 +135,11 @@ public enum MetricName {
     json,
     xml,
 
+    // cache batches
+    objects,
+    auctions,
+    wait_time,
+
     // account.*.requests.
     rejected_by_invalid_account("rejected.invalid-account"),
     rejected_by_invalid_stored_impr("rejected.invalid-stored-impr"),
@@ -139,6 +157,7 @@ public enum MetricName {
     update,
     hit,
     miss,
+    coalesced,
 
     // hooks
     call,
@@ -1,6 +1,7 @@
 package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.Imp;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.ComponentType;
@@ -18,6 +19,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -29,7 +32,9 @@ import java.util.stream.Collectors;
 public class Metrics extends UpdatableMetrics {
 
     private static final String ALL_REQUEST_BIDDERS = "all";
+    private static final int DEFAULT_ACCOUNT_METRICS_CACHE_SIZE = 10_000;
 
+    private final MetricRegistry metricRegistry;
     private final AccountMetricsVerbosityResolver accountMetricsVerbosityResolver;
     private final Function<MetricName, RequestStatusMetrics> requestMetricsCreator;
     private final Function<String, AccountMetrics> accountMetricsCreator;
@@ -65,8 +70,17 @@ public class Metrics extends UpdatableMetrics {
                    CounterType counterType,
                    AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
+        this(metricRegistry, counterType, accountMetricsVerbosityResolver, DEFAULT_ACCOUNT_METRICS_CACHE_SIZE);
+    }
+
+    public Metrics(MetricRegistry metricRegistry,
+                   CounterType counterType,
+                   AccountMetricsVerbosityResolver accountMetricsVerbosityResolver,
+                   int accountMetricsCacheSize) {
+
         super(metricRegistry, counterType, MetricName::toString);
 
+        this.metricRegistry = metricRegistry;
         this.accountMetricsVerbosityResolver = Objects.requireNonNull(accountMetricsVerbosityResolver);
 
         requestMetricsCreator = requestType -> new RequestStatusMetrics(metricRegistry, counterType, requestType);
@@ -83,8 +97,20 @@ public class Metrics extends UpdatableMetrics {
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
         requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
+        // account ids come from requests, so keep only the most active accounts and drop metrics of evicted ones;
+        // eviction listener runs atomically with the eviction, so an account requested again gets fresh metrics
+        // only after metrics of the evicted one are removed
+        accountMetrics = Caffeine.newBuilder()
+                .maximumSize(accountMetricsCacheSize)
+                .executor(Runnable::run)
+                .<String, AccountMetrics>evictionListener((accountId, evicted, cause) -> {
+                    if (evicted != null) {
+                        evicted.removeMetrics();
+                    }
+                })
+                .build()
+                .asMap();
+        adapterMetrics = new ConcurrentHashMap<>();
         analyticMetrics = new HashMap<>();
         priceFloorsMetrics = new HashMap<>();
         alertsMetrics = new AlertsConfigMetrics(metricRegistry, counterType);
@@ -118,7 +144,10 @@ public class Metrics extends UpdatableMetrics {
     }
 
     AdapterTypeMetrics forAdapter(String adapterType) {
-        return adapterMetrics.computeIfAbsent(adapterType.toLowerCase(), adapterMetricsCreator);
+        final AdapterTypeMetrics adapterTypeMetrics = adapterMetrics.get(adapterType);
+        return adapterTypeMetrics != null
+                ? adapterTypeMetrics
+                : adapterMetrics.computeIfAbsent(adapterType, key -> adapterMetricsCreator.apply(key.toLowerCase()));
     }
 
     AnalyticsReporterMetrics forAnalyticReporter(String analyticCode) {
@@ -309,6 +338,16 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateAdapterRequestCompressionMetrics(String bidder, long compressionNanos, long savedBytes) {
+        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
+        adapterTypeMetrics.updateTimer(MetricName.request_compression_time, compressionNanos, TimeUnit.NANOSECONDS);
+        adapterTypeMetrics.updateHistogram(MetricName.request_compression_saved_bytes, savedBytes);
+    }
+
+    public void updateAdapterParamsValidationTime(String bidder, long validationNanos) {
+        forAdapter(bidder).updateTimer(MetricName.params_validation_time, validationNanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, Account account) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosityResolver.forAccount(account).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -519,6 +558,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().incCounter(hit ? MetricName.consent_cache_hit : MetricName.consent_cache_miss);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -559,6 +602,10 @@ public class Metrics extends UpdatableMetrics {
         incCounter(MetricName.connection_accept_errors);
     }
 
+    public void updateDeadlineSchedulerMetric(MetricName event) {
+        incCounter(event);
+    }
+
     public void updateDatabaseQueryTimeMetric(long millis) {
         updateTimer(MetricName.db_query_time, millis);
     }
@@ -591,6 +638,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -627,6 +678,13 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().creativeSize().updateHistogram(creativeType, creativeSize);
     }
 
+    public void updateCacheBatchMetrics(int auctions, int objects, long waitTime) {
+        final CacheBatchMetrics cacheBatchMetrics = cache().batch();
+        cacheBatchMetrics.updateHistogram(MetricName.auctions, auctions);
+        cacheBatchMetrics.updateHistogram(MetricName.objects, objects);
+        cacheBatchMetrics.updateTimer(MetricName.wait_time, waitTime);
+    }
+
     public void updateTimeoutNotificationMetric(boolean success) {
         if (success) {
             timeoutNotificationMetrics.incCounter(MetricName.ok);
@@ -725,6 +783,10 @@ public class Metrics extends UpdatableMetrics {
         requests().activities().incCounter(MetricName.processed_rules_count);
     }
 
+    public void updateRequestsActivityProcessedRulesCount(int count) {
+        requests().activities().incCounter(MetricName.processed_rules_count, count);
+    }
+
     public void updateAccountActivityProcessedRulesCount(String account) {
         forAccount(account).activities().incCounter(MetricName.processed_rules_count);
     }
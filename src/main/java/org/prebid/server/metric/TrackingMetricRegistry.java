@@ -0,0 +1,89 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * View of the shared {@link MetricRegistry} which remembers exact names of the metrics registered through it, so
+ * they can be removed all at once without scanning the whole registry.
+ * <p>
+ * Once closed, it removes registered metrics and hands out detached ones, so that late updates made through
+ * the closed view neither land in the shared registry nor resurrect removed metrics.
+ */
+class TrackingMetricRegistry extends MetricRegistry {
+
+    private final MetricRegistry metricRegistry;
+    private final Set<String> registeredNames;
+    private boolean closed;
+
+    TrackingMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        registeredNames = new HashSet<>();
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return register(name, metricRegistry::counter, Counter::new);
+    }
+
+    @Override
+    public Counter counter(String name, MetricSupplier<Counter> supplier) {
+        return register(name, key -> metricRegistry.counter(key, supplier), supplier::newMetric);
+    }
+
+    @Override
+    public Meter meter(String name) {
+        return register(name, metricRegistry::meter, Meter::new);
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return register(name, metricRegistry::timer, Timer::new);
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return register(name, metricRegistry::histogram, () -> new Histogram(new ExponentiallyDecayingReservoir()));
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public <T extends Gauge> T gauge(String name, MetricSupplier<T> supplier) {
+        return register(name, key -> metricRegistry.gauge(key, supplier), supplier::newMetric);
+    }
+
+    @Override
+    public synchronized boolean remove(String name) {
+        registeredNames.remove(name);
+        return metricRegistry.remove(name);
+    }
+
+    /**
+     * Removes all metrics registered through this view from the shared registry.
+     */
+    synchronized void close() {
+        closed = true;
+        registeredNames.forEach(metricRegistry::remove);
+        registeredNames.clear();
+    }
+
+    private synchronized <T> T register(String name, Function<String, T> registrar, Supplier<T> detachedCreator) {
+        if (closed) {
+            return detachedCreator.get();
+        }
+
+        registeredNames.add(name);
+        return registrar.apply(name);
+    }
+}
@@ -1,35 +1,34 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final CounterResolver counterResolver;
     private final CounterType counterType;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    private final Map<MetricName, MetricHandle> metricHandles;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.counterType = counterType;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricHandles = new ConcurrentHashMap<>();
 
-        incrementer = switch (counterType) {
-            case flushingCounter -> (registry, metricName, value) ->
-                    registry.counter(metricName, ResettingCounter::new).inc(value);
-            case counter -> (registry, metricName, value) -> registry.counter(metricName).inc(value);
-            case meter -> (registry, metricName, value) -> registry.meter(metricName).mark(value);
+        counterResolver = switch (counterType) {
+            case flushingCounter -> (registry, metricName) -> registry.counter(metricName, ResettingCounter::new)::inc;
+            case counter -> (registry, metricName) -> registry.counter(metricName)::inc;
+            case meter -> (registry, metricName) -> registry.meter(metricName)::mark;
         };
     }
 
@@ -44,34 +43,67 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        final MetricHandle handle = handle(metricName);
+
+        LongConsumer counter = handle.counter;
+        if (counter == null) {
+            counter = counterResolver.resolve(metricRegistry, handle.name);
+            handle.counter = counter;
+        }
+        counter.accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        updateTimer(metricName, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Updates metric's timer with a given value in the given time unit.
+     */
+    void updateTimer(MetricName metricName, long duration, TimeUnit unit) {
+        final MetricHandle handle = handle(metricName);
+
+        Timer timer = handle.timer;
+        if (timer == null) {
+            timer = metricRegistry.timer(handle.name);
+            handle.timer = timer;
+        }
+        timer.update(duration, unit);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        final MetricHandle handle = handle(metricName);
+
+        Histogram histogram = handle.histogram;
+        if (histogram == null) {
+            // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+            histogram = metricRegistry.histogram(handle.name);
+            handle.histogram = histogram;
+        }
+        histogram.update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
-        metricRegistry.gauge(name(metricName), () -> supplier::getAsLong);
+        metricRegistry.gauge(handle(metricName).name, () -> supplier::getAsLong);
     }
 
     void removeMetric(MetricName metricName) {
-        metricRegistry.remove(name(metricName));
+        final MetricHandle handle = handle(metricName);
+        handle.reset();
+        metricRegistry.remove(handle.name);
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    private MetricHandle handle(MetricName metricName) {
+        final MetricHandle handle = metricHandles.get(metricName);
+        return handle != null
+                ? handle
+                : metricHandles.computeIfAbsent(metricName, key -> new MetricHandle(nameCreator.apply(key)));
     }
 
     public CounterType getCounterType() {
@@ -79,7 +111,32 @@ class UpdatableMetrics {
     }
 
     @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private interface CounterResolver {
+        LongConsumer resolve(MetricRegistry metricRegistry, String metricName);
+    }
+
+    /**
+     * Full metric name along with the metrics resolved by it from the registry, so the registry is consulted only
+     * once per metric instead of on every update.
+     */
+    private static class MetricHandle {
+
+        private final String name;
+
+        private volatile LongConsumer counter;
+
+        private volatile Timer timer;
+
+        private volatile Histogram histogram;
+
+        MetricHandle(String name) {
+            this.name = name;
+        }
+
+        void reset() {
+            counter = null;
+            timer = null;
+            histogram = null;
+        }
     }
 }
@@ -0,0 +1,77 @@
+package org.prebid.server.model;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Body of HTTP response, either sent by Prebid Server or received by it.
+ * <p>
+ * Body is kept as the bytes which are written to or were read from the wire as is. The {@link String} view is built
+ * lazily, only when somebody asks for it (e.g. exitpoint hooks, debug info or bidders not parsing JSON).
+ */
+public final class ResponseBody {
+
+    private final Buffer buffer;
+
+    private volatile String body;
+
+    private ResponseBody(Buffer buffer, String body) {
+        this.buffer = buffer;
+        this.body = body;
+    }
+
+    public static ResponseBody of(String body) {
+        return new ResponseBody(null, body);
+    }
+
+    public static ResponseBody ofBuffer(Buffer buffer) {
+        return new ResponseBody(Objects.requireNonNull(buffer), null);
+    }
+
+    /**
+     * Returns body as raw bytes without any charset decoding, or empty buffer if there is no body.
+     */
+    public Buffer asBuffer() {
+        if (buffer != null) {
+            return buffer;
+        }
+
+        final String currentBody = body;
+        return currentBody != null ? Buffer.buffer(currentBody, StandardCharsets.UTF_8.name()) : Buffer.buffer();
+    }
+
+    /**
+     * Returns body decoded as UTF-8 string. Decoding happens only once per response.
+     */
+    public String asString() {
+        String result = body;
+        if (result == null && buffer != null) {
+            result = buffer.toString(StandardCharsets.UTF_8);
+            body = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(asString(), ((ResponseBody) o).asString());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(asString());
+    }
+
+    @Override
+    public String toString() {
+        return asString();
+    }
+}
@@ -1,5 +1,6 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import lombok.Value;
@@ -25,6 +26,8 @@ import org.prebid.server.settings.model.Purposes;
 import org.prebid.server.settings.model.SpecialFeature;
 import org.prebid.server.settings.model.SpecialFeatures;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -43,12 +46,15 @@ public class Tcf2Service {
     private final List<SpecialFeaturesStrategy> specialFeaturesStrategies;
     private final BidderCatalog bidderCatalog;
     private final PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+    private final Map<PermissionKey, VendorPermission> permissionsCache;
 
     public Tcf2Service(GdprConfig gdprConfig,
                        List<PurposeStrategy> purposeStrategies,
                        List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                        VersionedVendorListService versionedVendorListService,
-                       BidderCatalog bidderCatalog) {
+                       BidderCatalog bidderCatalog,
+                       long permissionsCacheTtlMs,
+                       int permissionsCacheSize) {
 
         this.defaultPurposes = gdprConfig.getPurposes() == null ? Purposes.builder().build() : gdprConfig.getPurposes();
         this.defaultSpecialFeatures = ObjectUtils.defaultIfNull(
@@ -59,6 +65,13 @@ public class Tcf2Service {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.purposeStrategies = Objects.requireNonNull(purposeStrategies);
         this.specialFeaturesStrategies = Objects.requireNonNull(specialFeaturesStrategies);
+        this.permissionsCache = permissionsCacheTtlMs > 0 && permissionsCacheSize > 0
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(permissionsCacheTtlMs))
+                .maximumSize(permissionsCacheSize)
+                .<PermissionKey, VendorPermission>build()
+                .asMap()
+                : null;
     }
 
     public Future<Collection<VendorPermission>> permissionsFor(Set<Integer> vendorIds, TCString tcfConsent) {
@@ -95,10 +108,60 @@ public class Tcf2Service {
                 .toList();
     }
 
+    /**
+     * Returns permissions of the given vendors, reusing the ones resolved recently for the same consent and account.
+     * <p>
+     * Permissions are memoized per vendor, consent instance and account config instance: the decoded consent comes
+     * from {@link TcfConsentDecoder} cache and account config from settings cache, so the same instances are shared by
+     * the requests with the same consent of the same account. Vendor list version is defined by the consent. Only
+     * permissions resolved against the vendor list are memoized, the downgraded ones are resolved on every call until
+     * vendor list becomes available.
+     */
     private Future<Collection<VendorPermission>> permissionsForInternal(Collection<VendorPermission> vendorPermissions,
                                                                         TCString tcfConsent,
                                                                         AccountGdprConfig accountGdprConfig) {
 
+        if (permissionsCache == null) {
+            return resolvePermissions(vendorPermissions, tcfConsent, accountGdprConfig)
+                    .map(ignored -> vendorPermissions);
+        }
+
+        final List<VendorPermission> result = new ArrayList<>(vendorPermissions.size());
+        final List<VendorPermission> missingPermissions = new ArrayList<>();
+        for (VendorPermission vendorPermission : vendorPermissions) {
+            final VendorPermission memoizedPermission =
+                    permissionsCache.get(PermissionKey.of(tcfConsent, accountGdprConfig, vendorPermission));
+
+            if (memoizedPermission != null) {
+                result.add(copyOf(memoizedPermission));
+            } else {
+                result.add(vendorPermission);
+                missingPermissions.add(vendorPermission);
+            }
+        }
+
+        if (missingPermissions.isEmpty()) {
+            return Future.succeededFuture(result);
+        }
+
+        return resolvePermissions(missingPermissions, tcfConsent, accountGdprConfig)
+                .map(resolvedWithVendorList -> {
+                    if (resolvedWithVendorList) {
+                        missingPermissions.forEach(vendorPermission -> permissionsCache.put(
+                                PermissionKey.of(tcfConsent, accountGdprConfig, vendorPermission),
+                                copyOf(vendorPermission)));
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Updates given permissions according to the consent and returns whether vendor list was used for that.
+     */
+    private Future<Boolean> resolvePermissions(Collection<VendorPermission> vendorPermissions,
+                                               TCString tcfConsent,
+                                               AccountGdprConfig accountGdprConfig) {
+
         final Purposes mergedPurposes = mergeAccountPurposes(accountGdprConfig);
         final PurposeOneTreatmentInterpretation mergedPurposeOneTreatmentInterpretation =
                 mergePurposeOneTreatmentInterpretation(accountGdprConfig);
@@ -111,17 +174,33 @@ public class Tcf2Service {
                                 tcfConsent,
                                 wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions),
                                 mergedPurposes,
-                                mergedPurposeOneTreatmentInterpretation),
+                                mergedPurposeOneTreatmentInterpretation)
+                                .map(true),
                         ignored -> processDowngradedSupportedPurposeStrategies(
                                 tcfConsent,
                                 wrapWithGVL(vendorPermissionsByType, Collections.emptyMap()),
                                 mergedPurposes,
-                                mergedPurposeOneTreatmentInterpretation))
-                .map(ignored -> enforcePurpose4IfRequired(mergedPurposes, vendorPermissionsByType))
-                .map(ignored -> processSupportedSpecialFeatureStrategies(
-                        tcfConsent,
-                        vendorPermissions,
-                        mergeAccountSpecialFeatures(accountGdprConfig)));
+                                mergedPurposeOneTreatmentInterpretation)
+                                .map(false))
+                .compose(resolvedWithVendorList -> enforcePurpose4IfRequired(mergedPurposes, vendorPermissionsByType)
+                        .map(ignored -> {
+                            processSupportedSpecialFeatureStrategies(
+                                    tcfConsent,
+                                    vendorPermissions,
+                                    mergeAccountSpecialFeatures(accountGdprConfig));
+                            return resolvedWithVendorList;
+                        }));
+    }
+
+    private static VendorPermission copyOf(VendorPermission vendorPermission) {
+        final VendorPermission copy = VendorPermission.of(
+                vendorPermission.getVendorId(),
+                vendorPermission.getBidderName(),
+                vendorPermission.getPrivacyEnforcementAction().toBuilder().build());
+
+        vendorPermission.getConsentedPurposes().forEach(copy::consentWith);
+        vendorPermission.getNaturallyConsentedPurposes().forEach(copy::consentNaturallyWith);
+        return copy;
     }
 
     private static VendorPermissionsByType<VendorPermission> toVendorPermissionsByType(
@@ -421,6 +500,66 @@ public class Tcf2Service {
         return prioritisedItem == null ? item : prioritisedItem;
     }
 
+    /**
+     * Consent and account config are compared by identity: comparing them by value costs more than resolving
+     * permissions.
+     */
+    private static final class PermissionKey {
+
+        private final TCString tcfConsent;
+
+        private final AccountGdprConfig accountGdprConfig;
+
+        private final Integer vendorId;
+
+        private final String bidderName;
+
+        private PermissionKey(TCString tcfConsent,
+                              AccountGdprConfig accountGdprConfig,
+                              Integer vendorId,
+                              String bidderName) {
+
+            this.tcfConsent = tcfConsent;
+            this.accountGdprConfig = accountGdprConfig;
+            this.vendorId = vendorId;
+            this.bidderName = bidderName;
+        }
+
+        static PermissionKey of(TCString tcfConsent,
+                                AccountGdprConfig accountGdprConfig,
+                                VendorPermission vendorPermission) {
+
+            return new PermissionKey(
+                    tcfConsent,
+                    accountGdprConfig,
+                    vendorPermission.getVendorId(),
+                    vendorPermission.getBidderName());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PermissionKey that)) {
+                return false;
+            }
+            return tcfConsent == that.tcfConsent
+                    && accountGdprConfig == that.accountGdprConfig
+                    && Objects.equals(vendorId, that.vendorId)
+                    && Objects.equals(bidderName, that.bidderName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(tcfConsent);
+            result = 31 * result + System.identityHashCode(accountGdprConfig);
+            result = 31 * result + Objects.hashCode(vendorId);
+            result = 31 * result + Objects.hashCode(bidderName);
+            return result;
+        }
+    }
+
     @Value(staticConstructor = "of")
     private static class VendorPermissionsByType<T> {
 
@@ -0,0 +1,140 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iabtcf.decoder.TCString;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decodes TCF consent strings.
+ * <p>
+ * Decoded {@link TCString}s are cached by the raw consent string, so the same consent coming with many requests is
+ * decoded once. Cache is bounded by the total length of cached consent strings. Strings failed to decode are cached
+ * as well, together with the reason of failure.
+ * <p>
+ * Decoded consent reads its fields lazily, so every field is read once before the consent is cached. After that
+ * the consent is effectively immutable and safe to be shared between threads.
+ */
+public class TcfConsentDecoder {
+
+    private final Map<String, DecodingResult> cache;
+    private final Metrics metrics;
+
+    public TcfConsentDecoder(long cacheMaxWeight, Metrics metrics) {
+        if (cacheMaxWeight < 0) {
+            throw new IllegalArgumentException("Consent cache max weight must be non-negative");
+        }
+
+        this.cache = cacheMaxWeight > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(cacheMaxWeight)
+                .<String, DecodingResult>weigher((consentString, result) -> consentString.length())
+                .<String, DecodingResult>build()
+                .asMap()
+                : null;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns decoded consent or throws {@link PreBidException} with the reason of failure.
+     */
+    public TCString decode(String consentString) {
+        final DecodingResult result = cache != null ? decodeCached(consentString) : decodeInternal(consentString);
+        if (result.tcString == null) {
+            throw new PreBidException(result.error);
+        }
+
+        return result.tcString;
+    }
+
+    private DecodingResult decodeCached(String consentString) {
+        final DecodingResult cachedResult = cache.get(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cachedResult != null);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final DecodingResult result = decodeInternal(consentString);
+        if (result.cacheable) {
+            cache.put(consentString, result);
+        }
+
+        return result;
+    }
+
+    private static DecodingResult decodeInternal(String consentString) {
+        final TCString tcString;
+        try {
+            tcString = TCString.decode(consentString);
+        } catch (Exception e) {
+            return DecodingResult.failure(e.getMessage());
+        }
+
+        try {
+            readAllFields(tcString);
+        } catch (Exception e) {
+            // consent is still usable for the fields which can be read, just do not share it
+            return DecodingResult.notCacheable(tcString);
+        }
+
+        return DecodingResult.success(tcString);
+    }
+
+    private static void readAllFields(TCString tcString) {
+        tcString.getVersion();
+        tcString.getCreated();
+        tcString.getLastUpdated();
+        tcString.getCmpId();
+        tcString.getCmpVersion();
+        tcString.getConsentScreen();
+        tcString.getConsentLanguage();
+        tcString.getVendorListVersion();
+        tcString.getTcfPolicyVersion();
+        tcString.isServiceSpecific();
+        tcString.getUseNonStandardStacks();
+        tcString.getSpecialFeatureOptIns();
+        tcString.getPurposesConsent();
+        tcString.getPurposesLITransparency();
+        tcString.getPurposeOneTreatment();
+        tcString.getPublisherCC();
+        tcString.getVendorConsent();
+        tcString.getVendorLegitimateInterest();
+        tcString.getPublisherRestrictions();
+        tcString.getAllowedVendors();
+        tcString.getDisclosedVendors();
+        tcString.getPubPurposesConsent();
+        tcString.getPubPurposesLITransparency();
+        tcString.getCustomPurposesConsent();
+        tcString.getCustomPurposesLITransparency();
+    }
+
+    private static final class DecodingResult {
+
+        private final TCString tcString;
+
+        private final String error;
+
+        private final boolean cacheable;
+
+        private DecodingResult(TCString tcString, String error, boolean cacheable) {
+            this.tcString = tcString;
+            this.error = error;
+            this.cacheable = cacheable;
+        }
+
+        static DecodingResult success(TCString tcString) {
+            return new DecodingResult(tcString, null, true);
+        }
+
+        static DecodingResult notCacheable(TCString tcString) {
+            return new DecodingResult(tcString, null, false);
+        }
+
+        static DecodingResult failure(String error) {
+            return new DecodingResult(null, error, true);
+        }
+    }
+}
@@ -1,20 +1,21 @@
 package org.prebid.server.privacy.gdpr.tcfstrategies.purpose.typestrategies;
 
 import com.iabtcf.decoder.TCString;
+import com.iabtcf.v2.PublisherRestriction;
 import com.iabtcf.v2.RestrictionType;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.map.DefaultedMap;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.PurposeCode;
 import org.prebid.server.privacy.gdpr.vendorlist.proto.Vendor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
@@ -37,35 +38,64 @@ public class FullEnforcePurposeStrategy extends EnforcePurposeStrategy {
                         isEnforceVendors,
                         vendorPermissionWithGvl,
                         vendorConsent,
-                        vendorToRestriction.get(vendorPermissionWithGvl.getVendorPermission().getVendorId())))
+                        vendorToRestriction.getOrDefault(
+                                vendorPermissionWithGvl.getVendorPermission().getVendorId(),
+                                RestrictionType.UNDEFINED)))
                 .map(VendorPermissionWithGvl::getVendorPermission);
 
         return Stream.concat(allowedExcluded, allowedVendorPermissions);
     }
 
+    /**
+     * Returns publisher restrictions of the given purpose for the participating vendors only. Restrictions are
+     * checked for each participating vendor, so the cost does not depend on the number of restricted vendors.
+     */
     private static Map<Integer, RestrictionType> vendorToRestriction(
             PurposeCode purpose,
             TCString vendorConsent,
             Collection<VendorPermissionWithGvl> vendorsForPurpose,
             Collection<VendorPermissionWithGvl> excludedVendors) {
 
-        final Set<Integer> participatingVendorsIds =
-                Stream.concat(vendorsForPurpose.stream(), excludedVendors.stream())
-                        .map(VendorPermissionWithGvl::getVendorPermission)
-                        .map(VendorPermission::getVendorId)
-                        .collect(Collectors.toSet());
+        final List<PublisherRestriction> purposeRestrictions = new ArrayList<>();
+        for (PublisherRestriction publisherRestriction : vendorConsent.getPublisherRestrictions()) {
+            if (publisherRestriction.getPurposeId() == purpose.code()) {
+                purposeRestrictions.add(publisherRestriction);
+            }
+        }
+        if (purposeRestrictions.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
         final Map<Integer, RestrictionType> publisherRestrictions = new HashMap<>();
-        vendorConsent.getPublisherRestrictions().stream()
-                .filter(publisherRestriction -> publisherRestriction.getPurposeId() == purpose.code())
-                .forEach(publisherRestriction -> publisherRestriction.getVendorIds().toStream()
-                        .filter(participatingVendorsIds::contains)
-                        .forEach(vendorId -> publisherRestrictions.merge(
-                                vendorId,
-                                publisherRestriction.getRestrictionType(),
-                                (first, second) -> second == RestrictionType.NOT_ALLOWED ? second : first)));
-
-        return DefaultedMap.defaultedMap(publisherRestrictions, RestrictionType.UNDEFINED);
+        addRestrictions(purposeRestrictions, vendorsForPurpose, publisherRestrictions);
+        addRestrictions(purposeRestrictions, excludedVendors, publisherRestrictions);
+        return publisherRestrictions;
+    }
+
+    private static void addRestrictions(List<PublisherRestriction> purposeRestrictions,
+                                        Collection<VendorPermissionWithGvl> vendors,
+                                        Map<Integer, RestrictionType> publisherRestrictions) {
+
+        for (VendorPermissionWithGvl vendor : vendors) {
+            final Integer vendorId = vendor.getVendorPermission().getVendorId();
+            if (vendorId == null || publisherRestrictions.containsKey(vendorId)) {
+                continue;
+            }
+
+            RestrictionType vendorRestriction = null;
+            for (PublisherRestriction publisherRestriction : purposeRestrictions) {
+                if (publisherRestriction.getVendorIds().contains(vendorId)) {
+                    final RestrictionType restrictionType = publisherRestriction.getRestrictionType();
+                    vendorRestriction = vendorRestriction == null || restrictionType == RestrictionType.NOT_ALLOWED
+                            ? restrictionType
+                            : vendorRestriction;
+                }
+            }
+
+            if (vendorRestriction != null) {
+                publisherRestrictions.put(vendorId, vendorRestriction);
+            }
+        }
     }
 
     private boolean isNotRestricted(VendorPermission vendorPermission,
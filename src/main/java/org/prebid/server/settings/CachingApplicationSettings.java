@@ -1,9 +1,14 @@
 package org.prebid.server.settings;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
@@ -15,31 +20,64 @@ import org.prebid.server.settings.model.Profile;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
+import org.prebid.server.vertx.DeadlineScheduler;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+/**
+ * Caches results of the delegate {@link ApplicationSettings}.
+ * <p>
+ * Concurrent misses of the same key share a single delegate call, so an expired popular account or stored request
+ * doesn't produce a burst of identical queries to the backend. Those waiting for the call made by another request
+ * are limited by their own timeout and get the result on their own context.
+ * <p>
+ * When stale grace period is configured, accounts and categories are kept for that long after their ttl has passed
+ * and are served stale while a single refresh of them runs in the background with its own timeout.
+ */
 public class CachingApplicationSettings implements ApplicationSettings {
 
     private static final Logger logger = LoggerFactory.getLogger(CachingApplicationSettings.class);
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Map<String, CachedValue<Account>> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Map<String, CachedValue<Map<String, String>>> categoryConfigCache;
     private final SettingsCache<String> cache;
     private final SettingsCache<String> ampCache;
     private final SettingsCache<String> videoCache;
     private final SettingsCache<Profile> profileCache;
     private final Metrics metrics;
+    private final TimeoutFactory timeoutFactory;
+    private final DeadlineScheduler deadlineScheduler;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long jitterMillis;
+    private final long staleGraceMillis;
+    private final long staleRefreshTimeoutMs;
+
+    private final Map<String, Future<Account>> accountRequests = new ConcurrentHashMap<>();
+    private final Map<String, Future<Map<String, String>>> categoryRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> storedDataRequests = new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> ampStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<String>>> videoStoredDataRequests =
+            new ConcurrentHashMap<>();
+    private final Map<StoredDataKey, Future<StoredDataResult<Profile>>> profileRequests = new ConcurrentHashMap<>();
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache<String> cache,
@@ -47,9 +85,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       SettingsCache<String> videoCache,
                                       SettingsCache<Profile> profileCache,
                                       Metrics metrics,
+                                      TimeoutFactory timeoutFactory,
+                                      DeadlineScheduler deadlineScheduler,
+                                      Clock clock,
                                       int ttl,
                                       int size,
-                                      int jitter) {
+                                      int jitter,
+                                      int staleGrace,
+                                      long staleRefreshTimeoutMs) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
@@ -57,17 +100,30 @@ public class CachingApplicationSettings implements ApplicationSettings {
         if (jitter < 0 || jitter >= ttl) {
             throw new IllegalArgumentException("jitter must match the inequality: 0 <= jitter < ttl");
         }
+        if (staleGrace < 0) {
+            throw new IllegalArgumentException("stale grace must not be negative");
+        }
+        if (staleRefreshTimeoutMs <= 0) {
+            throw new IllegalArgumentException("stale refresh timeout must be positive");
+        }
 
         this.delegate = Objects.requireNonNull(delegate);
-        this.accountCache = SettingsCache.createCache(ttl, size, jitter);
+        this.accountCache = SettingsCache.createCache(ttl + staleGrace, size, jitter);
         this.accountToErrorCache = SettingsCache.createCache(ttl, size, jitter);
         this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size, jitter);
-        this.categoryConfigCache = SettingsCache.createCache(ttl, size, jitter);
+        this.categoryConfigCache = SettingsCache.createCache(ttl + staleGrace, size, jitter);
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.profileCache = Objects.requireNonNull(profileCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler);
+        this.clock = Objects.requireNonNull(clock);
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttl);
+        this.jitterMillis = TimeUnit.SECONDS.toMillis(jitter);
+        this.staleGraceMillis = TimeUnit.SECONDS.toMillis(staleGrace);
+        this.staleRefreshTimeoutMs = staleRefreshTimeoutMs;
     }
 
     @Override
@@ -75,24 +131,38 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountRequests,
                 StringUtils.isBlank(accountId) ? StringUtils.EMPTY : accountId,
                 timeout,
                 delegate::getAccountById,
                 event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    private <T> Future<T> getFromCacheOrDelegate(Map<String, CachedValue<T>> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 Map<String, Future<T>> inFlightRequests,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
 
-        final T cachedValue = cache.get(key);
+        final CachedValue<T> cachedValue = cache.get(key);
         if (cachedValue != null) {
-            metricUpdater.accept(MetricName.hit);
+            if (isStale(cachedValue)) {
+                metricUpdater.accept(MetricName.stale);
+                // nobody waits for the refresh, so it doesn't inherit the timeout of the request which triggered it
+                final Timeout refreshTimeout = timeoutFactory.create(staleRefreshTimeoutMs);
+                retrieveOnce(
+                        inFlightRequests,
+                        key,
+                        null,
+                        () -> retrieveAndCache(cache, accountToErrorCache, key, refreshTimeout, retriever),
+                        CachingApplicationSettings::noOp);
+            } else {
+                metricUpdater.accept(MetricName.hit);
+            }
 
-            return Future.succeededFuture(cachedValue);
+            return Future.succeededFuture(cachedValue.value());
         }
 
         metricUpdater.accept(MetricName.miss);
@@ -102,32 +172,136 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
+        return retrieveOnce(
+                inFlightRequests,
+                key,
+                timeout,
+                () -> retrieveAndCache(cache, accountToErrorCache, key, timeout, retriever),
+                metricUpdater);
+    }
+
+    private boolean isStale(CachedValue<?> cachedValue) {
+        return staleGraceMillis > 0 && clock.millis() >= cachedValue.staleAt();
+    }
+
+    private <T> Future<T> retrieveAndCache(Map<String, CachedValue<T>> cache,
+                                           Map<String, String> accountToErrorCache,
+                                           String key,
+                                           Timeout timeout,
+                                           BiFunction<String, Timeout, Future<T>> retriever) {
+
         return retriever.apply(key, timeout)
                 .map(value -> {
-                    cache.put(key, value);
+                    cache.put(key, new CachedValue<>(value, staleAt()));
                     return value;
                 })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, cache, accountToErrorCache));
+    }
+
+    private long staleAt() {
+        final long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis) : 0L;
+        return clock.millis() + ttlMillis + jitter;
     }
 
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
                                                             String key,
-                                                            Map<String, String> cache) {
+                                                            Map<String, ?> cache,
+                                                            Map<String, String> errorCache) {
 
         if (throwable instanceof PreBidException) {
-            cache.put(key, throwable.getMessage());
+            // stale value is not served anymore if delegate doesn't know it
+            cache.remove(key);
+            errorCache.put(key, throwable.getMessage());
         }
 
         return Future.failedFuture(throwable);
     }
 
+    /**
+     * Returns result of the delegate call that is already made for the given key or makes a new one. Timeout limits
+     * waiting for the call made by another request, it is null if the caller doesn't wait for the result.
+     */
+    private <K, T> Future<T> retrieveOnce(Map<K, Future<T>> inFlightRequests,
+                                          K key,
+                                          Timeout timeout,
+                                          Supplier<Future<T>> retriever,
+                                          Consumer<MetricName> metricUpdater) {
+
+        final Promise<T> promise = Promise.promise();
+        final Future<T> inFlightRequest = inFlightRequests.putIfAbsent(key, promise.future());
+        if (inFlightRequest != null) {
+            metricUpdater.accept(MetricName.coalesced);
+            return timeout != null ? awaitInFlight(inFlightRequest, timeout) : inFlightRequest;
+        }
+
+        Future<T> retrieved;
+        try {
+            retrieved = retriever.get();
+        } catch (RuntimeException e) {
+            retrieved = Future.failedFuture(e);
+        }
+
+        retrieved.onComplete(result -> {
+            inFlightRequests.remove(key, promise.future());
+            promise.handle(result);
+        });
+
+        return promise.future();
+    }
+
+    /**
+     * Waits for the delegate call made by another request no longer than the given timeout. The call is completed on
+     * the context of the request which made it, so the result is passed to the context of the waiting one.
+     */
+    private <T> Future<T> awaitInFlight(Future<T> inFlightRequest, Timeout timeout) {
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        final Context context = Vertx.currentContext();
+        final Promise<T> promise = Promise.promise();
+        final DeadlineScheduler.Deadline deadline = deadlineScheduler.schedule(remainingTimeout, ignored ->
+                promise.tryFail(new TimeoutException("Timeout has been exceeded")));
+
+        inFlightRequest.onComplete(result -> {
+            if (context == null || context == Vertx.currentContext()) {
+                completeWaiter(promise, deadline, result);
+            } else {
+                context.runOnContext(ignored -> completeWaiter(promise, deadline, result));
+            }
+        });
+
+        return promise.future();
+    }
+
+    private static <T> void completeWaiter(Promise<T> promise,
+                                           DeadlineScheduler.Deadline deadline,
+                                           AsyncResult<T> result) {
+
+        deadline.cancel();
+        if (result.succeeded()) {
+            promise.tryComplete(result.result());
+        } else {
+            promise.tryFail(result.cause());
+        }
+    }
+
     @Override
     public Future<StoredDataResult<String>> getStoredData(String accountId,
                                                           Set<String> requestIds,
                                                           Set<String> impIds,
                                                           Timeout timeout) {
 
-        return getStoredDataFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getStoredDataFromCacheOrDelegate(
+                cache,
+                storedDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.stored_request, event));
     }
 
     @Override
@@ -137,7 +311,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                              Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+                ampCache,
+                ampStoredDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getAmpStoredData,
+                event -> metrics.updateSettingsCacheEventMetric(MetricName.amp_stored_request, event));
     }
 
     @Override
@@ -147,7 +328,14 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                                Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+                videoCache,
+                videoStoredDataRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getVideoStoredData,
+                CachingApplicationSettings::noOp);
     }
 
     @Override
@@ -157,15 +345,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                          Timeout timeout) {
 
         return getStoredDataFromCacheOrDelegate(
-                profileCache, accountId, requestIds, impIds, timeout, delegate::getProfiles);
+                profileCache,
+                profileRequests,
+                accountId,
+                requestIds,
+                impIds,
+                timeout,
+                delegate::getProfiles,
+                CachingApplicationSettings::noOp);
     }
 
-    private static <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(SettingsCache<T> cache,
-                                                                                    String accountId,
-                                                                                    Set<String> requestIds,
-                                                                                    Set<String> impIds,
-                                                                                    Timeout timeout,
-                                                                                    StoredDataFetcher<T> retriever) {
+    private <T> Future<StoredDataResult<T>> getStoredDataFromCacheOrDelegate(
+            SettingsCache<T> cache,
+            Map<StoredDataKey, Future<StoredDataResult<T>>> inFlightRequests,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<T> retriever,
+            Consumer<MetricName> metricUpdater) {
 
         // empty string account ID doesn't make sense
         final String normalizedAccountId = StringUtils.stripToNull(accountId);
@@ -189,18 +387,17 @@ public class CachingApplicationSettings implements ApplicationSettings {
                             Collections.emptyList()));
         }
 
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, T> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        final Future<StoredDataResult<T>> delegateResult = retrieveOnce(
+                inFlightRequests,
+                new StoredDataKey(normalizedAccountId, missedRequestIds, missedImpIds),
+                timeout,
+                () -> retrieveAndCacheStoredData(
+                        cache, normalizedAccountId, missedRequestIds, missedImpIds, timeout, retriever),
+                metricUpdater);
 
-            final Map<String, T> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, T> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        return delegateResult.map(result -> {
+            storedIdToRequest.putAll(result.getStoredIdToRequest());
+            storedIdToImp.putAll(result.getStoredIdToImp());
 
             return StoredDataResult.of(
                     Collections.unmodifiableMap(storedIdToRequest),
@@ -209,6 +406,25 @@ public class CachingApplicationSettings implements ApplicationSettings {
         });
     }
 
+    private static <T> Future<StoredDataResult<T>> retrieveAndCacheStoredData(SettingsCache<T> cache,
+                                                                              String accountId,
+                                                                              Set<String> requestIds,
+                                                                              Set<String> impIds,
+                                                                              Timeout timeout,
+                                                                              StoredDataFetcher<T> retriever) {
+
+        return retriever.apply(accountId, requestIds, impIds, timeout).map(result -> {
+            for (Map.Entry<String, T> entry : result.getStoredIdToRequest().entrySet()) {
+                cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, T> entry : result.getStoredIdToImp().entrySet()) {
+                cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
+            }
+
+            return result;
+        });
+    }
+
     private static <T> Map<String, T> getFromCacheOrAddMissedIds(String accountId,
                                                                  Set<String> ids,
                                                                  Map<String, Set<StoredItem<T>>> cache,
@@ -242,6 +458,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 categoryConfigCache,
                 adServerPublisherToErrorCache,
+                categoryRequests,
                 compoundKey,
                 timeout,
                 (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
@@ -256,4 +473,10 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private static <ANY> void noOp(ANY any) {
     }
+
+    private record CachedValue<T>(T value, long staleAt) {
+    }
+
+    private record StoredDataKey(String accountId, Set<String> requestIds, Set<String> impIds) {
+    }
 }
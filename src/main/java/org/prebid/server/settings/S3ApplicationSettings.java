@@ -15,6 +15,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.Profile;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
+import org.prebid.server.vertx.DeadlineScheduler;
 import software.amazon.awssdk.core.BytesWrapper;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -50,6 +51,7 @@ public class S3ApplicationSettings implements ApplicationSettings {
     final String storedResponsesDirectory;
     final JacksonMapper jacksonMapper;
     final Vertx vertx;
+    final DeadlineScheduler deadlineScheduler;
 
     public S3ApplicationSettings(S3AsyncClient asyncClient,
                                  String bucket,
@@ -58,7 +60,8 @@ public class S3ApplicationSettings implements ApplicationSettings {
                                  String storedRequestsDirectory,
                                  String storedResponsesDirectory,
                                  JacksonMapper jacksonMapper,
-                                 Vertx vertx) {
+                                 Vertx vertx,
+                                 DeadlineScheduler deadlineScheduler) {
 
         this.asyncClient = Objects.requireNonNull(asyncClient);
         this.bucket = Objects.requireNonNull(bucket);
@@ -68,6 +71,7 @@ public class S3ApplicationSettings implements ApplicationSettings {
         this.storedResponsesDirectory = Objects.requireNonNull(storedResponsesDirectory);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.vertx = Objects.requireNonNull(vertx);
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler);
     }
 
     @Override
@@ -221,11 +225,11 @@ public class S3ApplicationSettings implements ApplicationSettings {
         final Promise<T> promise = Promise.promise();
         final Future<T> future = futureFactory.get();
 
-        final long timerId = vertx.setTimer(remainingTime, id ->
+        final DeadlineScheduler.Deadline deadline = deadlineScheduler.schedule(remainingTime, ignored ->
                 promise.tryFail(new TimeoutException("Timeout has been exceeded")));
 
         future.onComplete(result -> {
-            vertx.cancelTimer(timerId);
+            deadline.cancel();
             if (result.succeeded()) {
                 promise.tryComplete(result.result());
             } else {
@@ -5,8 +5,10 @@ import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.GeoLocationServiceWrapper;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
+import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.FileUtil;
 import org.prebid.server.execution.file.syncer.FileSyncer;
+import org.prebid.server.geolocation.CachingGeoLocationService;
 import org.prebid.server.geolocation.CircuitBreakerSecuredGeoLocationService;
 import org.prebid.server.geolocation.ConfigurationGeoLocationService;
 import org.prebid.server.geolocation.CountryCodeMapper;
@@ -15,6 +17,7 @@ import org.prebid.server.geolocation.MaxMindGeoLocationService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.FileSyncerProperties;
+import org.prebid.server.spring.config.model.GeoLocationCacheProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -55,35 +58,86 @@ public class GeoLocationConfiguration {
             return new FileSyncerProperties();
         }
 
+        @Bean
+        @ConditionalOnProperty(prefix = "geolocation.cache", name = "enabled", havingValue = "true")
+        @ConfigurationProperties(prefix = "geolocation.cache")
+        GeoLocationCacheProperties maxMindGeoLocationCacheProperties() {
+            return new GeoLocationCacheProperties();
+        }
+
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.memory-mapped:false}") boolean memoryMapped,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
+                Metrics metrics,
+                Vertx vertx) {
+
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(memoryMapped);
+            final GeoLocationService geoLocationService =
+                    withCache(maxMindGeoLocationService, cacheProperties, metrics);
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            syncDatabase(maxMindGeoLocationService, geoLocationService, fileSyncerProperties, vertx);
+            return geoLocationService;
         }
 
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
-        CircuitBreakerSecuredGeoLocationService circuitBreakerSecuredGeoLocationService(
+        GeoLocationService circuitBreakerSecuredGeoLocationService(
                 Vertx vertx,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.memory-mapped:false}") boolean memoryMapped,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
+                @Autowired(required = false) GeoLocationCacheProperties cacheProperties,
                 Clock clock) {
 
-            return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
-                    circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                    circuitBreakerProperties.getClosingIntervalMs(), clock);
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(memoryMapped);
+            final GeoLocationService circuitBreakerSecuredGeoLocationService =
+                    new CircuitBreakerSecuredGeoLocationService(vertx,
+                            maxMindGeoLocationService, metrics,
+                            circuitBreakerProperties.getOpeningThreshold(),
+                            circuitBreakerProperties.getOpeningIntervalMs(),
+                            circuitBreakerProperties.getClosingIntervalMs(), clock);
+            final GeoLocationService geoLocationService =
+                    withCache(circuitBreakerSecuredGeoLocationService, cacheProperties, metrics);
+
+            syncDatabase(maxMindGeoLocationService, geoLocationService, fileSyncerProperties, vertx);
+            return geoLocationService;
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
-            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
+        /**
+         * Starts syncing database file. Results cached on top of the service are dropped on each database update,
+         * otherwise they would be served from the previous database until expired.
+         */
+        private static void syncDatabase(MaxMindGeoLocationService maxMindGeoLocationService,
+                                         GeoLocationService geoLocationService,
+                                         FileSyncerProperties properties,
+                                         Vertx vertx) {
+
+            final FileProcessor fileProcessor = geoLocationService instanceof CachingGeoLocationService cachingService
+                    ? dataFilePath -> maxMindGeoLocationService.setDataPath(dataFilePath)
+                    .onSuccess(ignored -> cachingService.invalidateAll())
+                    : maxMindGeoLocationService;
+
+            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(fileProcessor, properties, vertx);
             fileSyncer.sync();
-            return maxMindGeoLocationService;
+        }
+
+        private static GeoLocationService withCache(GeoLocationService geoLocationService,
+                                                    GeoLocationCacheProperties cacheProperties,
+                                                    Metrics metrics) {
+
+            return cacheProperties != null
+                    ? new CachingGeoLocationService(
+                    geoLocationService,
+                    metrics,
+                    cacheProperties.getSize(),
+                    cacheProperties.getTtlSeconds(),
+                    cacheProperties.isPrefixKeys())
+                    : geoLocationService;
         }
     }
 
@@ -5,6 +5,8 @@ import org.prebid.server.json.JsonLogic;
 import org.prebid.server.json.JsonLogicProvider;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.settings.SettingsCache;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,8 +19,17 @@ public class JsonConfiguration {
     }
 
     @Bean
-    JsonMerger jsonMerger(JacksonMapper mapper) {
-        return new JsonMerger(mapper);
+    JsonMerger jsonMerger(
+            JacksonMapper mapper,
+            @Autowired(required = false) SettingsConfiguration.ApplicationSettingsCacheProperties cacheProperties) {
+
+        // parsed stored data trees live as long as raw stored data in the settings in-memory cache
+        return cacheProperties != null
+                ? new JsonMerger(mapper, SettingsCache.createCache(
+                        cacheProperties.getTtlSeconds(),
+                        cacheProperties.getCacheSize(),
+                        cacheProperties.getJitterSeconds()))
+                : new JsonMerger(mapper);
     }
 
     @Bean
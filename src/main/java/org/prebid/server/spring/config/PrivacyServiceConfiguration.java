@@ -18,6 +18,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.HostVendorTcfDefinerService;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
+import org.prebid.server.privacy.gdpr.TcfConsentDecoder;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose01Strategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.Purpose02Strategy;
@@ -146,14 +147,25 @@ public class PrivacyServiceConfiguration {
                             List<PurposeStrategy> purposeStrategies,
                             List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                             VersionedVendorListService versionedVendorListService,
-                            BidderCatalog bidderCatalog) {
+                            BidderCatalog bidderCatalog,
+                            @Value("${gdpr.permissions-cache.ttl-ms:0}") long permissionsCacheTtlMs,
+                            @Value("${gdpr.permissions-cache.size:0}") int permissionsCacheSize) {
 
         return new Tcf2Service(
                 gdprConfig,
                 purposeStrategies,
                 specialFeaturesStrategies,
                 versionedVendorListService,
-                bidderCatalog);
+                bidderCatalog,
+                permissionsCacheTtlMs,
+                permissionsCacheSize);
+    }
+
+    @Bean
+    TcfConsentDecoder tcfConsentDecoder(@Value("${gdpr.consent-cache.max-weight:0}") long cacheMaxWeight,
+                                        Metrics metrics) {
+
+        return new TcfConsentDecoder(cacheMaxWeight, metrics);
     }
 
     @Bean
@@ -161,6 +173,7 @@ public class PrivacyServiceConfiguration {
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
             Tcf2Service tcf2Service,
+            TcfConsentDecoder tcfConsentDecoder,
             GeoLocationServiceWrapper geoLocationServiceWrapper,
             BidderCatalog bidderCatalog,
             IpAddressHelper ipAddressHelper,
@@ -173,6 +186,7 @@ public class PrivacyServiceConfiguration {
                 gdprConfig,
                 eeaCountries,
                 tcf2Service,
+                tcfConsentDecoder,
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -79,6 +79,7 @@ import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.BasicPbcStorageService;
 import org.prebid.server.cache.CoreCacheService;
 import org.prebid.server.cache.PbcStorageService;
+import org.prebid.server.cache.model.CacheBatching;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cache.utils.CacheServiceUtil;
 import org.prebid.server.cookie.CookieDeprecationService;
@@ -124,6 +125,7 @@ import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
 import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.DeadlineScheduler;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
@@ -169,7 +171,8 @@ public class ServiceConfiguration {
             HttpClient httpClient,
             Metrics metrics,
             Clock clock,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Vertx vertx) {
 
         final String scheme = cacheConfigurationProperties.getScheme();
         final String host = cacheConfigurationProperties.getHost();
@@ -177,6 +180,8 @@ public class ServiceConfiguration {
         final String query = cacheConfigurationProperties.getQuery();
         final CacheConfigurationProperties.InternalCacheConfigurationProperties internalProperties =
                 cacheConfigurationProperties.getInternal();
+        final CacheConfigurationProperties.BatchingConfigurationProperties batchingProperties =
+                cacheConfigurationProperties.getBatching();
 
         return new CoreCacheService(
                 httpClient,
@@ -196,7 +201,11 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 new UUIDIdGenerator(),
-                mapper);
+                mapper,
+                vertx,
+                batchingProperties != null && batchingProperties.isEnabled()
+                        ? CacheBatching.of(batchingProperties.getWindowMs(), batchingProperties.getMaxObjects())
+                        : null);
     }
 
     @Bean
@@ -222,6 +231,8 @@ public class ServiceConfiguration {
 
         private InternalCacheConfigurationProperties internal;
 
+        private BatchingConfigurationProperties batching;
+
         @Data
         private static class InternalCacheConfigurationProperties {
 
@@ -231,6 +242,16 @@ public class ServiceConfiguration {
 
             private String path;
         }
+
+        @Data
+        private static class BatchingConfigurationProperties {
+
+            private boolean enabled;
+
+            private long windowMs = 2;
+
+            private int maxObjects = 10;
+        }
     }
 
     @Bean
@@ -634,8 +655,11 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    DeadlineScheduler deadlineScheduler,
+                                    HttpClientProperties httpClientProperties) {
+
+        return createBasicHttpClient(vertx, deadlineScheduler, httpClientProperties);
     }
 
     @Bean
@@ -650,13 +674,14 @@ public class ServiceConfiguration {
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
+            DeadlineScheduler deadlineScheduler,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(vertx, deadlineScheduler, httpClientProperties);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -669,7 +694,10 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         DeadlineScheduler deadlineScheduler,
+                                                         HttpClientProperties httpClientProperties) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -691,7 +719,7 @@ public class ServiceConfiguration {
                     .setKeyCertOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return new BasicHttpClient(deadlineScheduler, vertx.createHttpClient(options));
     }
 
     @Bean
@@ -809,7 +837,8 @@ public class ServiceConfiguration {
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
-            JacksonMapper mapper) {
+            JacksonMapper mapper,
+            Metrics metrics) {
 
         return new HttpBidderRequester(
                 httpClient,
@@ -817,6 +846,7 @@ public class ServiceConfiguration {
                 bidderErrorNotifier,
                 requestEnricher,
                 mapper,
+                metrics,
                 logSamplingRate);
     }
 
@@ -1139,8 +1169,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper, Metrics metrics) {
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper, metrics);
     }
 
     @Bean
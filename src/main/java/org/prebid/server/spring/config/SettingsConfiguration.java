@@ -31,6 +31,7 @@ import org.prebid.server.settings.service.DatabasePeriodicRefreshService;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.S3PeriodicRefreshService;
 import org.prebid.server.spring.config.database.DatabaseConfiguration;
+import org.prebid.server.vertx.DeadlineScheduler;
 import org.prebid.server.vertx.database.DatabaseClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -343,7 +344,8 @@ public class SettingsConfiguration {
         S3ApplicationSettings s3ApplicationSettings(S3AsyncClient s3AsyncClient,
                                                     S3ConfigurationProperties s3ConfigurationProperties,
                                                     JacksonMapper mapper,
-                                                    Vertx vertx) {
+                                                    Vertx vertx,
+                                                    DeadlineScheduler deadlineScheduler) {
 
             return new S3ApplicationSettings(
                     s3AsyncClient,
@@ -353,7 +355,8 @@ public class SettingsConfiguration {
                     s3ConfigurationProperties.getStoredRequestsDir(),
                     s3ConfigurationProperties.getStoredResponsesDir(),
                     mapper,
-                    vertx);
+                    vertx,
+                    deadlineScheduler);
         }
     }
 
@@ -446,7 +449,10 @@ public class SettingsConfiguration {
                 @Qualifier("ampSettingsCache") SettingsCache<String> ampCache,
                 @Qualifier("videoSettingCache") SettingsCache<String> videoCache,
                 @Qualifier("profileSettingCache") SettingsCache<Profile> profilesCache,
-                Metrics metrics) {
+                Metrics metrics,
+                TimeoutFactory timeoutFactory,
+                DeadlineScheduler deadlineScheduler,
+                Clock clock) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -455,9 +461,14 @@ public class SettingsConfiguration {
                     videoCache,
                     profilesCache,
                     metrics,
+                    timeoutFactory,
+                    deadlineScheduler,
+                    clock,
                     cacheProperties.getTtlSeconds(),
                     cacheProperties.getCacheSize(),
-                    cacheProperties.getJitterSeconds());
+                    cacheProperties.getJitterSeconds(),
+                    cacheProperties.getStaleGraceSeconds(),
+                    cacheProperties.getStaleRefreshTimeoutMs());
         }
     }
 
@@ -529,5 +540,9 @@ public class SettingsConfiguration {
         private Integer cacheSize;
         @Min(0)
         private int jitterSeconds;
+        @Min(0)
+        private int staleGraceSeconds;
+        @Min(1)
+        private long staleRefreshTimeoutMs = 1000;
     }
 }
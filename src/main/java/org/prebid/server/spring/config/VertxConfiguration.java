@@ -10,8 +10,10 @@ import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.DeadlineScheduler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -59,6 +61,14 @@ public class VertxConfiguration {
         return BodyHandler.create(uploadsDir);
     }
 
+    @Bean
+    DeadlineScheduler deadlineScheduler(Vertx vertx,
+                                        @Value("${vertx.deadline-tick-ms}") long tickMs,
+                                        Metrics metrics) {
+
+        return new DeadlineScheduler(vertx, tickMs, metrics);
+    }
+
     @Bean
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
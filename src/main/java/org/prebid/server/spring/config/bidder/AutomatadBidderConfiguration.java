@@ -35,7 +35,8 @@ public class AutomatadBidderConfiguration {
         return BidderDepsAssembler.forBidder(BIDDER_NAME)
                 .withConfig(automatadConfigurationProperties)
                 .usersyncerCreator(UsersyncerCreator.create(externalUrl))
-                .bidderCreator(config -> new GenericBidder(config.getEndpoint(), mapper))
+                .bidderCreator(config -> new GenericBidder(
+                        config.getEndpoint(), config.getEndpointWireFormat(), mapper))
                 .assemble();
     }
 }
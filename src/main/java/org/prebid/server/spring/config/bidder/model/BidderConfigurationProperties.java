@@ -49,6 +49,8 @@ public class BidderConfigurationProperties {
 
     private CompressionType endpointCompression;
 
+    private WireFormat endpointWireFormat;
+
     private Ortb ortb;
 
     private long tmaxDeductionMs;
@@ -71,6 +73,8 @@ public class BidderConfigurationProperties {
         deprecatedNames = ObjectUtils.defaultIfNull(deprecatedNames, defaultProperties.getDeprecatedNames());
         endpointCompression = ObjectUtils.defaultIfNull(
                 endpointCompression, defaultProperties.getEndpointCompression());
+        endpointWireFormat = ObjectUtils.defaultIfNull(
+                endpointWireFormat, defaultProperties.getEndpointWireFormat());
         ortb = ortb != null && ortb.getMultiFormatSupported() != null
                 ? ortb
                 : defaultProperties.getOrtb();
@@ -0,0 +1,6 @@
+package org.prebid.server.spring.config.bidder.model;
+
+public enum WireFormat {
+
+    JSON, PROTOBUF
+}
@@ -19,6 +19,7 @@ import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.MetaInfo;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 import org.prebid.server.spring.config.bidder.model.usersync.CookieFamilySource;
 import org.prebid.server.spring.config.bidder.model.usersync.UsersyncConfigurationProperties;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
@@ -137,12 +138,15 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
                                     BidderInfo bidderInfo,
                                     CFG configProperties) {
 
+        final Bidder<?> bidder = bidder(configProperties);
+        validateWireFormat(bidderName, bidder, configProperties);
+
         return BidderInstanceDeps.builder()
                 .name(bidderName)
                 .deprecatedNames(configProperties.getDeprecatedNames())
                 .bidderInfo(bidderInfo)
                 .usersyncer(usersyncer)
-                .bidder(bidder(configProperties))
+                .bidder(bidder)
                 .build();
     }
 
@@ -178,6 +182,16 @@ public class BidderDepsAssembler<CFG extends BidderConfigurationProperties> {
         }
     }
 
+    private void validateWireFormat(String bidderName, Bidder<?> bidder, CFG configProperties) {
+        if (configProperties.getEnabled()
+                && configProperties.getEndpointWireFormat() == WireFormat.PROTOBUF
+                && !bidder.isProtobufWireFormatSupported()) {
+
+            throw new IllegalArgumentException(
+                    "Bidder %s does not support protobuf endpoint wire format".formatted(bidderName));
+        }
+    }
+
     private void validateCapabilities(String alias, CFG aliasConfiguration, String coreBidder, CFG coreConfiguration) {
         final MetaInfo coreMetaInfo = coreConfiguration.getMetaInfo();
         final MetaInfo aliasMetaInfo = aliasConfiguration.getMetaInfo();
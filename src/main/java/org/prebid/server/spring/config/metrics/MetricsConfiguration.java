@@ -108,10 +108,11 @@ public class MetricsConfiguration {
 
     @Bean
     Metrics metrics(@Value("${metrics.metricType}") CounterType counterType,
+                    @Value("${metrics.accounts.cache-size:10000}") int accountMetricsCacheSize,
                     MetricRegistry metricRegistry,
                     AccountMetricsVerbosityResolver accountMetricsVerbosityResolver) {
 
-        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver);
+        return new Metrics(metricRegistry, counterType, accountMetricsVerbosityResolver, accountMetricsCacheSize);
     }
 
     @Bean
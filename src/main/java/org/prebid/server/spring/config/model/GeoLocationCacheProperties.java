@@ -0,0 +1,24 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class GeoLocationCacheProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer size;
+
+    @NotNull
+    @Min(1)
+    private Long ttlSeconds;
+
+    private boolean prefixKeys;
+}
@@ -0,0 +1,12 @@
+package org.prebid.server.util.dsl.config;
+
+/**
+ * {@link PrebidConfigSource} with precompiled rules lookup, so matching strategies don't need to
+ * build their own lookup structure from {@link #rules()} on every match.
+ * <p>
+ * Lookup must be case-insensitive.
+ */
+public interface PrebidConfigIndexedSource extends PrebidConfigSource {
+
+    boolean contains(String rule);
+}
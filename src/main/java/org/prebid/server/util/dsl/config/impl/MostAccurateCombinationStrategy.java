@@ -5,6 +5,7 @@ import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.prebid.server.util.algorithms.CartesianProductIterator;
+import org.prebid.server.util.dsl.config.PrebidConfigIndexedSource;
 import org.prebid.server.util.dsl.config.PrebidConfigMatchingStrategy;
 import org.prebid.server.util.dsl.config.PrebidConfigParameter;
 import org.prebid.server.util.dsl.config.PrebidConfigParameters;
@@ -18,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 /**
  * Priority order for four column rule sets:
@@ -44,12 +46,14 @@ public class MostAccurateCombinationStrategy implements PrebidConfigMatchingStra
 
     @Override
     public String match(PrebidConfigSource source, PrebidConfigParameters parameters) {
-        final Set<String> configuredRules = toSet(source.rules());
+        final Predicate<String> configuredRules = source instanceof PrebidConfigIndexedSource indexedSource
+                ? indexedSource::contains
+                : toSet(source.rules())::contains;
 
         final Iterator<String> iterator = new RuleIterator(source, parameters.get());
         while (iterator.hasNext()) {
             final String generatedRule = iterator.next();
-            if (configuredRules.contains(generatedRule)) {
+            if (configuredRules.test(generatedRule)) {
                 return generatedRule;
             }
         }
@@ -1,50 +1,124 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import lombok.Value;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Params of stored imps come to validation over and over again, so successful schema validations are cached by bidder
+ * schema and params. Params come from requests, so only small enough params are cached, and failed validations are
+ * not cached at all. Params satisfying schema which checks only required fields and types of properties are accepted
+ * without running the schema at all.
  */
 public class BidderParamValidator {
 
     private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
+    private static final int VALID_PARAMS_CACHE_SIZE = 10_000;
+    // roughly the number of characters in params json
+    private static final int MAX_CACHED_PARAMS_SIZE = 1024;
 
-    private final Map<String, JsonSchema> bidderSchemas;
+    private final Map<String, BidderSchema> bidderSchemas;
     private final String schemas;
+    private final Metrics metrics;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private final Map<ValidationKey, Boolean> validParams;
+
+    private BidderParamValidator(Map<String, BidderSchema> bidderSchemas, String schemas, Metrics metrics) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.metrics = metrics;
+
+        validParams = Caffeine.newBuilder()
+                .maximumSize(VALID_PARAMS_CACHE_SIZE)
+                .<ValidationKey, Boolean>build()
+                .asMap();
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final BidderSchema bidderSchema = bidderSchemas.get(bidder);
+
+        final TypeOnlySchema typeOnlySchema = bidderSchema.getTypeOnlySchema();
+        if (typeOnlySchema != null && typeOnlySchema.isSatisfiedBy(jsonNode)) {
+            return Collections.emptySet();
+        }
+
+        final JsonSchema schema = bidderSchema.getSchema();
+        final boolean cacheable = isCacheable(jsonNode);
+        if (cacheable && validParams.containsKey(ValidationKey.of(schema, jsonNode))) {
+            return Collections.emptySet();
+        }
+
+        final long startNanos = System.nanoTime();
+        final Set<String> messages = schema.validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
+        metrics.updateAdapterParamsValidationTime(bidder, System.nanoTime() - startNanos);
+
+        if (cacheable && messages.isEmpty()) {
+            // params belong to the request and can be modified later, so cache keeps its own copy of them
+            validParams.put(ValidationKey.of(schema, jsonNode.deepCopy()), Boolean.TRUE);
+        }
+
+        return messages;
+    }
+
+    private static boolean isCacheable(JsonNode params) {
+        return paramsSize(params, MAX_CACHED_PARAMS_SIZE) <= MAX_CACHED_PARAMS_SIZE;
+    }
+
+    /**
+     * Returns approximate size of params, stops counting as soon as it exceeds the given limit.
+     */
+    private static int paramsSize(JsonNode node, int limit) {
+        int size = 1;
+        if (node.isTextual()) {
+            size += node.textValue().length();
+        } else if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext() && size <= limit) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + paramsSize(field.getValue(), limit - size);
+            }
+        } else if (node.isArray()) {
+            final Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext() && size <= limit) {
+                size += paramsSize(elements.next(), limit - size);
+            }
+        }
+        return size;
     }
 
     /**
@@ -78,25 +152,29 @@ public class BidderParamValidator {
      */
     public static BidderParamValidator create(BidderCatalog bidderCatalog,
                                               String schemaDirectory,
-                                              JacksonMapper mapper) {
+                                              JacksonMapper mapper,
+                                              Metrics metrics) {
 
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(metrics);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
 
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(bidderCatalog, schemaDirectory, bidder, mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(
+                toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper), metrics);
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
+    private static Map<String, BidderSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
         return bidderRawSchemas.entrySet().stream()
                 .collect(Collectors.toMap(
                         Map.Entry::getKey,
-                        e -> toBidderSchema(e.getValue(), e.getKey()),
+                        e -> BidderSchema.of(
+                                toBidderSchema(e.getValue(), e.getKey()), TypeOnlySchema.from(e.getValue())),
                         (first, second) -> second,
                         CaseInsensitiveMap::new));
     }
@@ -163,4 +241,171 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class BidderSchema {
+
+        JsonSchema schema;
+
+        TypeOnlySchema typeOnlySchema;
+    }
+
+    /**
+     * Params node is compared by its structure, schema is compared by identity.
+     */
+    @Value(staticConstructor = "of")
+    private static class ValidationKey {
+
+        JsonSchema schema;
+
+        JsonNode params;
+    }
+
+    /**
+     * Object schema consisting only of required fields and types of properties, the way most of bidder schemas are.
+     * <p>
+     * Check is conservative: params it accepts are always valid against the schema, while params it doesn't accept
+     * are validated by the schema to get proper validation messages.
+     */
+    private static final class TypeOnlySchema {
+
+        private static final Set<String> SCHEMA_KEYWORDS =
+                Set.of("$schema", "title", "description", "type", "properties", "required");
+        private static final Set<String> PROPERTY_KEYWORDS = Set.of("title", "description", "type");
+        private static final Map<String, Predicate<JsonNode>> TYPE_CHECKS = Map.of(
+                "string", JsonNode::isTextual,
+                "integer", JsonNode::isIntegralNumber,
+                "number", JsonNode::isNumber,
+                "boolean", JsonNode::isBoolean,
+                "object", JsonNode::isObject,
+                "array", JsonNode::isArray,
+                "null", JsonNode::isNull);
+
+        private final List<String> required;
+        private final Map<String, List<Predicate<JsonNode>>> propertyTypes;
+
+        private TypeOnlySchema(List<String> required, Map<String, List<Predicate<JsonNode>>> propertyTypes) {
+            this.required = required;
+            this.propertyTypes = propertyTypes;
+        }
+
+        /**
+         * Returns null if schema checks something else besides required fields and types of properties.
+         */
+        private static TypeOnlySchema from(JsonNode schema) {
+            if (!hasOnlyKeywords(schema, SCHEMA_KEYWORDS) || !"object".equals(schema.path("type").textValue())) {
+                return null;
+            }
+
+            final List<String> required = toRequired(schema.get("required"));
+            final Map<String, List<Predicate<JsonNode>>> propertyTypes = toPropertyTypes(schema.get("properties"));
+
+            return required != null && propertyTypes != null ? new TypeOnlySchema(required, propertyTypes) : null;
+        }
+
+        private static List<String> toRequired(JsonNode requiredNode) {
+            if (requiredNode == null) {
+                return Collections.emptyList();
+            }
+            if (!requiredNode.isArray()) {
+                return null;
+            }
+
+            final List<String> required = new ArrayList<>();
+            for (JsonNode field : requiredNode) {
+                if (!field.isTextual()) {
+                    return null;
+                }
+                required.add(field.textValue());
+            }
+            return required;
+        }
+
+        private static Map<String, List<Predicate<JsonNode>>> toPropertyTypes(JsonNode propertiesNode) {
+            if (propertiesNode == null) {
+                return Collections.emptyMap();
+            }
+            if (!propertiesNode.isObject()) {
+                return null;
+            }
+
+            final Map<String, List<Predicate<JsonNode>>> propertyTypes = new HashMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> properties = propertiesNode.fields();
+            while (properties.hasNext()) {
+                final Map.Entry<String, JsonNode> property = properties.next();
+                final JsonNode propertySchema = property.getValue();
+                if (!hasOnlyKeywords(propertySchema, PROPERTY_KEYWORDS)) {
+                    return null;
+                }
+
+                final List<Predicate<JsonNode>> types = toTypes(propertySchema.get("type"));
+                if (types == null) {
+                    return null;
+                }
+                propertyTypes.put(property.getKey(), types);
+            }
+            return propertyTypes;
+        }
+
+        /**
+         * Returns empty list if any type is allowed.
+         */
+        private static List<Predicate<JsonNode>> toTypes(JsonNode typeNode) {
+            if (typeNode == null) {
+                return Collections.emptyList();
+            }
+            if (typeNode.isTextual()) {
+                final Predicate<JsonNode> typeCheck = TYPE_CHECKS.get(typeNode.textValue());
+                return typeCheck != null ? Collections.singletonList(typeCheck) : null;
+            }
+            if (!typeNode.isArray() || typeNode.isEmpty()) {
+                return null;
+            }
+
+            final List<Predicate<JsonNode>> types = new ArrayList<>();
+            for (JsonNode type : typeNode) {
+                final Predicate<JsonNode> typeCheck = type.isTextual() ? TYPE_CHECKS.get(type.textValue()) : null;
+                if (typeCheck == null) {
+                    return null;
+                }
+                types.add(typeCheck);
+            }
+            return types;
+        }
+
+        private static boolean hasOnlyKeywords(JsonNode schema, Set<String> keywords) {
+            if (!schema.isObject()) {
+                return false;
+            }
+
+            final Iterator<String> fieldNames = schema.fieldNames();
+            while (fieldNames.hasNext()) {
+                if (!keywords.contains(fieldNames.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isSatisfiedBy(JsonNode params) {
+            if (!params.isObject()) {
+                return false;
+            }
+
+            for (String field : required) {
+                if (!params.has(field)) {
+                    return false;
+                }
+            }
+
+            for (Map.Entry<String, List<Predicate<JsonNode>>> property : propertyTypes.entrySet()) {
+                final JsonNode value = params.get(property.getKey());
+                final List<Predicate<JsonNode>> types = property.getValue();
+                if (value != null && !types.isEmpty() && types.stream().noneMatch(type -> type.test(value))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -14,6 +14,7 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidRejectionReason;
 import org.prebid.server.auction.model.BidRejectionTracker;
 import org.prebid.server.auction.model.BidRejection;
+import org.prebid.server.auction.model.ImpIdIndex;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
@@ -87,7 +88,7 @@ public class ResponseBidValidator {
             validateCurrency(bidderBid.getBidCurrency());
             validateSeat(bidderBid, bidder, account, bidRejectionTracker, aliases);
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final Imp correspondingImp = findCorrespondingImp(bid, auctionContext.impIdIndex());
             if (bidderBid.getType() == BidType.banner) {
                 warnings.addAll(validateBannerFields(
                         bidderBid,
@@ -173,10 +174,8 @@ public class ResponseBidValidator {
         }
     }
 
-    private Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
+    private Imp findCorrespondingImp(Bid bid, ImpIdIndex imps) throws ValidationException {
+        return imps.find(bid.getImpid())
                 .orElseThrow(() -> exceptionAndLogOnePercent(
                         "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
     }
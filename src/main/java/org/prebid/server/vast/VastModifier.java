@@ -14,23 +14,12 @@ import org.prebid.server.metric.Metrics;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class VastModifier {
 
-    private static final Pattern WRAPPER_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern WRAPPER_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*wrapper(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_OPEN_TAG_PATTERN =
-            Pattern.compile("<\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern INLINE_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*inline(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
-    private static final Pattern IMPRESSION_CLOSE_TAG_PATTERN =
-            Pattern.compile("<\\s*/\\s*impression(?:>|\\s.*?>)", Pattern.CASE_INSENSITIVE);
+    private static final String IMPRESSION_TAG_PREFIX = "<Impression><![CDATA[";
+    private static final String IMPRESSION_TAG_SUFFIX = "]]></Impression>";
 
     private final BidderCatalog bidderCatalog;
     private final EventsService eventsService;
@@ -110,41 +99,230 @@ public class VastModifier {
     }
 
     private static String appendTrackingUrlToVastXml(String xml, String urlTracking, String bidder) {
-        return appendTrackingUrl(xml, urlTracking, INLINE_OPEN_TAG_PATTERN, INLINE_CLOSE_TAG_PATTERN)
-                .or(() -> appendTrackingUrl(xml, urlTracking, WRAPPER_OPEN_TAG_PATTERN, WRAPPER_CLOSE_TAG_PATTERN))
-                .orElseThrow(() -> new PreBidException(
-                        "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder)));
+        final ImpressionScanner scanner = ImpressionScanner.scan(xml);
+        final ParentTag parentTag = scanner.inline.isFound()
+                ? scanner.inline
+                : scanner.wrapper.isFound() ? scanner.wrapper : null;
+
+        if (parentTag == null) {
+            throw new PreBidException(
+                    "VastXml does not contain neither InLine nor Wrapper for %s response".formatted(bidder));
+        }
+
+        final int insertionIndex = parentTag.insertionIndex();
+        return insertionIndex != -1 ? insertUrlTracking(xml, insertionIndex, urlTracking) : xml;
+    }
+
+    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
+        final int length = vastXml.length()
+                + IMPRESSION_TAG_PREFIX.length()
+                + vastUrlTracking.length()
+                + IMPRESSION_TAG_SUFFIX.length();
+
+        return new StringBuilder(length)
+                .append(vastXml, 0, index)
+                .append(IMPRESSION_TAG_PREFIX)
+                .append(vastUrlTracking)
+                .append(IMPRESSION_TAG_SUFFIX)
+                .append(vastXml, index, vastXml.length())
+                .toString();
     }
 
-    private static Optional<String> appendTrackingUrl(String vastXml,
-                                                      String vastUrlTracking,
-                                                      Pattern openTagPattern,
-                                                      Pattern closeTagPattern) {
+    /**
+     * Finds where tracking impression goes in a single pass over VAST xml.
+     * <p>
+     * Tags are matched the same loose way as XML comes from bidders: case-insensitively, with whitespaces after the
+     * opening bracket and around the slash, and with anything up to the closing bracket on the same line after the
+     * tag name.
+     */
+    private static final class ImpressionScanner {
+
+        private static final TagName[] TAG_NAMES = TagName.values();
 
-        final Matcher openTagMatcher = openTagPattern.matcher(vastXml);
-        if (!openTagMatcher.find()) {
-            return Optional.empty();
+        private final String xml;
+        private final ParentTag inline = new ParentTag();
+        private final ParentTag wrapper = new ParentTag();
+
+        private ImpressionScanner(String xml) {
+            this.xml = xml;
         }
 
-        final Matcher impressionCloseTagMatcher = IMPRESSION_CLOSE_TAG_PATTERN.matcher(vastXml);
-        if (impressionCloseTagMatcher.find(openTagMatcher.end())) {
-            int replacementEnd = impressionCloseTagMatcher.end();
-            while (impressionCloseTagMatcher.find(replacementEnd)) {
-                replacementEnd = impressionCloseTagMatcher.end();
+        private static ImpressionScanner scan(String xml) {
+            final ImpressionScanner scanner = new ImpressionScanner(xml);
+
+            int tagStart = xml.indexOf('<');
+            while (tagStart != -1) {
+                scanner.scanTag(tagStart);
+                tagStart = xml.indexOf('<', tagStart + 1);
             }
-            return Optional.of(insertUrlTracking(vastXml, replacementEnd, vastUrlTracking));
+
+            return scanner;
         }
 
-        final Matcher closeTagMatcher = closeTagPattern.matcher(vastXml);
-        if (!closeTagMatcher.find(openTagMatcher.end())) {
-            return Optional.of(vastXml);
+        private void scanTag(int tagStart) {
+            int nameStart = skipWhitespaces(tagStart + 1);
+            final boolean isCloseTag = nameStart < xml.length() && xml.charAt(nameStart) == '/';
+            if (isCloseTag) {
+                nameStart = skipWhitespaces(nameStart + 1);
+            }
+
+            final TagName tagName = tagNameAt(nameStart);
+            if (tagName == null) {
+                return;
+            }
+
+            final int tagEnd = tagEnd(nameStart + tagName.value.length());
+            if (tagEnd == -1) {
+                return;
+            }
+
+            switch (tagName) {
+                case INLINE -> {
+                    if (isCloseTag) {
+                        inline.onCloseTag(tagStart);
+                    } else {
+                        inline.onOpenTag(tagEnd);
+                    }
+                }
+                case WRAPPER -> {
+                    if (isCloseTag) {
+                        wrapper.onCloseTag(tagStart);
+                    } else {
+                        wrapper.onOpenTag(tagEnd);
+                    }
+                }
+                case IMPRESSION -> {
+                    if (isCloseTag) {
+                        inline.onImpressionCloseTag(tagStart, tagEnd);
+                        wrapper.onImpressionCloseTag(tagStart, tagEnd);
+                    }
+                }
+            }
+        }
+
+        private TagName tagNameAt(int index) {
+            for (TagName tagName : TAG_NAMES) {
+                if (isNameAt(index, tagName.value)) {
+                    return tagName;
+                }
+            }
+            return null;
         }
 
-        return Optional.of(insertUrlTracking(vastXml, closeTagMatcher.start(), vastUrlTracking));
+        /**
+         * Compares ignoring case of ASCII letters only, lowercase name is expected.
+         */
+        private boolean isNameAt(int index, String name) {
+            if (index + name.length() > xml.length()) {
+                return false;
+            }
+
+            for (int i = 0; i < name.length(); i++) {
+                final char actual = xml.charAt(index + i);
+                final char expected = name.charAt(i);
+                if (actual != expected && actual != Character.toUpperCase(expected)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns index after the closing bracket of the tag or -1 if tag name is not followed by the closing bracket
+         * or by a whitespace and the closing bracket later on the same line.
+         */
+        private int tagEnd(int nameEnd) {
+            if (nameEnd >= xml.length()) {
+                return -1;
+            }
+
+            final char afterName = xml.charAt(nameEnd);
+            if (afterName == '>') {
+                return nameEnd + 1;
+            }
+            if (!isWhitespace(afterName)) {
+                return -1;
+            }
+
+            for (int i = nameEnd + 1; i < xml.length(); i++) {
+                final char current = xml.charAt(i);
+                if (current == '>') {
+                    return i + 1;
+                }
+                if (isLineTerminator(current)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private int skipWhitespaces(int index) {
+            int current = index;
+            while (current < xml.length() && isWhitespace(xml.charAt(current))) {
+                current++;
+            }
+            return current;
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+
+        private static boolean isLineTerminator(char c) {
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
     }
 
-    private static String insertUrlTracking(String vastXml, int index, String vastUrlTracking) {
-        final String impressionTag = "<Impression><![CDATA[" + vastUrlTracking + "]]></Impression>";
-        return vastXml.substring(0, index) + impressionTag + vastXml.substring(index);
+    private enum TagName {
+
+        INLINE("inline"),
+        WRAPPER("wrapper"),
+        IMPRESSION("impression");
+
+        private final String value;
+
+        TagName(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Tracking impression goes after the last impression following the first open tag, even if it is in the next ad,
+     * or before the close tag if there are no impressions.
+     */
+    private static final class ParentTag {
+
+        private int openTagEnd = -1;
+        private int lastImpressionCloseTagEnd = -1;
+        private int closeTagStart = -1;
+
+        private void onOpenTag(int tagEnd) {
+            if (openTagEnd == -1) {
+                openTagEnd = tagEnd;
+            }
+        }
+
+        private void onImpressionCloseTag(int tagStart, int tagEnd) {
+            if (isFound() && tagStart >= openTagEnd) {
+                lastImpressionCloseTagEnd = Math.max(lastImpressionCloseTagEnd, tagEnd);
+            }
+        }
+
+        private void onCloseTag(int tagStart) {
+            if (isFound() && tagStart >= openTagEnd && closeTagStart == -1) {
+                closeTagStart = tagStart;
+            }
+        }
+
+        private boolean isFound() {
+            return openTagEnd != -1;
+        }
+
+        /**
+         * Returns -1 if there is no place for tracking impression.
+         */
+        private int insertionIndex() {
+            return lastImpressionCloseTagEnd != -1 ? lastImpressionCloseTagEnd : closeTagStart;
+        }
     }
 }
@@ -1,7 +1,7 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
 import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.circuitbreaker.OpenCircuitException;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -11,21 +11,41 @@ import org.prebid.server.log.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Lock-free circuit breaker.
+ * <p>
+ * Circuit is opened when {@code openingThreshold} failures in a row happened within {@code openingIntervalMs}
+ * sliding window. After {@code closingIntervalMs} circuit becomes half-open and lets the single trial operation
+ * through: its success closes the circuit, failure opens it again.
+ * <p>
+ * State is kept in atomics and updated on the thread which completes the operation, so neither failure accounting
+ * nor state transitions ever occupy the worker pool.
  */
 public class CircuitBreaker {
 
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
+    private final String name;
     private final Vertx vertx;
+    private final int openingThreshold;
     private final long openingIntervalMs;
+    private final long closingIntervalMs;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final AtomicReference<CircuitBreakerState> state = new AtomicReference<>(CircuitBreakerState.CLOSED);
+    private final AtomicBoolean halfOpenTrialInProgress = new AtomicBoolean();
+    private final AtomicInteger failures = new AtomicInteger();
+    // ring of the last openingThreshold failure times, indexed by failure number within current series
+    private final AtomicLongArray failureTimes;
+
+    private volatile Handler<Void> openHandler;
+    private volatile Handler<Void> halfOpenHandler;
+    private volatile Handler<Void> closeHandler;
 
     public CircuitBreaker(String name,
                           Vertx vertx,
@@ -34,88 +54,114 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
-
-        this.vertx = vertx;
+        this.name = Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.openingThreshold = Math.max(openingThreshold, 1);
         this.openingIntervalMs = openingIntervalMs;
+        this.closingIntervalMs = closingIntervalMs;
         this.clock = Objects.requireNonNull(clock);
+
+        failureTimes = new AtomicLongArray(this.openingThreshold);
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
+        final boolean trial;
+        switch (state.get()) {
+            case OPEN -> {
+                return Future.failedFuture(OpenCircuitException.INSTANCE);
+            }
+            case HALF_OPEN -> {
+                if (!halfOpenTrialInProgress.compareAndSet(false, true)) {
+                    return Future.failedFuture(OpenCircuitException.INSTANCE);
+                }
+                trial = true;
+            }
+            default -> trial = false;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        try {
+            command.handle(promise);
+        } catch (Throwable e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future()
+                .onSuccess(ignored -> onSuccess(trial))
+                .onFailure(ignored -> onFailure(trial));
     }
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+    private void onSuccess(boolean trial) {
+        if (trial) {
+            if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)) {
+                failures.set(0);
+                notifyStateChanged(closeHandler);
+            }
+        } else if (failures.get() != 0) {
+            failures.set(0);
+        }
+    }
+
+    private void onFailure(boolean trial) {
+        if (trial) {
+            if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.OPEN)) {
+                opened();
+            }
+            return;
+        }
+
+        final long currentTime = clock.millis();
+        final int failureNumber = failures.incrementAndGet();
+        failureTimes.set(failureNumber % openingThreshold, currentTime);
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+        if (failureNumber < openingThreshold) {
+            return;
+        }
+
+        // the earliest failure among the last openingThreshold ones
+        final long firstFailureTime = failureTimes.get((failureNumber + 1) % openingThreshold);
+        if (currentTime - firstFailureTime > openingIntervalMs) {
+            return;
+        }
+
+        if (state.compareAndSet(CircuitBreakerState.CLOSED, CircuitBreakerState.OPEN)) {
+            opened();
+        }
     }
 
-    /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private void opened() {
+        failures.set(0);
+        notifyStateChanged(openHandler);
+        vertx.setTimer(closingIntervalMs, ignored -> halfOpen());
     }
 
-    /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private void halfOpen() {
+        halfOpenTrialInProgress.set(false);
+        if (state.compareAndSet(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)) {
+            notifyStateChanged(halfOpenHandler);
+        }
     }
 
-    /**
-     * Resets failure counter to adjust open-circuit time frame.
-     * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
-     */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
-        final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+    private void notifyStateChanged(Handler<Void> handler) {
+        if (handler == null) {
+            return;
         }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+        try {
+            handler.handle(null);
+        } catch (Exception e) {
+            logger.warn("Circuit breaker {} state change handler failed", e, name);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = handler;
         return this;
     }
 
@@ -123,7 +169,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = handler;
         return this;
     }
 
@@ -131,12 +177,12 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = handler;
         return this;
     }
 
     public boolean isOpen() {
-        return switch (breaker.state()) {
+        return switch (state.get()) {
             case OPEN, HALF_OPEN -> true;
             case CLOSED -> false;
         };
@@ -0,0 +1,217 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules timeouts of outgoing calls without creating a Vert.x timer per call.
+ * <p>
+ * Each event loop context gets its own hashed wheel of deadlines, so scheduling, cancelling and expiring deadlines of
+ * the context happen on its event loop thread. The wheel is driven by a single periodic Vert.x timer, which runs only
+ * while the wheel has pending deadlines. Deadline fires not earlier than requested and at most one tick later.
+ * <p>
+ * Calls made outside of the event loop thread fall back to a regular Vert.x timer.
+ */
+public class DeadlineScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineScheduler.class);
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final Vertx vertx;
+    private final long tickMs;
+    private final Metrics metrics;
+
+    public DeadlineScheduler(Vertx vertx, long tickMs, Metrics metrics) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.tickMs = tickMs;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Calls handler on the current context once given delay elapses, unless returned deadline is cancelled before.
+     */
+    public Deadline schedule(long delayMs, Handler<Void> handler) {
+        metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_scheduled);
+
+        final Context context = Vertx.currentContext();
+        if (context == null || !context.isEventLoopContext() || !Context.isOnEventLoopThread()) {
+            return timerDeadline(delayMs, handler);
+        }
+
+        Wheel wheel = context.get(this);
+        if (wheel == null) {
+            wheel = new Wheel();
+            context.put(this, wheel);
+        }
+
+        return wheel.schedule(delayMs, handler);
+    }
+
+    private Deadline timerDeadline(long delayMs, Handler<Void> handler) {
+        metrics.updateDeadlineSchedulerMetric(MetricName.deadline_timers_created);
+
+        final long timerId = vertx.setTimer(Math.max(delayMs, 1L), ignored -> {
+            metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_expired);
+            handler.handle(null);
+        });
+
+        return () -> {
+            if (vertx.cancelTimer(timerId)) {
+                metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_cancelled);
+            }
+        };
+    }
+
+    public interface Deadline {
+
+        /**
+         * Prevents handler of the deadline from being called. Does nothing if deadline has already expired.
+         */
+        void cancel();
+    }
+
+    private static final class Entry implements Deadline {
+
+        private final long deadlineTick;
+        private final Metrics metrics;
+
+        // released once deadline is done, so whatever it captures is not held until its slot is visited
+        private Handler<Void> handler;
+
+        // deadline can be cancelled from another thread if the call completed there
+        private volatile boolean done;
+
+        private Entry(long deadlineTick, Handler<Void> handler, Metrics metrics) {
+            this.deadlineTick = deadlineTick;
+            this.handler = handler;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void cancel() {
+            if (!done) {
+                done = true;
+                handler = null;
+                metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_cancelled);
+            }
+        }
+
+        private void expire() {
+            final Handler<Void> expiredHandler = handler;
+            if (done || expiredHandler == null) {
+                return;
+            }
+
+            done = true;
+            handler = null;
+            metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_expired);
+            try {
+                expiredHandler.handle(null);
+            } catch (Exception e) {
+                logger.error("Deadline handler failed", e);
+            }
+        }
+    }
+
+    /**
+     * Deadlines of a single event loop context. Slot of the deadline is its tick modulo wheel size, deadlines of the
+     * next wheel rounds stay in the slot until their tick comes. Cancelled deadlines are removed when their slot is
+     * visited.
+     */
+    private final class Wheel {
+
+        private final long startNanos = System.nanoTime();
+        private final long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+
+        private final List<List<Entry>> slots;
+
+        private long currentTick;
+        private int pending;
+        private long timerId = -1;
+
+        private Wheel() {
+            slots = new ArrayList<>(WHEEL_SIZE);
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        private Deadline schedule(long delayMs, Handler<Void> handler) {
+            if (timerId == -1) {
+                currentTick = elapsedNanos() / tickNanos;
+                timerId = vertx.setPeriodic(tickMs, ignored -> tick());
+                metrics.updateDeadlineSchedulerMetric(MetricName.deadline_timers_created);
+            }
+
+            // rounding up guarantees deadline never fires earlier than requested
+            final long deadlineTick = Math.max(
+                    Math.ceilDiv(elapsedNanos() + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMs, 0L)), tickNanos),
+                    currentTick + 1);
+            final Entry entry = new Entry(deadlineTick, handler, metrics);
+
+            slots.get((int) (deadlineTick % WHEEL_SIZE)).add(entry);
+            pending++;
+
+            return entry;
+        }
+
+        private void tick() {
+            final long nowTick = elapsedNanos() / tickNanos;
+            final long lastTick = Math.min(nowTick, currentTick + WHEEL_SIZE);
+
+            for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+                // moved before expiring, so deadlines scheduled by handlers never land into visited slots
+                currentTick = tick;
+                expireSlot(slots.get((int) (tick % WHEEL_SIZE)), nowTick);
+            }
+            currentTick = nowTick;
+
+            if (pending == 0) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+
+        private void expireSlot(List<Entry> slot, long nowTick) {
+            if (slot.isEmpty()) {
+                return;
+            }
+
+            final List<Entry> expired = new ArrayList<>();
+            int kept = 0;
+            for (Entry entry : slot) {
+                if (entry.done) {
+                    pending--;
+                } else if (entry.deadlineTick <= nowTick) {
+                    expired.add(entry);
+                    pending--;
+                } else {
+                    slot.set(kept++, entry);
+                }
+            }
+            slot.subList(kept, slot.size()).clear();
+
+            // handlers are called after the slot is consistent, since they can schedule new deadlines
+            expired.forEach(Entry::expire);
+        }
+
+        private long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+    }
+}
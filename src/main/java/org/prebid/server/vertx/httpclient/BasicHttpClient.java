@@ -1,20 +1,20 @@
 package org.prebid.server.vertx.httpclient;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.DeadlineScheduler;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
@@ -23,11 +23,11 @@ import java.util.concurrent.TimeoutException;
  */
 public class BasicHttpClient implements HttpClient {
 
-    private final Vertx vertx;
+    private final DeadlineScheduler deadlineScheduler;
     private final io.vertx.core.http.HttpClient httpClient;
 
-    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
-        this.vertx = Objects.requireNonNull(vertx);
+    public BasicHttpClient(DeadlineScheduler deadlineScheduler, io.vertx.core.http.HttpClient httpClient) {
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler);
         this.httpClient = Objects.requireNonNull(httpClient);
     }
 
@@ -60,7 +60,7 @@ public class BasicHttpClient implements HttpClient {
         }
 
         final Promise<HttpClientResponse> responsePromise = Promise.promise();
-        final long timerId = vertx.setTimer(timeoutMs, ignored ->
+        final DeadlineScheduler.Deadline deadline = deadlineScheduler.schedule(timeoutMs, ignored ->
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
 
@@ -74,16 +74,23 @@ public class BasicHttpClient implements HttpClient {
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
 
         requestFuture
-                .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
+                .compose(request -> body != null ? request.send(wrap(body)) : request.send())
                 .compose(response -> toInternalResponse(response, maxResponseSize))
                 .onSuccess(responsePromise::tryComplete)
                 .onFailure(responsePromise::tryFail);
 
         return responsePromise.future()
-                .onComplete(ignored -> vertx.cancelTimer(timerId))
+                .onComplete(ignored -> deadline.cancel())
                 .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
     }
 
+    /**
+     * Wraps body without copying, callers never modify it after handing it over.
+     */
+    private static Buffer wrap(byte[] body) {
+        return Buffer.buffer(Unpooled.wrappedBuffer(body));
+    }
+
     private Future<HttpClientRequest> makeRequest(RequestOptions options) {
         try {
             return httpClient.request(options);
@@ -103,10 +110,7 @@ public class BasicHttpClient implements HttpClient {
         }
 
         return response.body()
-                .map(body -> HttpClientResponse.of(
-                        response.statusCode(),
-                        response.headers(),
-                        body.toString(StandardCharsets.UTF_8)));
+                .map(body -> HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
 
     }
 }
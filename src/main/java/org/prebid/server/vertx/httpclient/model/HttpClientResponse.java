@@ -1,19 +1,84 @@
 package org.prebid.server.vertx.httpclient.model;
 
 import io.vertx.core.MultiMap;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.model.ResponseBody;
+
+import java.util.Objects;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as it was received from the wire in {@link ResponseBody}, its {@link String} representation is built
+ * lazily on the first {@link #getBody()} call.
  */
-@Value(staticConstructor = "of")
-public class HttpClientResponse {
+public final class HttpClientResponse {
+
+    private final int statusCode;
+
+    private final MultiMap headers;
+
+    private final ResponseBody body;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, ResponseBody body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, ResponseBody.of(body));
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpClientResponse(statusCode, headers, ResponseBody.ofBuffer(bodyBuffer));
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public MultiMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns body as it was received, see {@link ResponseBody#asBuffer()}.
+     */
+    public Buffer getBodyBuffer() {
+        return body.asBuffer();
+    }
+
+    /**
+     * Returns body as string, see {@link ResponseBody#asString()}.
+     */
+    public String getBody() {
+        return body.asString();
+    }
 
-    int statusCode;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HttpClientResponse that = (HttpClientResponse) o;
+        return statusCode == that.statusCode
+                && Objects.equals(headers, that.headers)
+                && Objects.equals(body, that.body);
+    }
 
-    MultiMap headers;
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, headers, body);
+    }
 
-    String body;
+    @Override
+    public String toString() {
+        return "HttpClientResponse(statusCode=%d, headers=%s, body=%s)".formatted(statusCode, headers, getBody());
+    }
 }
@@ -77,4 +77,22 @@ public class ActivityControllerTest {
         verify(debug).emitActivityInvocationDefaultResult(false);
         verify(debug, times(2)).emitProcessedRule(any(), any());
     }
+
+    @Test
+    public void invokeShouldReturnNumberOfProcessedRules() {
+        // given
+        final ActivityController activityController = ActivityController.of(
+                true,
+                asList(
+                        TestRule.allowIfMatches(payload -> false),
+                        TestRule.disallowIfMatches(payload -> true),
+                        TestRule.disallowIfMatches(payload -> false)),
+                debug);
+
+        // when
+        final ActivityController.Invocation result = activityController.invoke(null);
+
+        // then
+        assertThat(result).isEqualTo(new ActivityController.Invocation(false, 2));
+    }
 }
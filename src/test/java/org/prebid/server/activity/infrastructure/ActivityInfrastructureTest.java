@@ -10,6 +10,7 @@ import org.prebid.server.activity.ComponentType;
 import org.prebid.server.activity.infrastructure.debug.ActivityInfrastructureDebug;
 import org.prebid.server.activity.infrastructure.payload.ActivityInvocationPayload;
 import org.prebid.server.activity.infrastructure.payload.impl.ActivityInvocationPayloadImpl;
+import org.prebid.server.activity.infrastructure.payload.impl.PrivacyEnforcementServiceActivityInvocationPayload;
 import org.prebid.server.proto.openrtb.ext.response.ExtTraceActivityInfrastructure;
 
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,8 +61,8 @@ public class ActivityInfrastructureTest {
     @Test
     public void isAllowedShouldReturnFalse() {
         // given
-        given(activityController.isAllowed(argThat(arg -> arg.componentType().equals(ComponentType.BIDDER))))
-                .willReturn(false);
+        given(activityController.invoke(argThat(arg -> arg.componentType().equals(ComponentType.BIDDER))))
+                .willReturn(new ActivityController.Invocation(false, 1));
 
         final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
 
@@ -74,8 +76,8 @@ public class ActivityInfrastructureTest {
     @Test
     public void isAllowedShouldReturnTrue() {
         // given
-        given(activityController.isAllowed(argThat(arg -> arg.componentType().equals(ComponentType.BIDDER))))
-                .willReturn(true);
+        given(activityController.invoke(argThat(arg -> arg.componentType().equals(ComponentType.BIDDER))))
+                .willReturn(new ActivityController.Invocation(true, 1));
 
         final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
 
@@ -89,7 +91,7 @@ public class ActivityInfrastructureTest {
     @Test
     public void isAllowedShouldEmitDataForDebug() {
         // given
-        given(activityController.isAllowed(any())).willReturn(true);
+        given(activityController.invoke(any())).willReturn(new ActivityController.Invocation(true, 1));
 
         final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
 
@@ -101,6 +103,78 @@ public class ActivityInfrastructureTest {
         verify(debug).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), same(payload), same(result));
     }
 
+    @Test
+    public void isAllowedShouldReuseResultOfSameInvocation() {
+        // given
+        given(activityController.invoke(any())).willReturn(new ActivityController.Invocation(false, 2));
+
+        // when
+        infrastructure.isAllowed(
+                Activity.CALL_BIDDER, ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+        final boolean result = infrastructure.isAllowed(
+                Activity.CALL_BIDDER, ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder"));
+
+        // then
+        assertThat(result).isFalse();
+        verify(activityController).invoke(any());
+        verify(debug).emitReusedProcessedRules(2);
+        verify(debug, times(2)).emitActivityInvocationResult(eq(Activity.CALL_BIDDER), any(), eq(false));
+    }
+
+    @Test
+    public void isAllowedShouldNotReuseResultOfInvocationWithAnotherGeo() {
+        // given
+        given(activityController.invoke(any())).willReturn(new ActivityController.Invocation(true, 1));
+
+        final ActivityInvocationPayload componentPayload =
+                ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        infrastructure.isAllowed(
+                Activity.TRANSMIT_GEO,
+                PrivacyEnforcementServiceActivityInvocationPayload.of(componentPayload, "USA", null, null));
+        infrastructure.isAllowed(
+                Activity.TRANSMIT_GEO,
+                PrivacyEnforcementServiceActivityInvocationPayload.of(componentPayload, "CAN", null, null));
+
+        // then
+        verify(activityController, times(2)).invoke(any());
+    }
+
+    @Test
+    public void isAllowedShouldNotReuseResultOfInvocationWithoutGeoForInvocationWithEmptyGeo() {
+        // given
+        given(activityController.invoke(any())).willReturn(new ActivityController.Invocation(true, 1));
+
+        final ActivityInvocationPayload componentPayload =
+                ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        infrastructure.isAllowed(Activity.TRANSMIT_GEO, componentPayload);
+        infrastructure.isAllowed(
+                Activity.TRANSMIT_GEO,
+                PrivacyEnforcementServiceActivityInvocationPayload.of(componentPayload, null, null, null));
+
+        // then
+        verify(activityController, times(2)).invoke(any());
+    }
+
+    @Test
+    public void isAllowedShouldNotReuseResultIfTraceEnabled() {
+        // given
+        given(debug.isTraceEnabled()).willReturn(true);
+        given(activityController.isAllowed(any())).willReturn(true);
+
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "bidder");
+
+        // when
+        infrastructure.isAllowed(Activity.CALL_BIDDER, payload);
+        infrastructure.isAllowed(Activity.CALL_BIDDER, payload);
+
+        // then
+        verify(activityController, times(2)).isAllowed(same(payload));
+    }
+
     @Test
     public void debugTraceShouldReturnSameTraceLog() {
         // given
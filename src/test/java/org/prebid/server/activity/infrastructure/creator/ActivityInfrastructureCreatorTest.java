@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.prebid.server.activity.infrastructure.privacy.PrivacyModuleQualifier.US_NAT;
 
@@ -107,6 +108,34 @@ public class ActivityInfrastructureCreatorTest {
         verify(metrics).updateAlertsMetrics(eq(MetricName.general));
     }
 
+    @Test
+    public void parseShouldCompileSameAccountPrivacyConfigurationOnce() {
+        // given
+        final Account account = Account.builder()
+                .id("accountId")
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(Activity.SYNC_USER, AccountActivityConfiguration.of(
+                                null, singletonList(AccountActivityConditionsRuleConfig.of(null, null)))))
+                        .modules(asList(
+                                AccountUSNatModuleConfig.of(null, 0, null),
+                                AccountUSNatModuleConfig.of(null, 0, null)))
+                        .build())
+                .build();
+        final Account sameAccount = account.toBuilder()
+                .privacy(account.getPrivacy().toBuilder().build())
+                .build();
+
+        // when
+        creator.parse(account, null, debug);
+        creator.parse(sameAccount, null, debug);
+
+        // then
+        verify(activityRuleFactory, times(2)).from(
+                same(account.getPrivacy().getActivities().get(Activity.SYNC_USER).getRules().getFirst()),
+                any());
+        verify(metrics).updateAlertsMetrics(eq(MetricName.general));
+    }
+
     @Test
     public void parseShouldPopulateSkipConfigForModules() {
         // given
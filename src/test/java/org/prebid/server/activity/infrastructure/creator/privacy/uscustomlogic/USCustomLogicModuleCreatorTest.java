@@ -60,6 +60,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         given(gppReaderFactory.forSection(anyInt(), anyBoolean(), any()))
                 .willReturn(new USNationalGppReader(null));
         given(jsonLogic.parse(any())).willReturn(JsonLogicBoolean.TRUE);
+        given(jsonLogic.compile(any())).willAnswer(invocation -> invocation.getArgument(0));
 
         target = new USCustomLogicModuleCreator(gppReaderFactory, jsonLogic, null, null, metrics, 0);
     }
@@ -142,6 +143,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic, times(6)).parse(eq("{}"));
+        verify(jsonLogic, times(6)).compile(any());
         verify(jsonLogic, times(6)).evaluate(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
@@ -162,6 +164,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(any());
         verify(jsonLogic).evaluate(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
@@ -216,6 +219,7 @@ public class USCustomLogicModuleCreatorTest extends VertxTest {
         verifyNoMoreInteractions(gppReaderFactory);
 
         verify(jsonLogic).parse(eq("{}"));
+        verify(jsonLogic).compile(any());
         verify(jsonLogic).evaluate(any(), any());
         verifyNoMoreInteractions(jsonLogic);
         verifyNoInteractions(metrics);
@@ -77,6 +77,30 @@ public class ConditionsRuleCreatorTest {
         assertThat(rule.proceed(payload4)).isEqualTo(Rule.Result.DISALLOW);
     }
 
+    @Test
+    public void fromShouldReuseRulesCreatedForSameConfiguration() {
+        // given
+        final AccountActivityConditionsRuleConfig config = AccountActivityConditionsRuleConfig.of(
+                AccountActivityConditionsRuleConfig.Condition.of(null, null, singletonList(2), null, null),
+                false);
+        final ActivityControllerCreationContext sidsMatchedContext = creationContext(
+                GppContextCreator.from(null, asList(2, 3)).build().getGppContext());
+        final ActivityControllerCreationContext sidsNotMatchedContext = creationContext(
+                GppContextCreator.from(null, singletonList(3)).build().getGppContext());
+
+        // when
+        final Rule sidsMatchedRule = target.from(config, sidsMatchedContext);
+        final Rule sidsNotMatchedRule = target.from(config, sidsNotMatchedContext);
+
+        // then
+        assertThat(target.from(config, sidsMatchedContext)).isSameAs(sidsMatchedRule);
+        assertThat(target.from(config, sidsNotMatchedContext)).isSameAs(sidsNotMatchedRule);
+
+        final ActivityInvocationPayload payload = ActivityInvocationPayloadImpl.of(ComponentType.BIDDER, "name");
+        assertThat(sidsMatchedRule.proceed(payload)).isEqualTo(Rule.Result.DISALLOW);
+        assertThat(sidsNotMatchedRule.proceed(payload)).isEqualTo(Rule.Result.ABSTAIN);
+    }
+
     private static BidRequest givenBidRequest(String country, String region, String gpc) {
         return BidRequest.builder()
                 .device(Device.builder().geo(Geo.builder().country(country).region(region).build()).build())
@@ -161,6 +161,20 @@ public class ActivityInfrastructureDebugTest extends VertxTest {
         verifyNoMoreInteractions(metrics);
     }
 
+    @Test
+    public void emitReusedProcessedRulesShouldCountRulesAsProcessed() {
+        // given
+        final ActivityInfrastructureDebug debug = debug(null);
+
+        // when
+        debug.emitReusedProcessedRules(2);
+
+        // then
+        assertThat(debug.trace()).isEmpty();
+        verify(metrics).updateRequestsActivityProcessedRulesCount(2);
+        verifyNoMoreInteractions(metrics);
+    }
+
     @Test
     public void emitProcessedRuleShouldLogModuleWhenModuleIsSkipped() {
         // given
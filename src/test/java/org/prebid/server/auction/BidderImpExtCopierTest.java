@@ -0,0 +1,69 @@
+package org.prebid.server.auction;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidderImpExtCopierTest extends VertxTest {
+
+    @Test
+    public void copyForShouldKeepOnlyGivenBidderParameters() {
+        // given
+        final ObjectNode impExt = givenImpExt();
+
+        // when
+        final ObjectNode result = BidderImpExtCopier.copyFor("bidder1", impExt);
+
+        // then
+        final ObjectNode expectedPrebid = mapper.createObjectNode();
+        expectedPrebid.set("bidder", mapper.createObjectNode()
+                .set("bidder1", mapper.createObjectNode().put("param", 1)));
+        expectedPrebid.set("imp", mapper.createObjectNode()
+                .set("BIDDER1", mapper.createObjectNode().put("secure", 1)));
+        expectedPrebid.set("storedrequest", mapper.createObjectNode().put("id", "storedId"));
+
+        final ObjectNode expectedImpExt = mapper.createObjectNode().put("tid", "tid");
+        expectedImpExt.set("data", mapper.createObjectNode().put("pbadslot", "slot"));
+        expectedImpExt.set("prebid", expectedPrebid);
+
+        assertThat(result).isEqualTo(expectedImpExt);
+    }
+
+    @Test
+    public void copyForShouldReturnCopyIndependentFromOriginal() {
+        // given
+        final ObjectNode impExt = givenImpExt();
+        final ObjectNode originalImpExt = impExt.deepCopy();
+
+        // when
+        final ObjectNode result = BidderImpExtCopier.copyFor("bidder1", impExt);
+        ((ObjectNode) result.get("data")).put("pbadslot", "otherSlot");
+        ((ObjectNode) result.get("prebid").get("bidder").get("bidder1")).put("param", 2);
+        ((ObjectNode) result.get("prebid")).remove("imp");
+
+        // then
+        assertThat(impExt).isEqualTo(originalImpExt);
+    }
+
+    private static ObjectNode givenImpExt() {
+        final ObjectNode bidderParams = mapper.createObjectNode();
+        bidderParams.set("bidder1", mapper.createObjectNode().put("param", 1));
+        bidderParams.set("bidder2", mapper.createObjectNode().put("param", 2));
+
+        final ObjectNode impParams = mapper.createObjectNode();
+        impParams.set("BIDDER1", mapper.createObjectNode().put("secure", 1));
+        impParams.set("bidder2", mapper.createObjectNode().put("secure", 0));
+
+        final ObjectNode prebid = mapper.createObjectNode();
+        prebid.set("bidder", bidderParams);
+        prebid.set("imp", impParams);
+        prebid.set("storedrequest", mapper.createObjectNode().put("id", "storedId"));
+
+        final ObjectNode impExt = mapper.createObjectNode().put("tid", "tid");
+        impExt.set("data", mapper.createObjectNode().put("pbadslot", "slot"));
+        impExt.set("prebid", prebid);
+        return impExt;
+    }
+}
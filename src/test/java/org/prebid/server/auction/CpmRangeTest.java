@@ -276,6 +276,26 @@ public class CpmRangeTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    public void fromCpmShouldReturnTheSameValueForPredefinedGranularityAsForEqualCustomOne() {
+        for (String type : asList("low", "med", "high", "auto", "dense")) {
+            // given
+            final PriceGranularity predefined = createFromString(type);
+            final PriceGranularity custom = PriceGranularity.createFromRanges(
+                    predefined.getPrecision(), predefined.getRanges());
+
+            for (AccountAuctionBidRoundingMode mode : asList(DOWN, UP, TRUE)) {
+                for (int cents = 1; cents <= 2100; cents++) {
+                    final BigDecimal cpm = BigDecimal.valueOf(cents, 2).add(BigDecimal.valueOf(0.005));
+
+                    // when and then
+                    assertThat(CpmRange.fromCpm(cpm, predefined, givenAccount(mode)))
+                            .isEqualTo(CpmRange.fromCpm(cpm, custom, givenAccount(mode)));
+                }
+            }
+        }
+    }
+
     private static Account givenAccount(AccountAuctionBidRoundingMode mode) {
         return Account.builder().auction(AccountAuctionConfig.builder().bidRounding(mode).build()).build();
     }
@@ -279,6 +279,25 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(4));
     }
 
+    @Test
+    public void convertCurrencyShouldResolveEachCurrencyPairOfTheSameRequestRatesSeparately() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = new HashMap<>();
+        requestConversionRates.put(USD, Map.of(GBP, BigDecimal.valueOf(2),
+                EUR, BigDecimal.valueOf(0.5)));
+        final BidRequest bidRequest = givenBidRequestWithCurrencies(requestConversionRates, false);
+
+        // when
+        final BigDecimal gbpToEurPrice = currencyService.convertCurrency(BigDecimal.ONE, bidRequest, GBP, EUR);
+        final BigDecimal eurToGbpPrice = currencyService.convertCurrency(BigDecimal.ONE, bidRequest, EUR, GBP);
+        final BigDecimal gbpToEurPriceAgain = currencyService.convertCurrency(BigDecimal.TEN, bidRequest, GBP, EUR);
+
+        // then
+        assertThat(gbpToEurPrice).isEqualByComparingTo(BigDecimal.valueOf(0.25));
+        assertThat(eurToGbpPrice).isEqualByComparingTo(BigDecimal.valueOf(4));
+        assertThat(gbpToEurPriceAgain).isEqualByComparingTo(BigDecimal.valueOf(2.5));
+    }
+
     @Test
     public void convertCurrencyShouldReturnSamePriceIfBidCurrencyIsNullAndServerCurrencyUSD() {
         // when
@@ -157,6 +157,7 @@ import org.prebid.server.settings.model.AccountCacheConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -320,6 +321,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L));
         given(bidderCatalog.configuredName(anyString())).willAnswer(invocation -> invocation.getArgument(0));
@@ -4032,6 +4034,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L));
 
@@ -4150,6 +4153,7 @@ public class ExchangeServiceTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 100L));
 
@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -108,6 +109,35 @@ public class PriceGranularityTest {
                 ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.5)));
     }
 
+    @Test
+    public void createFromExtPriceGranularityShouldReturnPredefinedInstanceForItsRanges() {
+        // given
+        final ExtPriceGranularity extPriceGranularity = ExtPriceGranularity.of(2, asList(
+                ExtGranularityRange.of(new BigDecimal("5.00"), new BigDecimal("0.05")),
+                ExtGranularityRange.of(BigDecimal.valueOf(10), BigDecimal.valueOf(0.1)),
+                ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.5))));
+
+        // when
+        final PriceGranularity priceGranularity = PriceGranularity.createFromExtPriceGranularity(extPriceGranularity);
+
+        // then
+        assertThat(priceGranularity).isSameAs(PriceGranularity.createFromString("auto"));
+    }
+
+    @Test
+    public void createFromExtPriceGranularityShouldNotReturnPredefinedInstanceForDifferentPrecision() {
+        // given
+        final ExtPriceGranularity extPriceGranularity = ExtPriceGranularity.of(3, singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.5))));
+
+        // when
+        final PriceGranularity priceGranularity = PriceGranularity.createFromExtPriceGranularity(extPriceGranularity);
+
+        // then
+        assertThat(priceGranularity).isNotSameAs(PriceGranularity.createFromString("low"));
+        assertThat(priceGranularity.getPrecision()).isEqualTo(3);
+    }
+
     @Test
     public void createFromExtPriceGranularityShouldReturnCorrectPriceGranularity() {
         // given
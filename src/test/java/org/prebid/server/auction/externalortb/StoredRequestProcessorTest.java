@@ -229,6 +229,54 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldNotRemoveDefaultRequestFieldsWhichAreNullInStoredRequest() throws IOException {
+        // given
+        given(fileSystem.readFileBlocking(anyString()))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenBidRequest(builder -> builder
+                        .at(1)
+                        .tmax(2500L)))));
+
+        storedRequestProcessor = new StoredRequestProcessor(
+                DEFAULT_TIMEOUT,
+                "path/to/default/request.json",
+                false,
+                fileSystem,
+                applicationSettings,
+                idGenerator,
+                metrics,
+                timeoutFactory,
+                jacksonMapper,
+                new JsonMerger(jacksonMapper));
+
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .id("request-id")
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .storedrequest(ExtStoredRequest.of("123"))
+                        .build())));
+
+        final String storedRequestBidRequestJson = "{\"at\": null, \"tmax\": null, \"test\": 1}";
+
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("123", storedRequestBidRequestJson), emptyMap(),
+                                emptyList())));
+
+        // when
+        final Future<AuctionStoredResult> bidRequestFuture =
+                storedRequestProcessor.processAuctionRequest(null, bidRequest);
+
+        // then
+        assertThat(bidRequestFuture.succeeded()).isTrue();
+        assertThat(bidRequestFuture.result().bidRequest()).isEqualTo(BidRequest.builder()
+                .id("request-id")
+                .at(1)
+                .test(1)
+                .tmax(2500L)
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().storedrequest(ExtStoredRequest.of("123")).build()))
+                .build());
+    }
+
     @Test
     public void processStoredRequestsShouldGenerateIdWhenAppAndFlagIsTrue() throws IOException {
         // given
@@ -22,6 +22,7 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.List;
 import java.util.Set;
@@ -175,6 +176,7 @@ public class BidderMediaTypeProcessorTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
     }
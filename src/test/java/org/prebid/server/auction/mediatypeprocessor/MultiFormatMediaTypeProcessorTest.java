@@ -26,6 +26,7 @@ import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.Map;
 import java.util.Set;
@@ -279,6 +280,7 @@ public class MultiFormatMediaTypeProcessorTest extends VertxTest {
                 false,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(multiFormatSupported),
                 0L);
     }
@@ -0,0 +1,65 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImpIdIndexTest {
+
+    @Test
+    public void getShouldReturnImpByItsId() {
+        // given
+        final Imp imp1 = Imp.builder().id("impId1").build();
+        final Imp imp2 = Imp.builder().id("impId2").build();
+
+        // when
+        final ImpIdIndex result = ImpIdIndex.of(asList(imp1, imp2));
+
+        // then
+        assertThat(result.get("impId1")).isSameAs(imp1);
+        assertThat(result.get("impId2")).isSameAs(imp2);
+        assertThat(result.get("impId3")).isNull();
+        assertThat(result.find("impId3")).isEmpty();
+    }
+
+    @Test
+    public void getShouldReturnFirstImpOfTheSameId() {
+        // given
+        final Imp imp1 = Imp.builder().id("impId").secure(1).build();
+        final Imp imp2 = Imp.builder().id("impId").secure(0).build();
+
+        // when
+        final ImpIdIndex result = ImpIdIndex.of(asList(imp1, imp2));
+
+        // then
+        assertThat(result.get("impId")).isSameAs(imp1);
+    }
+
+    @Test
+    public void ofShouldReturnSameIndexForSameRequest() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .imp(singletonList(Imp.builder().id("impId").build()))
+                .build();
+
+        // when
+        final ImpIdIndex result = ImpIdIndex.of(bidRequest);
+
+        // then
+        assertThat(result).isSameAs(ImpIdIndex.of(bidRequest));
+        assertThat(result.get("impId")).isSameAs(bidRequest.getImp().getFirst());
+    }
+
+    @Test
+    public void ofShouldReturnEmptyIndexForRequestWithoutImps() {
+        // when
+        final ImpIdIndex result = ImpIdIndex.of(BidRequest.builder().build());
+
+        // then
+        assertThat(result.get("impId")).isNull();
+    }
+}
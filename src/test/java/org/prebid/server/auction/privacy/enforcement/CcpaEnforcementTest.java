@@ -27,6 +27,7 @@ import org.prebid.server.settings.model.AccountCcpaConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
 import org.prebid.server.settings.model.EnabledForRequestType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.Collections;
 import java.util.List;
@@ -79,6 +80,7 @@ public class CcpaEnforcementTest {
                         true,
                         false,
                         null,
+                        WireFormat.JSON,
                         Ortb.of(false),
                         0L));
 
@@ -223,6 +225,7 @@ public class CcpaEnforcementTest {
                         false,
                         false,
                         null,
+                        WireFormat.JSON,
                         Ortb.of(false),
                         0L));
 
@@ -7,6 +7,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.List;
 
@@ -99,6 +100,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -133,6 +135,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -158,6 +161,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -196,6 +200,7 @@ public class BidderCatalogTest {
                         true,
                         false,
                         CompressionType.NONE,
+                        WireFormat.JSON,
                         Ortb.of(false),
                         0L))
                 .deprecatedNames(emptyList())
@@ -264,6 +269,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -283,6 +289,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -302,6 +309,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -372,6 +380,7 @@ public class BidderCatalogTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
 
@@ -0,0 +1,69 @@
+package org.prebid.server.bidder;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GzipCompressorTest {
+
+    @Test
+    public void gzipShouldProduceGzipOfEmptyBody() throws IOException {
+        // when
+        final byte[] result = GzipCompressor.gzip(new byte[0]);
+
+        // then
+        assertThat(gunzip(result)).isEmpty();
+    }
+
+    @Test
+    public void gzipShouldProduceGzipOfBodiesLargerThanInitialBuffer() throws IOException {
+        // given
+        final byte[] first = givenRandomBody(20 * 1024, 1);
+        final byte[] second = givenRandomBody(30 * 1024, 2);
+
+        // when
+        final byte[] firstResult = GzipCompressor.gzip(first);
+        final byte[] secondResult = GzipCompressor.gzip(second);
+
+        // then
+        assertThat(gunzip(firstResult)).isEqualTo(first);
+        assertThat(gunzip(secondResult)).isEqualTo(second);
+    }
+
+    @Test
+    public void gzipShouldProduceGzipOfBodiesLargerThanRetainedBuffer() throws IOException {
+        // given
+        final byte[] huge = givenRandomBody(2 * 1024 * 1024, 3);
+        final byte[] small = "{\"id\":\"request-id\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final byte[] firstHugeResult = GzipCompressor.gzip(huge);
+        final byte[] smallResult = GzipCompressor.gzip(small);
+        final byte[] secondHugeResult = GzipCompressor.gzip(huge);
+
+        // then
+        assertThat(gunzip(firstHugeResult)).isEqualTo(huge);
+        assertThat(gunzip(smallResult)).isEqualTo(small);
+        assertThat(gunzip(secondHugeResult)).isEqualTo(huge);
+        assertThat(secondHugeResult).isEqualTo(firstHugeResult);
+    }
+
+    private static byte[] givenRandomBody(int size, long seed) {
+        // random bytes are not compressible, so compressed body is not smaller than the original one
+        final byte[] body = new byte[size];
+        new Random(seed).nextBytes(body);
+        return body;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
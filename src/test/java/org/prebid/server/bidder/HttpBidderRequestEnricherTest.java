@@ -17,6 +17,8 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebidChannel;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.version.PrebidVersionProvider;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -174,6 +176,7 @@ public class HttpBidderRequestEnricherTest {
                 false,
                 false,
                 CompressionType.GZIP,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L));
 
@@ -213,6 +216,7 @@ public class HttpBidderRequestEnricherTest {
                 false,
                 false,
                 CompressionType.GZIP,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L));
 
@@ -232,6 +236,46 @@ public class HttpBidderRequestEnricherTest {
         assertThat(resultHeaders.get("Content-Encoding")).isEqualTo("gzip");
     }
 
+    @Test
+    public void shouldReplaceContentTypeAndAcceptHeadersIfBidderWireFormatIsProtobuf() {
+        // given
+        when(bidderAliases.resolveBidder(BIDDER_NAME)).thenReturn(BIDDER_NAME);
+        when(bidderCatalog.bidderInfoByName(eq(BIDDER_NAME))).thenReturn(BidderInfo.create(
+                true,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                false,
+                false,
+                CompressionType.NONE,
+                WireFormat.PROTOBUF,
+                Ortb.of(false),
+                0L));
+
+        final MultiMap bidderRequestHeaders = HttpUtil.headers();
+
+        // when
+        final MultiMap resultHeaders = target
+                .enrichHeaders(
+                        BIDDER_NAME,
+                        bidderRequestHeaders,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        BidRequest.builder().build());
+
+        // then
+        assertThat(resultHeaders.getAll("Content-Type")).containsExactly("application/x-protobuf");
+        assertThat(resultHeaders.getAll("Accept")).containsExactly("application/x-protobuf");
+    }
+
     private static boolean isEqualsMultiMaps(MultiMap left, MultiMap right) {
         return left.size() == right.size() && left.entries().stream()
                 .allMatch(entry -> right.contains(entry.getKey(), entry.getValue(), true));
@@ -6,10 +6,14 @@ import com.iab.openrtb.request.Deal;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Pmp;
 import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import com.iabtechlab.openrtb.v2.OpenRtb;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -36,6 +40,7 @@ import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
@@ -45,6 +50,8 @@ import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -54,6 +61,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -63,6 +71,7 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
@@ -96,6 +105,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     private BidderErrorNotifier bidderErrorNotifier;
     @Mock(strictness = LENIENT)
     private HttpBidderRequestEnricher requestEnricher;
+    @Mock
+    private Metrics metrics;
     @Mock(strictness = LENIENT)
     private RoutingContext routingContext;
     @Mock(strictness = LENIENT)
@@ -120,7 +131,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         target = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, 0.0);
+                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper, metrics, 0.0);
         given(bidder.makeBidderResponse(any(BidderCall.class), any(BidRequest.class))).willCallRealMethod();
     }
 
@@ -499,7 +510,7 @@ public class HttpBidderRequesterTest extends VertxTest {
     }
 
     @Test
-    public void shouldCompressRequestBodyIfContentEncodingHeaderIsGzip() {
+    public void shouldCompressRequestBodyIfContentEncodingHeaderIsGzip() throws IOException {
         // given
         final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.CONTENT_ENCODING_HEADER, HttpHeaderValues.GZIP);
@@ -529,11 +540,135 @@ public class HttpBidderRequesterTest extends VertxTest {
         final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
         verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
         assertThat(actualRequestBody.getValue()).isNotSameAs(EMPTY_BYTE_BODY);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(actualRequestBody.getValue())).readAllBytes())
+                .isEqualTo(EMPTY_BYTE_BODY);
+
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq("bidder"), anyLong(), anyLong());
 
         verify(bidRejectionTracker, never()).reject(any(Rejection.class));
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldEncodeRequestPayloadToProtobufIfContentTypeHeaderIsProtobuf() throws IOException {
+        // given
+        final BidRequest bidRequest = givenBidRequest(identity());
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(
+                singletonList(givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.payload(bidRequest))),
+                emptyList()));
+
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+        given(requestEnricher.enrichHeaders(anyString(), any(), any(), any(), any())).willReturn(headers);
+        givenHttpClientResponse(204, EMPTY);
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(bidRequest)
+                .build();
+
+        // when
+        target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        final ArgumentCaptor<byte[]> actualRequestBody = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(any(), anyString(), any(), actualRequestBody.capture(), anyLong());
+
+        final OpenRtb.BidRequest actualBidRequest = OpenRtb.BidRequest.parseFrom(actualRequestBody.getValue());
+        assertThat(actualBidRequest.getId()).isEqualTo("requestId");
+        assertThat(actualBidRequest.getImpList())
+                .extracting(OpenRtb.BidRequest.Imp::getId)
+                .containsExactly("impId");
+    }
+
+    @Test
+    public void shouldPassBidResponseDecodedFromProtobufToBidder() {
+        // given
+        givenSuccessfulBidderMakeHttpRequests();
+
+        final OpenRtb.BidResponse protobufBidResponse = OpenRtb.BidResponse.newBuilder()
+                .setId("responseId")
+                .addSeatbid(OpenRtb.BidResponse.SeatBid.newBuilder()
+                        .addBid(OpenRtb.BidResponse.SeatBid.Bid.newBuilder()
+                                .setId("bidId")
+                                .setImpid("impId")
+                                .setPrice(1.5)))
+                .build();
+        final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+        givenHttpClientReturnsResponses(HttpClientResponse.ofBuffer(
+                200, responseHeaders, Buffer.buffer(protobufBidResponse.toByteArray())));
+
+        given(bidder.makeBidderResponse(any(), any())).willReturn(CompositeBidderResponse.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        final ArgumentCaptor<BidderCall<BidRequest>> bidderCallCaptor = ArgumentCaptor.forClass(BidderCall.class);
+        verify(bidder).makeBidderResponse(bidderCallCaptor.capture(), any());
+
+        final BidResponse actualBidResponse = bidderCallCaptor.getValue().getResponse().getBidResponse();
+        assertThat(actualBidResponse.getId()).isEqualTo("responseId");
+        assertThat(actualBidResponse.getSeatbid())
+                .flatExtracting(SeatBid::getBid)
+                .extracting(Bid::getId, Bid::getImpid)
+                .containsExactly(tuple("bidId", "impId"));
+    }
+
+    @Test
+    public void shouldReturnErrorIfProtobufResponseCannotBeDecoded() {
+        // given
+        givenSuccessfulBidderMakeHttpRequests();
+
+        final MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_PROTOBUF_CONTENT_TYPE);
+        givenHttpClientReturnsResponses(HttpClientResponse.of(200, responseHeaders, "invalid"));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        final BidderSeatBid bidderSeatBid = target.requestBids(
+                        bidder,
+                        bidderRequest,
+                        bidRejectionTracker,
+                        timeout,
+                        CaseInsensitiveMultiMap.empty(),
+                        bidderAliases,
+                        false)
+                .result();
+
+        // then
+        assertThat(bidderSeatBid.getErrors())
+                .extracting(BidderError::getType)
+                .containsExactly(BidderError.Type.bad_server_response);
+        verify(bidder, never()).makeBidderResponse(any(), any());
+    }
+
     @Test
     public void shouldNotWaitForResponsesWhenAllDealsIsGathered() throws JsonProcessingException {
         // given
@@ -559,6 +694,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 bidderErrorNotifier,
                 requestEnricher,
                 jacksonMapper,
+                metrics,
                 0.0);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
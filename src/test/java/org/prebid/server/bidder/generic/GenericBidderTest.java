@@ -10,6 +10,7 @@ import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.buffer.Buffer;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.GenericBidder;
@@ -19,6 +20,7 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.List;
 import java.util.function.Function;
@@ -37,11 +39,12 @@ public class GenericBidderTest extends VertxTest {
 
     private static final String ENDPOINT_URL = "https://randomurl.com";
 
-    private final GenericBidder target = new GenericBidder(ENDPOINT_URL, jacksonMapper);
+    private final GenericBidder target = new GenericBidder(ENDPOINT_URL, WireFormat.JSON, jacksonMapper);
 
     @Test
     public void creationShouldFailOnInvalidEndpointUrl() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new GenericBidder("invalid_url", jacksonMapper));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new GenericBidder("invalid_url", WireFormat.JSON, jacksonMapper));
     }
 
     @Test
@@ -59,6 +62,24 @@ public class GenericBidderTest extends VertxTest {
                 .containsExactly("https://randomurl.com");
     }
 
+    @Test
+    public void makeHttpRequestsShouldNotEncodeJsonBodyForProtobufWireFormat() {
+        // given
+        final GenericBidder target = new GenericBidder(ENDPOINT_URL, WireFormat.PROTOBUF, jacksonMapper);
+        final BidRequest bidRequest = givenBidRequest(identity());
+
+        // when
+        final Result<List<HttpRequest<BidRequest>>> result = target.makeHttpRequests(bidRequest);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getValue()).hasSize(1).allSatisfy(httpRequest -> {
+            assertThat(httpRequest.getBody()).isNull();
+            assertThat(httpRequest.getPayload()).isSameAs(bidRequest);
+            assertThat(httpRequest.getUri()).isEqualTo("https://randomurl.com");
+        });
+    }
+
     @Test
     public void makeBidsShouldReturnErrorIfResponseBodyCouldNotBeParsed() {
         // given
@@ -184,6 +205,27 @@ public class GenericBidderTest extends VertxTest {
                 .containsExactly(BidderBid.of(givenBid(), banner, null));
     }
 
+    @Test
+    public void makeBidsShouldUseBidResponseAlreadyDecodedFromResponseBody() {
+        // given
+        final BidderCall<BidRequest> httpCall = BidderCall.succeededHttp(
+                HttpRequest.<BidRequest>builder().payload(givenBidRequest(identity())).build(),
+                HttpResponse.ofBidResponse(
+                        200,
+                        null,
+                        Buffer.buffer("protobuf"),
+                        givenBidResponse(impBuilder -> impBuilder.impid("123"))),
+                null);
+
+        // when
+        final Result<List<BidderBid>> result = target.makeBids(httpCall, null);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getValue())
+                .containsExactly(BidderBid.of(givenBid(), banner, null));
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<Imp.ImpBuilder> impCustomizer) {
         return givenBidRequest(identity(), impCustomizer);
     }
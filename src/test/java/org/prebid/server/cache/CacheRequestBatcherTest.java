@@ -0,0 +1,304 @@
+package org.prebid.server.cache;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.cache.proto.request.bid.BidPutObject;
+import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
+import org.prebid.server.cache.proto.response.bid.CacheObject;
+import org.prebid.server.exception.CacheBatchRejectedException;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class CacheRequestBatcherTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private List<List<BidPutObject>> sentBatches;
+
+    private Timeout timeout;
+
+    private CacheRequestBatcher target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        sentBatches = new ArrayList<>();
+        timeout = new TimeoutFactory(Clock.systemUTC()).create(1000L);
+
+        target = new CacheRequestBatcher(vertx, 10L, 3, this::send, metrics, Clock.systemUTC());
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveWindow() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new CacheRequestBatcher(vertx, 0L, 3, this::send, metrics, Clock.systemUTC()));
+    }
+
+    @Test
+    public void putShouldSendObjectsOfAuctionsWithinWindowInSingleRequest(VertxTestContext context) {
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b"), timeout);
+
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                // then
+                assertThat(sentBatches).hasSize(1);
+                assertThat(sentBatches.getFirst()).extracting(BidPutObject::getKey).containsExactly("a", "b");
+                assertThat(uuids(first)).containsExactly("uuid-a");
+                assertThat(uuids(second)).containsExactly("uuid-b");
+                verify(metrics).updateCacheBatchMetrics(eq(2), eq(2), anyLong());
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldSendBatchOnceItReachesMaxObjects(VertxTestContext context) {
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b", "c"), timeout);
+
+            // then
+            context.verify(() -> assertThat(sentBatches).hasSize(1));
+
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(uuids(first)).containsExactly("uuid-a");
+                assertThat(uuids(second)).containsExactly("uuid-b", "uuid-c");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldSendBatchBeforeAuctionWhichDoesNotFitIntoIt(VertxTestContext context) {
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a", "b"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("c", "d"), timeout);
+
+            // then
+            context.verify(() -> assertThat(sentBatches).hasSize(1));
+
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(sentBatches).hasSize(2);
+                assertThat(sentBatches.getFirst()).extracting(BidPutObject::getKey).containsExactly("a", "b");
+                assertThat(uuids(first)).containsExactly("uuid-a", "uuid-b");
+                assertThat(uuids(second)).containsExactly("uuid-c", "uuid-d");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldSendObjectsOfEachAuctionSeparatelyWhenBatchIsRejected(VertxTestContext context) {
+        // given
+        target = new CacheRequestBatcher(
+                vertx,
+                10L,
+                3,
+                (putObjects, timeoutMs) -> putObjects.size() > 1
+                        ? Future.failedFuture(new CacheBatchRejectedException("HTTP status code 400"))
+                        : send(putObjects, timeoutMs),
+                metrics,
+                Clock.systemUTC());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b"), timeout);
+
+            Future.all(first, second).onComplete(context.succeeding(result -> context.verify(() -> {
+                // then
+                assertThat(sentBatches).hasSize(2);
+                assertThat(uuids(first)).containsExactly("uuid-a");
+                assertThat(uuids(second)).containsExactly("uuid-b");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldFailAuctionsWhenBatchIsRejectedAndSeparateRequestsFailed(VertxTestContext context) {
+        // given
+        target = new CacheRequestBatcher(
+                vertx,
+                10L,
+                3,
+                (putObjects, timeoutMs) -> {
+                    sentBatches.add(putObjects);
+                    return Future.failedFuture(new CacheBatchRejectedException("HTTP status code 400"));
+                },
+                metrics,
+                Clock.systemUTC());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b"), timeout);
+
+            CompositeFuture.join(first, second).onComplete(context.failing(error -> context.verify(() -> {
+                // then
+                assertThat(sentBatches).hasSize(3);
+                assertThat(first.cause()).hasMessage("HTTP status code 400");
+                assertThat(second.cause()).hasMessage("HTTP status code 400");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldFailAuctionsWithoutSendingSeparatelyWhenBatchFailedNotBeingRejected(VertxTestContext context) {
+        // given
+        target = new CacheRequestBatcher(
+                vertx,
+                10L,
+                3,
+                (putObjects, timeoutMs) -> {
+                    sentBatches.add(putObjects);
+                    return Future.failedFuture(new RuntimeException("failed"));
+                },
+                metrics,
+                Clock.systemUTC());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), timeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b"), timeout);
+
+            CompositeFuture.join(first, second).onComplete(context.failing(error -> context.verify(() -> {
+                // then
+                assertThat(sentBatches).hasSize(1);
+                assertThat(first.cause()).hasMessage("failed");
+                assertThat(second.cause()).hasMessage("failed");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldSendBatchWithLargestTimeoutAndFailAuctionOnItsOwnDeadline(VertxTestContext context) {
+        // given
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(Clock.systemUTC());
+        final Timeout shortTimeout = timeoutFactory.create(5L);
+        final Timeout longTimeout = timeoutFactory.create(500L);
+
+        final List<Long> sentTimeouts = new ArrayList<>();
+        target = new CacheRequestBatcher(
+                vertx,
+                10L,
+                2,
+                (putObjects, timeoutMs) -> {
+                    sentTimeouts.add(timeoutMs);
+                    final Promise<BidCacheResponse> promise = Promise.promise();
+                    vertx.setTimer(100L, ignored -> promise.complete(send(putObjects, timeoutMs).result()));
+                    return promise.future();
+                },
+                metrics,
+                Clock.systemUTC());
+
+        // when
+        vertx.runOnContext(ignored -> {
+            final Future<BidCacheResponse> first = target.put(givenPutObjects("a"), shortTimeout);
+            final Future<BidCacheResponse> second = target.put(givenPutObjects("b"), longTimeout);
+
+            first.onComplete(context.failing(error -> context.verify(() -> {
+                // then
+                assertThat(error).isInstanceOf(TimeoutException.class);
+                assertThat(second.isComplete()).isFalse();
+            })));
+
+            second.onComplete(context.succeeding(result -> context.verify(() -> {
+                assertThat(first.failed()).isTrue();
+                assertThat(sentTimeouts).hasSize(1).allSatisfy(timeoutMs -> assertThat(timeoutMs).isGreaterThan(100L));
+                assertThat(uuids(second)).containsExactly("uuid-b");
+                context.completeNow();
+            })));
+        });
+    }
+
+    @Test
+    public void putShouldFailAuctionTimedOutBeforeBatchIsSent(VertxTestContext context) {
+        // given
+        final Timeout expiredTimeout = timeout.minus(2000L);
+
+        // when
+        vertx.runOnContext(ignored -> target.put(givenPutObjects("a"), expiredTimeout)
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    // then
+                    assertThat(error).isInstanceOf(TimeoutException.class);
+                    assertThat(sentBatches).isEmpty();
+                    verifyNoInteractions(metrics);
+                    context.completeNow();
+                }))));
+    }
+
+    @Test
+    public void putShouldSendRightAwayOutsideOfEventLoop() {
+        // when
+        final Future<BidCacheResponse> result = target.put(givenPutObjects("a"), timeout);
+
+        // then
+        assertThat(sentBatches).hasSize(1);
+        assertThat(uuids(result)).containsExactly("uuid-a");
+        verifyNoInteractions(metrics);
+    }
+
+    private Future<BidCacheResponse> send(List<BidPutObject> putObjects, long timeoutMs) {
+        sentBatches.add(putObjects);
+
+        final List<CacheObject> responses = putObjects.stream()
+                .map(putObject -> CacheObject.of("uuid-" + putObject.getKey()))
+                .toList();
+        return Future.succeededFuture(BidCacheResponse.of(responses));
+    }
+
+    private static List<BidPutObject> givenPutObjects(String... keys) {
+        final List<BidPutObject> putObjects = new ArrayList<>();
+        for (String key : keys) {
+            putObjects.add(BidPutObject.builder().type("json").key(key).build());
+        }
+        return putObjects;
+    }
+
+    private static List<String> uuids(Future<BidCacheResponse> response) {
+        return response.result().getResponses().stream()
+                .map(CacheObject::getUuid)
+                .toList();
+    }
+}
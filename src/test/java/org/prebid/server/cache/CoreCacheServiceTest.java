@@ -9,6 +9,7 @@ import com.iab.openrtb.request.Video;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +21,8 @@ import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.auction.model.BidInfo;
 import org.prebid.server.auction.model.CachedDebugLog;
 import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.auction.model.debug.DebugContext;
+import org.prebid.server.cache.model.CacheBatching;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
 import org.prebid.server.cache.model.CacheInfo;
@@ -31,6 +34,7 @@ import org.prebid.server.cache.proto.response.bid.BidCacheResponse;
 import org.prebid.server.cache.proto.response.bid.CacheObject;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.exception.CacheBatchRejectedException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.execution.timeout.TimeoutFactory;
@@ -68,6 +72,7 @@ import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -90,6 +95,8 @@ public class CoreCacheServiceTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private UUIDIdGenerator idGenerator;
+    @Mock
+    private Vertx vertx;
 
     private Clock clock;
 
@@ -120,7 +127,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         eventsContext = EventsContext.builder().auctionId("auctionId").build();
 
@@ -271,7 +280,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         givenHttpClientProducesException(new RuntimeException("Response exception"));
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
@@ -433,6 +444,75 @@ public class CoreCacheServiceTest extends VertxTest {
                         .build());
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldReturnResultWithoutDebugInfoWhenBatchingEnabled() throws MalformedURLException {
+        // given
+        target = givenBatchingCoreCacheService();
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext().toBuilder().debugContext(DebugContext.empty()).build(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        final CacheServiceResult result = future.result();
+        assertThat(result.getHttpCall()).isNull();
+        assertThat(result.getError()).isNull();
+        assertThat(result.getCacheBids())
+                .containsOnly(entry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null)));
+        verify(httpClient).post(eq("http://cache-service/cache"), any(), anyString(), eq(500L));
+        verify(metrics).updateCacheRequestSuccessTime(eq("accountId"), anyLong());
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldReturnBatchRejectedErrorWhenBatchingEnabledAndResponseCodeIs4xx()
+            throws MalformedURLException {
+        // given
+        target = givenBatchingCoreCacheService();
+        givenHttpClientReturnsResponse(400, "response");
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext().toBuilder().debugContext(DebugContext.empty()).build(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        final CacheServiceResult result = future.result();
+        assertThat(result.getCacheBids()).isEmpty();
+        assertThat(result.getError())
+                .isInstanceOf(CacheBatchRejectedException.class)
+                .hasMessage("HTTP status code 400");
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotBatchRequestWithDebugEnabled() throws MalformedURLException {
+        // given
+        target = givenBatchingCoreCacheService();
+        final BidInfo bidInfo = givenBidInfo(builder -> builder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = target.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext().toBuilder().debugContext(DebugContext.of(true, false, null)).build(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(future.result().getHttpCall()).isNotNull();
+        verify(metrics, never()).updateCacheBatchMetrics(anyInt(), anyInt(), anyLong());
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldUseApiKeyWhenProvided() throws MalformedURLException {
         // given
@@ -451,7 +531,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
         final BidInfo bidinfo = givenBidInfo(builder -> builder.id("bidId1"));
 
         // when
@@ -892,7 +974,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -944,7 +1028,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject firstBidPutObject = BidPutObject.builder()
                 .type("json")
@@ -986,7 +1072,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId())
                 .willReturn("1-high-entropy-cache-id")
@@ -1056,7 +1144,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId())
                 .willReturn("1-high-entropy-cache-id-foo-bar-")
@@ -1126,7 +1216,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("low-entropy");
 
@@ -1177,7 +1269,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("high-entropy-cache-id");
 
@@ -1225,7 +1319,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         given(idGenerator.generateId()).willReturn("high-entropy-cache-id-foo-bar");
 
@@ -1273,7 +1369,9 @@ public class CoreCacheServiceTest extends VertxTest {
                 metrics,
                 clock,
                 idGenerator,
-                jacksonMapper);
+                jacksonMapper,
+                null,
+                null);
 
         final BidPutObject bidPutObject = BidPutObject.builder()
                 .type("text")
@@ -1356,6 +1454,27 @@ public class CoreCacheServiceTest extends VertxTest {
         verify(metrics, never()).updateCacheCreativeTtl(any(), any(), any());
     }
 
+    private CoreCacheService givenBatchingCoreCacheService() throws MalformedURLException {
+        return new CoreCacheService(
+                httpClient,
+                new URL("http://cache-service/cache"),
+                null,
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                null,
+                false,
+                false,
+                null,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper,
+                vertx,
+                CacheBatching.of(2L, 100));
+    }
+
     private AuctionContext givenAuctionContext(UnaryOperator<Account.AccountBuilder> accountCustomizer,
                                                UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
 
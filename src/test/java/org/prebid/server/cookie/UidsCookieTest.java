@@ -146,6 +146,32 @@ public class UidsCookieTest extends VertxTest {
         assertThat(uidsCookieReturned.uidFrom(ADNXS)).isEqualTo("12345");
     }
 
+    @Test
+    public void deleteExpiredUidsShouldReturnUidsCookieWithOnlyLiveUids() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        uids.put(RUBICON, UidWithExpiry.expired("J5VLCWQP-26-CWFT"));
+        uids.put(ADNXS, UidWithExpiry.live("12345"));
+        final UidsCookie uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
+
+        // when
+        final UidsCookie uidsCookieReturned = uidsCookie.deleteExpiredUids();
+
+        // then
+        assertThat(uidsCookieReturned.getCookieUids().getUids()).containsOnlyKeys(ADNXS);
+    }
+
+    @Test
+    public void deleteExpiredUidsShouldReturnSameUidsCookieIfAllUidsAreLive() {
+        // given
+        final Map<String, UidWithExpiry> uids = new HashMap<>();
+        uids.put(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"));
+        final UidsCookie uidsCookie = new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
+
+        // when and then
+        assertThat(uidsCookie.deleteExpiredUids()).isSameAs(uidsCookie);
+    }
+
     @Test
     public void deleteUidShouldTolerateNullUids() {
         // given
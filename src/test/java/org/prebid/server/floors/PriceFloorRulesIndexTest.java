@@ -0,0 +1,83 @@
+package org.prebid.server.floors;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.floors.model.PriceFloorField;
+import org.prebid.server.floors.model.PriceFloorModelGroup;
+import org.prebid.server.floors.model.PriceFloorSchema;
+import org.prebid.server.util.dsl.config.PrebidConfigParameter;
+import org.prebid.server.util.dsl.config.impl.MostAccurateCombinationStrategy;
+import org.prebid.server.util.dsl.config.impl.SimpleDirectParameter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceFloorRulesIndexTest {
+
+    @Test
+    public void compileShouldLookupRulesCaseInsensitively() {
+        // given
+        final PriceFloorRulesIndex target = PriceFloorRulesIndex.compile(givenModelGroup("|"));
+
+        // when and then
+        assertThat(target.contains("BANNER|300x250")).isTrue();
+        assertThat(target.floor("Banner|300X250")).isEqualTo(BigDecimal.ONE);
+        assertThat(target.contains("video|300x250")).isFalse();
+    }
+
+    @Test
+    public void narrowShouldReplaceUnknownValuesWithWildcard() {
+        // given
+        final PriceFloorRulesIndex target = PriceFloorRulesIndex.compile(givenModelGroup("|"));
+        final PrebidConfigParameter mediaType = SimpleDirectParameter.of(List.of("video", "video-instream"));
+        final PrebidConfigParameter size = SimpleDirectParameter.of("300x250");
+
+        // when
+        final Iterable<PrebidConfigParameter> result = target.narrow(List.of(mediaType, size)).get();
+
+        // then
+        assertThat(result).containsExactly(PrebidConfigParameter.wildcard(), size);
+    }
+
+    @Test
+    public void narrowShouldKeepOnlyKnownValues() {
+        // given
+        final PriceFloorRulesIndex target = PriceFloorRulesIndex.compile(givenModelGroup("|"));
+        final PrebidConfigParameter mediaType = SimpleDirectParameter.of(List.of("native", "banner"));
+
+        // when
+        final Iterable<PrebidConfigParameter> result = target.narrow(
+                List.of(mediaType, PrebidConfigParameter.wildcard())).get();
+
+        // then
+        assertThat(result).containsExactly(
+                SimpleDirectParameter.of(List.of("banner")), PrebidConfigParameter.wildcard());
+    }
+
+    @Test
+    public void narrowedParametersShouldMatchSameRuleAsOriginalParameters() {
+        // given
+        final PriceFloorRulesIndex target = PriceFloorRulesIndex.compile(givenModelGroup("::"));
+        final MostAccurateCombinationStrategy strategy = new MostAccurateCombinationStrategy();
+        final List<PrebidConfigParameter> parameters = List.of(
+                SimpleDirectParameter.of("audio"),
+                SimpleDirectParameter.of("728x90"));
+
+        // when
+        final String result = strategy.match(target, target.narrow(parameters));
+
+        // then
+        assertThat(result).isEqualTo("*::*");
+        assertThat(target.floor(result)).isEqualTo(BigDecimal.TEN);
+    }
+
+    private static PriceFloorModelGroup givenModelGroup(String delimiter) {
+        return PriceFloorModelGroup.builder()
+                .schema(PriceFloorSchema.of(delimiter, List.of(PriceFloorField.mediaType, PriceFloorField.size)))
+                .value("Banner" + delimiter + "300x250", BigDecimal.ONE)
+                .value("*" + delimiter + "300x250", BigDecimal.valueOf(2))
+                .value("*" + delimiter + "*", BigDecimal.TEN)
+                .build();
+    }
+}
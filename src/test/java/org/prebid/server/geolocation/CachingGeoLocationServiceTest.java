@@ -0,0 +1,128 @@
+package org.prebid.server.geolocation;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingGeoLocationServiceTest {
+
+    @Mock
+    private GeoLocationService wrappedGeoLocationService;
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void lookupShouldReturnCachedResultOnSubsequentCalls() {
+        // given
+        final CachingGeoLocationService target = givenTarget(false);
+        final GeoInfo geoInfo = GeoInfo.builder().vendor("vendor").country("country").build();
+        given(wrappedGeoLocationService.lookup(any(), any())).willReturn(Future.succeededFuture(geoInfo));
+
+        // when
+        target.lookup("192.168.0.1", null);
+        final Future<GeoInfo> result = target.lookup("192.168.0.1", null);
+
+        // then
+        assertThat(result.result()).isSameAs(geoInfo);
+        verify(wrappedGeoLocationService).lookup(any(), any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldNotCacheFailedResult() {
+        // given
+        final CachingGeoLocationService target = givenTarget(false);
+        given(wrappedGeoLocationService.lookup(any(), any())).willReturn(Future.failedFuture("failed"));
+
+        // when
+        target.lookup("192.168.0.1", null);
+        final Future<GeoInfo> result = target.lookup("192.168.0.1", null);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(wrappedGeoLocationService, times(2)).lookup(any(), any());
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldNotShareResultBetweenIpsWhenPrefixKeysDisabled() {
+        // given
+        final CachingGeoLocationService target = givenTarget(false);
+        given(wrappedGeoLocationService.lookup(any(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        target.lookup("192.168.0.1", null);
+        target.lookup("192.168.0.2", null);
+
+        // then
+        verify(wrappedGeoLocationService, times(2)).lookup(any(), any());
+    }
+
+    @Test
+    public void lookupShouldShareResultWithinIpv4NetworkWhenPrefixKeysEnabled() {
+        // given
+        final CachingGeoLocationService target = givenTarget(true);
+        given(wrappedGeoLocationService.lookup(any(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        target.lookup("192.168.0.1", null);
+        target.lookup("192.168.0.254", null);
+        target.lookup("192.168.1.1", null);
+
+        // then
+        verify(wrappedGeoLocationService, times(2)).lookup(any(), any());
+    }
+
+    @Test
+    public void lookupShouldShareResultWithinIpv6NetworkWhenPrefixKeysEnabled() {
+        // given
+        final CachingGeoLocationService target = givenTarget(true);
+        given(wrappedGeoLocationService.lookup(any(), any()))
+                .willReturn(Future.succeededFuture(GeoInfo.builder().vendor("vendor").build()));
+
+        // when
+        target.lookup("2001:db8:85a3::8a2e:370:7334", null);
+        target.lookup("2001:db8:85a3:1::1", null);
+        target.lookup("2001:db8:85a4::1", null);
+
+        // then
+        verify(wrappedGeoLocationService, times(2)).lookup(any(), any());
+    }
+
+    @Test
+    public void lookupShouldNotReturnResultCachedBeforeInvalidation() {
+        // given
+        final CachingGeoLocationService target = givenTarget(false);
+        final GeoInfo oldGeoInfo = GeoInfo.builder().vendor("vendor").country("fr").build();
+        final GeoInfo newGeoInfo = GeoInfo.builder().vendor("vendor").country("de").build();
+        given(wrappedGeoLocationService.lookup(any(), any()))
+                .willReturn(Future.succeededFuture(oldGeoInfo), Future.succeededFuture(newGeoInfo));
+
+        // when
+        target.lookup("192.168.0.1", null);
+        target.invalidateAll();
+        final Future<GeoInfo> result = target.lookup("192.168.0.1", null);
+
+        // then
+        assertThat(result.result()).isSameAs(newGeoInfo);
+        verify(wrappedGeoLocationService, times(2)).lookup(any(), any());
+    }
+
+    private CachingGeoLocationService givenTarget(boolean prefixKeys) {
+        return new CachingGeoLocationService(wrappedGeoLocationService, metrics, 100, 60L, prefixKeys);
+    }
+}
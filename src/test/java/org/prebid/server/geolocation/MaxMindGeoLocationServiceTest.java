@@ -9,13 +9,20 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -28,6 +35,11 @@ public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    private static final String RESOURCE_PATH = "org/prebid/server/geolocation/";
+
+    @TempDir
+    private Path tempDir;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @BeforeEach
@@ -57,6 +69,77 @@ public class MaxMindGeoLocationServiceTest {
                 .hasMessageStartingWith("IO Exception occurred while trying to read an archive/db file: no_file");
     }
 
+    @Test
+    public void setDataPathShouldReturnFailedFutureIfArchiveHasNoDatabaseFile() throws IOException {
+        // given
+        final Path archivePath = givenArchive("GeoLite2-City_20240101/README.txt", "GeoLite2-City-fr.mmdb");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessageStartingWith("Database file GeoLite2-City.mmdb not found in");
+    }
+
+    @Test
+    public void lookupShouldReturnGeoInfoFromDatabaseLoadedIntoMemory() throws IOException {
+        // given
+        final Path archivePath = givenArchive("GeoLite2-City-fr.mmdb");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(maxMindGeoLocationService.lookup(TEST_IP, null).result()).isEqualTo(givenParisGeoInfo());
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb")).doesNotExist();
+    }
+
+    @Test
+    public void lookupShouldReturnGeoInfoFromMemoryMappedDatabaseExtractedNextToArchive() throws IOException {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(true);
+        final Path archivePath = givenArchive("GeoLite2-City-fr.mmdb");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(maxMindGeoLocationService.lookup(TEST_IP, null).result()).isEqualTo(givenParisGeoInfo());
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb"))
+                .hasBinaryContent(ResourceUtil.readByteArrayFromClassPath(RESOURCE_PATH + "GeoLite2-City-fr.mmdb"));
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb.tmp")).doesNotExist();
+    }
+
+    @Test
+    public void lookupShouldReturnGeoInfoFromMemoryMappedDatabaseReplacedByUpdate() throws IOException {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(true);
+        maxMindGeoLocationService.setDataPath(givenArchive("GeoLite2-City-fr.mmdb").toString());
+        final Path archivePath = givenArchive("GeoLite2-City-de.mmdb");
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archivePath.toString());
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(maxMindGeoLocationService.lookup(TEST_IP, null).result())
+                .isEqualTo(GeoInfo.builder()
+                        .vendor("maxmind")
+                        .continent("eu")
+                        .country("de")
+                        .region("BE")
+                        .city("Berlin")
+                        .lat(52.52f)
+                        .lon(13.405f)
+                        .build());
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb"))
+                .hasBinaryContent(ResourceUtil.readByteArrayFromClassPath(RESOURCE_PATH + "GeoLite2-City-de.mmdb"));
+        assertThat(tempDir.resolve("GeoLite2-City.mmdb.tmp")).doesNotExist();
+    }
+
     @Test
     public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
             GeoIp2Exception, IllegalAccessException {
@@ -127,4 +210,37 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    private Path givenArchive(String databaseResource) throws IOException {
+        return givenArchive("GeoLite2-City_20240101/GeoLite2-City.mmdb", databaseResource);
+    }
+
+    private Path givenArchive(String entryName, String databaseResource) throws IOException {
+        final byte[] database = ResourceUtil.readByteArrayFromClassPath(RESOURCE_PATH + databaseResource);
+        final Path archivePath = tempDir.resolve("GeoLite2-City.tar.gz");
+
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(archivePath)))) {
+
+            final TarArchiveEntry entry = new TarArchiveEntry(entryName);
+            entry.setSize(database.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(database);
+            tarOutput.closeArchiveEntry();
+        }
+
+        return archivePath;
+    }
+
+    private static GeoInfo givenParisGeoInfo() {
+        return GeoInfo.builder()
+                .vendor("maxmind")
+                .continent("eu")
+                .country("fr")
+                .region("IDF")
+                .city("Paris")
+                .lat(48.8566f)
+                .lon(2.3522f)
+                .build();
+    }
 }
@@ -15,6 +15,7 @@ import org.prebid.server.bidder.BidderInfo;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 
 import java.util.HashSet;
 
@@ -199,6 +200,7 @@ public class BidderDetailsHandlerTest extends VertxTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
     }
@@ -12,6 +12,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -56,12 +57,14 @@ import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
 import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
 import org.prebid.server.hooks.execution.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.execution.v1.analytics.TagsImpl;
+import org.prebid.server.hooks.execution.v1.exitpoint.EncodedExitpointPayload;
 import org.prebid.server.hooks.execution.v1.exitpoint.ExitpointPayloadImpl;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.ResponseBody;
 import org.prebid.server.model.HttpRequestContext;
 import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
@@ -180,7 +183,7 @@ public class AmpHandlerTest extends VertxTest {
 
         given(hookStageExecutor.executeExitpointStage(any(), any(), any()))
                 .willAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.success(
-                        ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1)))));
+                        EncodedExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1)))));
 
         given(hooksMetricsService.updateHooksMetrics(any())).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -322,7 +325,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid request format: Request is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid request format: Request is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -344,7 +347,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted account"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted account")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -366,7 +369,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Blocklisted: Blocklisted app"));
+        verify(httpResponse).end(eq(Buffer.buffer("Blocklisted: Blocklisted app")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -388,7 +391,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Account id is not provided"));
+        verify(httpResponse).end(eq(Buffer.buffer("Account id is not provided")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -411,7 +414,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Invalid account configuration: Account is invalid"));
+        verify(httpResponse).end(eq(Buffer.buffer("Invalid account configuration: Account is invalid")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -435,7 +438,7 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("AMP-Access-Control-Allow-Source-Origin", "http://example.com"),
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("Critical error while running the auction: Unexpected exception"));
+        verify(httpResponse).end(eq(Buffer.buffer("Critical error while running the auction: Unexpected exception")));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -478,7 +481,7 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).end(anyString());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verifyNoInteractions(hookStageExecutor, hooksMetricsService);
     }
 
@@ -507,12 +510,13 @@ public class AmpHandlerTest extends VertxTest {
                         tuple("Access-Control-Expose-Headers", "AMP-Access-Control-Allow-Source-Origin"),
                         tuple("Content-Type", "application/json"),
                         tuple("x-prebid", "pbs-java/1.00"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer(
+                "{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -553,12 +557,12 @@ public class AmpHandlerTest extends VertxTest {
         assertThat(httpResponse.headers()).hasSize(1)
                 .extracting(Map.Entry::getKey, Map.Entry::getValue)
                 .containsOnly(tuple("New-Header", "New-Header-Value"));
-        verify(httpResponse).end(eq("{\"targeting\":{\"new-key\":\"new-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"new-key\":\"new-value\"}}")));
 
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"key1\":\"value1\",\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -605,12 +609,12 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                + "\"hb_cache_id_bidder1\":\"value2\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                + "\"hb_cache_id_bidder1\":\"value2\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
-                        + "\"hb_cache_id_bidder1\":\"value2\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"key1\":\"value1\",\"rpfl_11078\":\"15_tier0030\","
+                        + "\"hb_cache_id_bidder1\":\"value2\"}}")),
                 any());
 
         verify(hooksMetricsService).updateHooksMetrics(any());
@@ -651,10 +655,10 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -679,10 +683,10 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"));
+        verify(httpResponse).end(eq(Buffer.buffer("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"key\":\"value\",\"test-key\":\"test-value\"}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -706,13 +710,13 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"));
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{},"
-                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}"),
+                eq(ResponseBody.of("{\"targeting\":{},"
+                        + "\"ext\":{\"debug\":{\"resolvedrequest\":{\"id\":\"reqId1\",\"imp\":[],\"tmax\":5000}}}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
 
@@ -741,19 +745,19 @@ public class AmpHandlerTest extends VertxTest {
         target.handle(routingContext);
 
         // then
-        verify(httpResponse).end(eq(
+        verify(httpResponse).end(eq(Buffer.buffer(
                 "{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"));
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")));
         verify(hookStageExecutor).executeExitpointStage(
                 any(),
-                eq("{\"targeting\":{},"
+                eq(ResponseBody.of("{\"targeting\":{},"
                         + "\"ext\":{\"prebid\":{\"modules\":{"
                         + "\"errors\":{\"module1\":{\"hook1\":[\"error1\"]}},"
                         + "\"warnings\":{\"module1\":{\"hook1\":[\"warning1\"]}},"
-                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}"),
+                        + "\"trace\":{\"executiontimemillis\":2,\"stages\":[]}}}}}")),
                 any());
         verify(hooksMetricsService).updateHooksMetrics(any());
     }
@@ -1056,7 +1060,7 @@ public class AmpHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -1107,7 +1111,7 @@ public class AmpHandlerTest extends VertxTest {
         final ArgumentCaptor<MultiMap> responseHeadersCaptor = ArgumentCaptor.forClass(MultiMap.class);
         verify(hookStageExecutor).executeExitpointStage(
                 responseHeadersCaptor.capture(),
-                eq("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}"),
+                eq(ResponseBody.of("{\"targeting\":{\"hb_cache_id_bidder1\":\"value1\"}}")),
                 any());
 
         assertThat(responseHeadersCaptor.getValue()).hasSize(4)
@@ -1157,7 +1161,7 @@ public class AmpHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            EncodedExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(givenBidResponse(mapper.valueToTree(
@@ -1273,7 +1277,7 @@ public class AmpHandlerTest extends VertxTest {
                                                                             givenAppliedToImpl()))))))
                                                     .build()))))));
                     return Future.succeededFuture(HookStageExecutionResult.success(
-                            ExitpointPayloadImpl.of(invocation.getArgument(0), invocation.getArgument(1))));
+                            EncodedExitpointPayload.of(invocation.getArgument(0), invocation.getArgument(1))));
                 });
 
         givenHoldAuction(givenBidResponse(mapper.valueToTree(
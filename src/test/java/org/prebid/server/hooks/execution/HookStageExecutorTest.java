@@ -85,11 +85,14 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointHook;
 import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointHook;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.ResponseBody;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountHooksConfiguration;
 import org.prebid.server.settings.model.HooksAdminConfig;
+import org.prebid.server.vertx.DeadlineScheduler;
 
 import java.time.Clock;
 import java.time.ZoneOffset;
@@ -137,13 +140,17 @@ public class HookStageExecutorTest extends VertxTest {
 
     @Mock(strictness = LENIENT)
     private HookCatalog hookCatalog;
+    @Mock
+    private Metrics metrics;
     private TimeoutFactory timeoutFactory;
     private Vertx vertx;
+    private DeadlineScheduler deadlineScheduler;
     private Clock clock;
 
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
+        deadlineScheduler = new DeadlineScheduler(vertx, 10L, metrics);
         clock = Clock.systemUTC();
         timeoutFactory = new TimeoutFactory(Clock.fixed(clock.instant(), ZoneOffset.UTC));
     }
@@ -476,7 +483,7 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-alpha", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                deadlineScheduler,
                 clock,
                 jacksonMapper,
                 false,
@@ -1478,7 +1485,7 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                deadlineScheduler,
                 clock,
                 jacksonMapper,
                 false,
@@ -1596,7 +1603,7 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                deadlineScheduler,
                 clock,
                 jacksonMapper,
                 true,
@@ -3361,7 +3368,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                ResponseBody.of("{}"),
                 AuctionContext.builder()
                         .bidRequest(BidRequest.builder().build())
                         .account(Account.empty("accountId"))
@@ -3409,7 +3416,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                ResponseBody.of("{}"),
                 AuctionContext.builder()
                         .bidRequest(BidRequest.builder().build())
                         .account(Account.builder()
@@ -3455,7 +3462,7 @@ public class HookStageExecutorTest extends VertxTest {
         // when
         final Future<HookStageExecutionResult<ExitpointPayload>> future = executor.executeExitpointStage(
                 MultiMap.caseInsensitiveMultiMap().add("Header-Name", "Header-Value"),
-                "{}",
+                ResponseBody.of("{}"),
                 AuctionContext.builder()
                         .account(Account.empty("accountId"))
                         .hookExecutionContext(hookExecutionContext)
@@ -3735,7 +3742,7 @@ public class HookStageExecutorTest extends VertxTest {
                 Collections.emptyMap(),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                deadlineScheduler,
                 clock,
                 jacksonMapper,
                 false,
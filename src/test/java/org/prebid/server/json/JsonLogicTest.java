@@ -8,6 +8,7 @@ import io.github.jamsesso.jsonlogic.ast.JsonLogicVariable;
 import io.github.jamsesso.jsonlogic.evaluator.JsonLogicEvaluationException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,4 +42,40 @@ public class JsonLogicTest {
         // then
         assertThat(result).isFalse();
     }
+
+    @Test
+    public void compiledNodeShouldBeEvaluatedSameAsOriginalNode() throws JsonLogicEvaluationException {
+        // given
+        final JsonLogicNode jsonLogicNode = jsonLogic.parse(
+                "{\"or\": ["
+                + "{\"==\": [{\"var\": \"Gpc\"}, true]},"
+                + "{\"and\": ["
+                + "{\"===\": [{\"var\": \"MspaServiceProviderMode\"}, 1]},"
+                + "{\"!=\": [{\"var\": \"SaleOptOut\"}, 2]}"
+                + "]},"
+                + "{\"in\": [{\"var\": \"SensitiveDataProcessing1\"}, [1, 2]]},"
+                + "{\"!\": [{\"var\": [\"Missing\", false]}]}"
+                + "]}");
+        final JsonLogicNode compiledNode = jsonLogic.compile(jsonLogicNode);
+        final List<Map<String, Object>> dataSets = List.of(
+                Map.of("Gpc", false, "MspaServiceProviderMode", 1, "SaleOptOut", 2, "Missing", true),
+                Map.of("Gpc", true, "Missing", true),
+                Map.of("Gpc", false, "MspaServiceProviderMode", 1, "SaleOptOut", 1, "Missing", true),
+                Map.of("Gpc", false, "SensitiveDataProcessing1", 2, "Missing", true),
+                Map.of("Gpc", false));
+
+        // when and then
+        for (Map<String, Object> data : dataSets) {
+            assertThat(jsonLogic.evaluate(compiledNode, data)).isEqualTo(jsonLogic.evaluate(jsonLogicNode, data));
+        }
+    }
+
+    @Test
+    public void compileShouldReturnSameNodeIfAlreadyCompiled() {
+        // given
+        final JsonLogicNode compiledNode = jsonLogic.compile(jsonLogic.parse("{\"var\": \"a\"}"));
+
+        // when and then
+        assertThat(jsonLogic.compile(compiledNode)).isSameAs(compiledNode);
+    }
 }
@@ -1,5 +1,6 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Dooh;
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -95,4 +98,37 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldParseStoredDataOnceAndReuseCachedTree() {
+        // given
+        final Map<String, JsonNode> treeCache = new HashMap<>();
+        target = new JsonMerger(jacksonMapper, treeCache);
+        final String storedData = "{\"page\":\"storedPage\",\"domain\":\"storedDomain\"}";
+
+        // when
+        final Site firstResult = target.merge(Site.builder().page("page1").build(), storedData, "id", Site.class);
+        final JsonNode cachedTree = treeCache.get(storedData);
+        final Site secondResult = target.merge(Site.builder().page("page2").build(), storedData, "id", Site.class);
+
+        // then
+        assertThat(firstResult).isEqualTo(Site.builder().page("page1").domain("storedDomain").build());
+        assertThat(secondResult).isEqualTo(Site.builder().page("page2").domain("storedDomain").build());
+        assertThat(treeCache).hasSize(1);
+        assertThat(treeCache.get(storedData)).isSameAs(cachedTree)
+                .isEqualTo(mapper.createObjectNode().put("page", "storedPage").put("domain", "storedDomain"));
+    }
+
+    @Test
+    public void mergeShouldReturnNewNodeMergedWithStoredDataAndNotModifyOriginalOne() {
+        // given
+        final ObjectNode originalNode = mapper.createObjectNode().put("page", "page");
+        final String storedData = "{\"page\":\"storedPage\",\"domain\":\"storedDomain\"}";
+
+        // when
+        final JsonNode result = target.merge(originalNode, storedData, "id");
+
+        // then
+        assertThat(result).isEqualTo(mapper.createObjectNode().put("page", "page").put("domain", "storedDomain"));
+        assertThat(originalNode).isEqualTo(mapper.createObjectNode().put("page", "page"));
+    }
 }
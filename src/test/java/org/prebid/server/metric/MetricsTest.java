@@ -470,6 +470,67 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.rubicon.requests.type.amp").getCount()).isOne();
     }
 
+    @Test
+    public void incCounterShouldRegisterMetricAgainIfItWasRemoved() {
+        // given
+        metrics.incCounter(MetricName.bids_received);
+        metrics.removeMetric(MetricName.bids_received);
+
+        // when
+        metrics.incCounter(MetricName.bids_received);
+
+        // then
+        assertThat(metricRegistry.counter("bids_received").getCount()).isOne();
+    }
+
+    @Test
+    public void forAccountShouldRemoveMetricsOfEvictedAccounts() {
+        // given
+        metrics = new Metrics(metricRegistry, CounterType.counter, accountMetricsVerbosityResolver, 1);
+
+        // when
+        metrics.forAccount("account1").incCounter(MetricName.requests);
+        metrics.forAccount("account2").incCounter(MetricName.requests);
+        metrics.forAccount("account3").incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.getCounters((name, metric) -> name.startsWith("account."))).hasSize(1);
+    }
+
+    @Test
+    public void removeMetricsShouldNotRemoveMetricsOfAccountWhoseIdStartsWithRemovedOne() {
+        // given
+        final AccountMetrics accountMetrics = new AccountMetrics(metricRegistry, CounterType.counter, "foo");
+        accountMetrics.incCounter(MetricName.requests);
+        new AccountMetrics(metricRegistry, CounterType.counter, "foo.bar").incCounter(MetricName.requests);
+
+        // when
+        accountMetrics.removeMetrics();
+
+        // then
+        assertThat(metricRegistry.getCounters()).containsOnlyKeys("account.foo.bar.requests");
+    }
+
+    @Test
+    public void removeMetricsShouldNotAffectMetricsOfAccountCreatedAgain() {
+        // given
+        final AccountMetrics removedAccountMetrics = new AccountMetrics(metricRegistry, CounterType.counter, "foo");
+        removedAccountMetrics.incCounter(MetricName.requests);
+        removedAccountMetrics.removeMetrics();
+
+        final AccountMetrics accountMetrics = new AccountMetrics(metricRegistry, CounterType.counter, "foo");
+
+        // when
+        accountMetrics.incCounter(MetricName.requests);
+        removedAccountMetrics.incCounter(MetricName.requests);
+        removedAccountMetrics.incCounter(MetricName.debug_requests);
+        accountMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.getCounters()).containsOnlyKeys("account.foo.requests");
+        assertThat(metricRegistry.counter("account.foo.requests").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateAnalyticWithEventTypeShouldUpdateMetricsAsExpected() {
 
@@ -570,6 +631,36 @@ public class MetricsTest {
                 .isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterRequestCompressionMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 150_000L, 700L);
+        metrics.updateAdapterRequestCompressionMetrics(CONVERSANT, 150_000L, 700L);
+        metrics.updateAdapterRequestCompressionMetrics(CONVERSANT, 250_000L, 900L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.request_compression_time").getSnapshot().getValues())
+                .containsOnly(150_000L);
+        assertThat(metricRegistry.histogram("adapter.rubicon.request_compression_saved_bytes").getSnapshot()
+                .getValues()).containsOnly(700L);
+        assertThat(metricRegistry.timer("adapter.conversant.request_compression_time").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.histogram("adapter.conversant.request_compression_saved_bytes").getCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void updateAdapterParamsValidationTimeShouldUpdateTimer() {
+        // when
+        metrics.updateAdapterParamsValidationTime(RUBICON, 150_000L);
+        metrics.updateAdapterParamsValidationTime(CONVERSANT, 50_000L);
+        metrics.updateAdapterParamsValidationTime(CONVERSANT, 250_000L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.params_validation_time").getSnapshot().getValues())
+                .containsOnly(150_000L);
+        assertThat(metricRegistry.timer("adapter.conversant.params_validation_time").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updateAdapterRequestNobidMetricsShouldIncrementMetrics() {
         // when
@@ -946,6 +1037,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -1111,6 +1214,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("connection_accept_errors").getCount()).isOne();
     }
 
+    @Test
+    public void updateDeadlineSchedulerMetricShouldIncrementEventMetric() {
+        // when
+        metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_scheduled);
+        metrics.updateDeadlineSchedulerMetric(MetricName.deadlines_scheduled);
+        metrics.updateDeadlineSchedulerMetric(MetricName.deadline_timers_created);
+
+        // then
+        assertThat(metricRegistry.counter("deadlines_scheduled").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("deadline_timers_created").getCount()).isOne();
+    }
+
     @Test
     public void shouldUpdateDatabaseQueryTimeMetric() {
         // when
@@ -1157,6 +1272,18 @@ public class MetricsTest {
         assertThat(metricRegistry.gauge("circuit-breaker.geo.opened.count", () -> null).getValue()).isEqualTo(1L);
     }
 
+    @Test
+    public void updateGeoLocationCacheMetricShouldIncrementHitOrMissMetric() {
+        // when
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void shouldIncrementBothGeoLocationRequestsAndSuccessfulMetrics() {
         // when
@@ -1246,6 +1373,19 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("account.accountId.prebid_cache.requests.err").getCount()).isOne();
     }
 
+    @Test
+    public void updateCacheBatchMetricsShouldUpdateHistogramsAndTimer() {
+        // when
+        metrics.updateCacheBatchMetrics(3, 7, 2L);
+
+        // then
+        assertThat(metricRegistry.histogram("prebid_cache.batch.auctions").getSnapshot().getValues())
+                .containsOnly(3L);
+        assertThat(metricRegistry.histogram("prebid_cache.batch.objects").getSnapshot().getValues())
+                .containsOnly(7L);
+        assertThat(metricRegistry.timer("prebid_cache.batch.wait_time").getCount()).isOne();
+    }
+
     @Test
     public void shouldIncrementPrebidCacheCreativeSizeHistogram() {
         // when
@@ -1532,6 +1672,15 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("requests.activity.processedrules.count").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void shouldIncrementUpdateRequestsActivityProcessedRulesCountByGivenCount() {
+        // when
+        metrics.updateRequestsActivityProcessedRulesCount(3);
+
+        // then
+        assertThat(metricRegistry.counter("requests.activity.processedrules.count").getCount()).isEqualTo(3);
+    }
+
     @Test
     public void shouldIncrementUpdateAccountActivityProcessedRulesCount() {
         // when
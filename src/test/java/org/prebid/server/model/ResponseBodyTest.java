@@ -0,0 +1,63 @@
+package org.prebid.server.model;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseBodyTest {
+
+    @Test
+    public void asBufferShouldReturnSameBufferIfBodyWasCreatedFromBuffer() {
+        // given
+        final Buffer buffer = Buffer.buffer("{\"id\":\"ćma\"}");
+
+        // when
+        final ResponseBody result = ResponseBody.ofBuffer(buffer);
+
+        // then
+        assertThat(result.asBuffer()).isSameAs(buffer);
+        assertThat(result.asString()).isEqualTo("{\"id\":\"ćma\"}");
+    }
+
+    @Test
+    public void asStringShouldDecodeBufferOnlyOnce() {
+        // given
+        final ResponseBody responseBody = ResponseBody.ofBuffer(Buffer.buffer("body"));
+
+        // when
+        final String result = responseBody.asString();
+
+        // then
+        assertThat(responseBody.asString()).isSameAs(result);
+    }
+
+    @Test
+    public void asBufferShouldEncodeStringAsUtf8() {
+        // when
+        final ResponseBody result = ResponseBody.of("ćma");
+
+        // then
+        assertThat(result.asBuffer()).isEqualTo(Buffer.buffer("ćma", "UTF-8"));
+    }
+
+    @Test
+    public void asBufferShouldReturnEmptyBufferIfBodyIsNull() {
+        // when
+        final ResponseBody result = ResponseBody.of(null);
+
+        // then
+        assertThat(result.asBuffer().length()).isZero();
+        assertThat(result.asString()).isNull();
+    }
+
+    @Test
+    public void equalsShouldCompareBodiesRegardlessOfRepresentation() {
+        // when
+        final ResponseBody result = ResponseBody.ofBuffer(Buffer.buffer("body"));
+
+        // then
+        assertThat(result).isEqualTo(ResponseBody.of("body"));
+        assertThat(result).isNotEqualTo(ResponseBody.of("other"));
+    }
+}
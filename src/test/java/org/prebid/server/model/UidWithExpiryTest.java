@@ -1,9 +1,13 @@
 package org.prebid.server.model;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.Test;
 import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.json.ObjectMapperProvider;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,4 +36,29 @@ public class UidWithExpiryTest {
         assertThat(uid.getExpires().toInstant())
                 .isCloseTo(Instant.now().minus(5, ChronoUnit.MINUTES), within(10, ChronoUnit.SECONDS));
     }
+
+    @Test
+    public void shouldWriteExpiresBackAsItCame() throws JsonProcessingException {
+        // given
+        final String json = "{\"uid\":\"12345\",\"expires\":\"2023-12-05T19:00:05.103329-03:00\"}";
+
+        // when
+        final UidWithExpiry uid = ObjectMapperProvider.mapper().readValue(json, UidWithExpiry.class);
+
+        // then
+        assertThat(ObjectMapperProvider.mapper().writeValueAsString(uid)).isEqualTo(json);
+        assertThat(uid.getExpires()).isEqualTo(ZonedDateTime.of(
+                2023, 12, 5, 19, 0, 5, 103329000, ZoneOffset.ofHours(-3)));
+    }
+
+    @Test
+    public void shouldTreatUnparseableExpiresAsAbsent() throws JsonProcessingException {
+        // when
+        final UidWithExpiry uid = ObjectMapperProvider.mapper()
+                .readValue("{\"uid\":\"12345\",\"expires\":\"tomorrow\"}", UidWithExpiry.class);
+
+        // then
+        assertThat(uid.getUid()).isEqualTo("12345");
+        assertThat(uid.getExpires()).isNull();
+    }
 }
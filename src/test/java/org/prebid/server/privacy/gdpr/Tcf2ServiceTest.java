@@ -130,7 +130,9 @@ public class Tcf2ServiceTest extends VertxTest {
                 purposeStrategies,
                 specialFeaturesStrategies,
                 vendorListService,
-                bidderCatalog);
+                bidderCatalog,
+                0,
+                0);
     }
 
     private void initPurposes() {
@@ -215,6 +217,69 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(vendorListService).forConsent(any());
     }
 
+    @Test
+    public void permissionsForShouldReuseRecentlyResolvedPermissionsForSameConsentAndAccount() {
+        // given
+        target = new Tcf2Service(
+                gdprConfig,
+                purposeStrategies,
+                specialFeaturesStrategies,
+                vendorListService,
+                bidderCatalog,
+                60000,
+                100);
+
+        final AccountGdprConfig accountGdprConfig = AccountGdprConfig.builder().build();
+        doAnswer(invocation -> {
+            final Collection<VendorPermissionWithGvl> permissions = invocation.getArgument(2);
+            permissions.forEach(permission -> permission.getVendorPermission().consentWith(ONE));
+            return null;
+        }).when(purposeStrategyOne).processTypePurposeStrategy(any(), any(), anyCollection(), anyBoolean());
+
+        final Collection<VendorPermission> firstResult = target.permissionsFor(
+                singleton("b1"), vendorIdResolver, tcString, accountGdprConfig).result();
+        firstResult.iterator().next().getPrivacyEnforcementAction().setBlockBidderRequest(false);
+
+        // when
+        final Future<Collection<VendorPermission>> result = target.permissionsFor(
+                hashSet("b1", "b2"), vendorIdResolver, tcString, accountGdprConfig);
+
+        // then
+        final VendorPermission expectedVendorPermission = VendorPermission.of(null, "b1", restrictAll());
+        expectedVendorPermission.consentWith(ONE);
+        assertThat(result.result()).hasSize(2).contains(expectedVendorPermission);
+
+        verify(vendorListService, times(2)).forConsent(any());
+        // b1 is resolved only by the first call, b2 only by the second one
+        verify(purposeStrategyOne, times(2)).processTypePurposeStrategy(
+                any(), any(), argThat(permissions -> permissions.size() == 1), anyBoolean());
+    }
+
+    @Test
+    public void permissionsForShouldNotReusePermissionsResolvedWithoutVendorList() {
+        // given
+        target = new Tcf2Service(
+                gdprConfig,
+                purposeStrategies,
+                specialFeaturesStrategies,
+                vendorListService,
+                bidderCatalog,
+                60000,
+                100);
+
+        given(vendorListService.forConsent(any())).willReturn(Future.failedFuture("Bad version"));
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        target.permissionsFor(singleton(1), tcString);
+
+        // when
+        final Future<Collection<VendorPermission>> result = target.permissionsFor(singleton(1), tcString);
+
+        // then
+        assertThat(result).succeededWith(singletonList(VendorPermission.of(1, "rubicon", restrictAll())));
+        verify(vendorListService, times(2)).forConsent(any());
+    }
+
     @Test
     public void permissionsForShouldMergeAccountPurposes() {
         // given
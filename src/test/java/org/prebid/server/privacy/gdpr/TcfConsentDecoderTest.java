@@ -0,0 +1,73 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.iabtcf.decoder.TCString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TcfConsentDecoderTest {
+
+    private static final String CONSENT = "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA";
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnNegativeCacheMaxWeight() {
+        assertThatThrownBy(() -> new TcfConsentDecoder(-1, metrics))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void decodeShouldReturnSameConsentForSameString() {
+        // given
+        final TcfConsentDecoder target = new TcfConsentDecoder(1000, metrics);
+
+        // when
+        final TCString result = target.decode(CONSENT);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(2);
+        assertThat(target.decode(CONSENT)).isSameAs(result);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
+    @Test
+    public void decodeShouldFailWithSameReasonForCachedInvalidString() {
+        // given
+        final TcfConsentDecoder target = new TcfConsentDecoder(1000, metrics);
+
+        final Throwable firstError = catchThrowable(() -> target.decode("invalid"));
+
+        // when and then
+        assertThat(firstError).isInstanceOf(PreBidException.class);
+        assertThatThrownBy(() -> target.decode("invalid"))
+                .isInstanceOf(PreBidException.class)
+                .hasMessage(firstError.getMessage());
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
+    @Test
+    public void decodeShouldDecodeEveryTimeIfCacheIsDisabled() {
+        // given
+        final TcfConsentDecoder target = new TcfConsentDecoder(0, metrics);
+
+        // when
+        final TCString result = target.decode(CONSENT);
+
+        // then
+        assertThat(target.decode(CONSENT)).isNotSameAs(result);
+        verifyNoInteractions(metrics);
+    }
+}
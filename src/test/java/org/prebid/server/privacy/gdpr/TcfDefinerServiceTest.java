@@ -82,6 +82,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -97,6 +98,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -176,6 +178,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -209,6 +212,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -242,6 +246,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -286,6 +291,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -328,6 +334,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -448,6 +455,7 @@ public class TcfDefinerServiceTest {
                 gdprConfig,
                 singleton(EEA_COUNTRY),
                 tcf2Service,
+                new TcfConsentDecoder(0, metrics),
                 geoLocationServiceWrapper,
                 bidderCatalog,
                 ipAddressHelper,
@@ -84,12 +84,12 @@ public class FullEnforcePurposeStrategyTest {
         final IntIterable requireConsentIterable = spy(IntIterable.class);
         final PublisherRestriction publisherRestriction1 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.REQUIRE_CONSENT, requireConsentIterable);
-        given(requireConsentIterable.intIterator()).willReturn(intIterator(1));
+        given(requireConsentIterable.intIterator()).willAnswer(invocation -> intIterator(1));
 
         final IntIterable notAllowedIterable = spy(IntIterable.class);
         final PublisherRestriction publisherRestriction2 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.NOT_ALLOWED, notAllowedIterable);
-        given(notAllowedIterable.intIterator()).willReturn(intIterator(4, 2));
+        given(notAllowedIterable.intIterator()).willAnswer(invocation -> intIterator(4, 2));
 
         given(tcString.getPublisherRestrictions()).willReturn(asList(publisherRestriction1, publisherRestriction2));
 
@@ -122,12 +122,12 @@ public class FullEnforcePurposeStrategyTest {
         final IntIterable requireConsentIterable = spy(IntIterable.class);
         final PublisherRestriction publisherRestriction1 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.REQUIRE_CONSENT, requireConsentIterable);
-        given(requireConsentIterable.intIterator()).willReturn(intIterator(1));
+        given(requireConsentIterable.intIterator()).willAnswer(invocation -> intIterator(1));
 
         final IntIterable notAllowedIterable = spy(IntIterable.class);
         final PublisherRestriction publisherRestriction2 = new PublisherRestriction(
                 PURPOSE_CODE.code(), RestrictionType.NOT_ALLOWED, notAllowedIterable);
-        given(notAllowedIterable.intIterator()).willReturn(intIterator(4, 2));
+        given(notAllowedIterable.intIterator()).willAnswer(invocation -> intIterator(4, 2));
 
         given(tcString.getPublisherRestrictions()).willReturn(asList(publisherRestriction1, publisherRestriction2));
 
@@ -178,7 +178,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -205,7 +205,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -232,7 +232,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -257,7 +257,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -284,7 +284,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -311,7 +311,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -339,7 +339,7 @@ public class FullEnforcePurposeStrategyTest {
         final List<VendorPermissionWithGvl> vendorPermissionWithGvls = singletonList(vendorPermissionWitGvl);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -366,7 +366,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -394,7 +394,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(requireConsent);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -420,7 +420,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -448,7 +448,7 @@ public class FullEnforcePurposeStrategyTest {
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -480,7 +480,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -508,7 +508,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -536,7 +536,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -564,7 +564,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -593,7 +593,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -621,7 +621,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -648,7 +648,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -676,7 +676,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -704,7 +704,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -732,7 +732,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -761,7 +761,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -790,7 +790,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -822,7 +822,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -850,7 +850,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -878,7 +878,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_CONSENT);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -906,7 +906,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -935,7 +935,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -964,7 +964,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -994,7 +994,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1022,7 +1022,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1050,7 +1050,7 @@ public class FullEnforcePurposeStrategyTest {
         setRestriction(RestrictionType.REQUIRE_LEGITIMATE_INTEREST);
 
         given(purposesLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1078,7 +1078,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1107,7 +1107,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesConsent.contains(anyInt())).willReturn(true);
         given(allowedVendorsLI.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1136,7 +1136,7 @@ public class FullEnforcePurposeStrategyTest {
 
         given(purposesLI.contains(anyInt())).willReturn(true);
         given(allowedVendors.contains(anyInt())).willReturn(true);
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
@@ -1157,7 +1157,7 @@ public class FullEnforcePurposeStrategyTest {
         final VendorPermissionWithGvl vendorPermissionWitGvl1 = withGvl(vendorPermission1, Vendor.empty(1));
         final VendorPermissionWithGvl vendorPermissionWitGvl2 = withGvl(vendorPermission2, Vendor.empty(2));
 
-        given(vendorIds.intIterator()).willReturn(intIterator(1));
+        given(vendorIds.intIterator()).willAnswer(invocation -> intIterator(1));
 
         // when
         final Stream<VendorPermission> result = target.allowedByTypeStrategy(
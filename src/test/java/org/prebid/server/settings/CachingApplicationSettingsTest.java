@@ -1,9 +1,12 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.InvalidRequestException;
@@ -14,8 +17,10 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.settings.model.AccountStatus;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
+import org.prebid.server.vertx.DeadlineScheduler;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -31,11 +36,13 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -47,25 +54,27 @@ public class CachingApplicationSettingsTest {
     private ApplicationSettings delegateSettings;
     @Mock
     private Metrics metrics;
+    @Mock(strictness = LENIENT)
+    private DeadlineScheduler deadlineScheduler;
+    @Mock
+    private DeadlineScheduler.Deadline deadline;
+    @Mock(strictness = LENIENT)
+    private Clock clock;
 
     private CachingApplicationSettings target;
 
+    private TimeoutFactory timeoutFactory;
+
     private Timeout timeout;
 
     @BeforeEach
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = timeoutFactory.create(500L);
 
-        target = new CachingApplicationSettings(
-                delegateSettings,
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                new SettingsCache<>(360, 100, 0),
-                metrics,
-                360,
-                100,
-                0);
+        given(deadlineScheduler.schedule(anyLong(), any())).willReturn(deadline);
+
+        target = givenCachingApplicationSettings(0);
     }
 
     @Test
@@ -274,6 +283,129 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldCallDelegateOnceForConcurrentCalls() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        final Account account = Account.empty("accountId");
+        accountPromise.complete(account);
+
+        // then
+        assertThat(firstFuture.result()).isSameAs(account);
+        assertThat(secondFuture.result()).isSameAs(account);
+        verify(delegateSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainAfterConcurrentCallsFailed() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future(), Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        accountPromise.fail(new TimeoutException("timeout"));
+        final Future<Account> thirdFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(firstFuture.failed()).isTrue();
+        assertThat(secondFuture.failed()).isTrue();
+        assertThat(thirdFuture.result()).isEqualTo(Account.empty("accountId"));
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldLimitWaitingForConcurrentCallByOwnTimeout() {
+        // given
+        final Promise<Account> accountPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(accountPromise.future());
+
+        final Timeout secondTimeout = timeoutFactory.create(100L);
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", secondTimeout);
+
+        final ArgumentCaptor<Handler<Void>> deadlineHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(deadlineScheduler).schedule(eq(100L), deadlineHandlerCaptor.capture());
+        deadlineHandlerCaptor.getValue().handle(null);
+
+        // then
+        assertThat(firstFuture.isComplete()).isFalse();
+        assertThat(secondFuture.cause()).isInstanceOf(TimeoutException.class);
+
+        accountPromise.complete(Account.empty("accountId"));
+        assertThat(firstFuture.result()).isEqualTo(Account.empty("accountId"));
+    }
+
+    @Test
+    public void getAccountByIdShouldServeStaleAccountWhileRefreshingItOnceInBackground() {
+        // given
+        target = givenCachingApplicationSettings(60);
+
+        final Account staleAccount = Account.empty("accountId");
+        final Account refreshedAccount = Account.builder().id("accountId").status(AccountStatus.active).build();
+        final Promise<Account> refreshPromise = Promise.promise();
+        given(delegateSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(staleAccount), refreshPromise.future());
+
+        target.getAccountById("accountId", timeout);
+        given(clock.millis()).willReturn(360_000L);
+
+        // when
+        final Future<Account> firstFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = target.getAccountById("accountId", timeout);
+        refreshPromise.complete(refreshedAccount);
+        final Future<Account> thirdFuture = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(firstFuture.result()).isSameAs(staleAccount);
+        assertThat(secondFuture.result()).isSameAs(staleAccount);
+        assertThat(thirdFuture.result()).isSameAs(refreshedAccount);
+
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), timeoutCaptor.capture());
+        assertThat(timeoutCaptor.getAllValues().get(1).remaining()).isEqualTo(1000L);
+
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.stale));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
+    }
+
+    @Test
+    public void getAccountByIdShouldNotServeStaleAccountAfterRefreshFailedWithPreBidException() {
+        // given
+        target = givenCachingApplicationSettings(60);
+
+        given(delegateSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(
+                        Future.succeededFuture(Account.empty("accountId")),
+                        Future.failedFuture(new PreBidException("not found")));
+
+        target.getAccountById("accountId", timeout);
+        given(clock.millis()).willReturn(360_000L);
+
+        // when
+        final Future<Account> staleFuture = target.getAccountById("accountId", timeout);
+        final Future<Account> future = target.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isEqualTo(Account.empty("accountId"));
+        assertThat(future.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("not found");
+        verify(delegateSettings, times(2)).getAccountById(eq("accountId"), any());
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -372,6 +504,29 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(delegateSettings);
     }
 
+    @Test
+    public void getStoredDataShouldCallDelegateOnceForConcurrentCallsOfTheSameIds() {
+        // given
+        final Promise<StoredDataResult<String>> storedDataPromise = Promise.promise();
+        given(delegateSettings.getStoredData(any(), eq(singleton("reqid")), eq(emptySet()), same(timeout)))
+                .willReturn(storedDataPromise.future());
+
+        // when
+        final Future<StoredDataResult<String>> firstFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult<String>> secondFuture =
+                target.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        storedDataPromise.complete(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+
+        // then
+        final StoredDataResult<String> expectedResult =
+                StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList());
+        assertThat(firstFuture.result()).isEqualTo(expectedResult);
+        assertThat(secondFuture.result()).isEqualTo(expectedResult);
+        verify(delegateSettings).getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getStoredDataShouldPropagateFailure() {
         // given
@@ -446,4 +601,22 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    private CachingApplicationSettings givenCachingApplicationSettings(int staleGrace) {
+        return new CachingApplicationSettings(
+                delegateSettings,
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                new SettingsCache<>(360, 100, 0),
+                metrics,
+                timeoutFactory,
+                deadlineScheduler,
+                clock,
+                360,
+                100,
+                0,
+                staleGrace,
+                1000L);
+    }
 }
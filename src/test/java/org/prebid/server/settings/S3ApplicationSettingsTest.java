@@ -14,9 +14,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
+import org.prebid.server.vertx.DeadlineScheduler;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -56,6 +58,9 @@ public class S3ApplicationSettingsTest extends VertxTest {
     @Mock
     private Timeout timeout;
 
+    @Mock
+    private Metrics metrics;
+
     @BeforeEach
     public void setUp() {
         vertx = Vertx.vertx();
@@ -67,7 +72,8 @@ public class S3ApplicationSettingsTest extends VertxTest {
                 STORED_REQUESTS_DIR,
                 STORED_RESPONSES_DIR,
                 jacksonMapper,
-                vertx);
+                vertx,
+                new DeadlineScheduler(vertx, 10L, metrics));
 
         given(timeout.remaining()).willReturn(500L);
     }
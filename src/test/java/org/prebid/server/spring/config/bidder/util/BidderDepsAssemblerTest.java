@@ -0,0 +1,83 @@
+package org.prebid.server.spring.config.bidder.util;
+
+import com.iab.openrtb.request.BidRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.spring.config.bidder.model.Debug;
+import org.prebid.server.spring.config.bidder.model.MediaType;
+import org.prebid.server.spring.config.bidder.model.MetaInfo;
+import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
+
+import java.util.Collections;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class BidderDepsAssemblerTest {
+
+    @Mock
+    private Bidder<BidRequest> bidder;
+
+    @Test
+    public void assembleShouldFailIfBidderDoesNotSupportConfiguredProtobufWireFormat() {
+        // given
+        final BidderConfigurationProperties config = givenConfig(WireFormat.PROTOBUF);
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BidderDepsAssembler.forBidder("bidder")
+                        .withConfig(config)
+                        .bidderCreator(ignored -> bidder)
+                        .assemble())
+                .withMessage("Bidder bidder does not support protobuf endpoint wire format");
+    }
+
+    @Test
+    public void assembleShouldAllowProtobufWireFormatIfBidderSupportsIt() {
+        // given
+        given(bidder.isProtobufWireFormatSupported()).willReturn(true);
+        final BidderConfigurationProperties config = givenConfig(WireFormat.PROTOBUF);
+
+        // when
+        final BidderDeps result = BidderDepsAssembler.forBidder("bidder")
+                .withConfig(config)
+                .bidderCreator(ignored -> bidder)
+                .assemble();
+
+        // then
+        assertThat(result.getInstances()).hasSize(1)
+                .allSatisfy(deps -> assertThat(deps.getBidder()).isSameAs(bidder));
+    }
+
+    private static BidderConfigurationProperties givenConfig(WireFormat wireFormat) {
+        final MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setAppMediaTypes(singletonList(MediaType.BANNER));
+        metaInfo.setSiteMediaTypes(singletonList(MediaType.BANNER));
+
+        final Debug debug = new Debug();
+        debug.setAllow(true);
+
+        final BidderConfigurationProperties config = new BidderConfigurationProperties();
+        config.setEnabled(true);
+        config.setEndpoint("https://bidder.com");
+        config.setAliases(Collections.emptyMap());
+        config.setDebug(debug);
+        config.setMetaInfo(metaInfo);
+        config.setPbsEnforcesCcpa(true);
+        config.setModifyingVastXmlAllowed(true);
+        config.setEndpointCompression(CompressionType.NONE);
+        config.setEndpointWireFormat(wireFormat);
+        config.setOrtb(Ortb.of(false));
+        return config;
+    }
+}
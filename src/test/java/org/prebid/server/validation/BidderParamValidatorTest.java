@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adrino.ExtImpAdrino;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
@@ -20,6 +22,7 @@ import org.prebid.server.proto.openrtb.ext.request.rubicon.ExtImpRubicon;
 import org.prebid.server.proto.openrtb.ext.request.sovrn.ExtImpSovrn;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
 import org.prebid.server.spring.config.bidder.model.Ortb;
+import org.prebid.server.spring.config.bidder.model.WireFormat;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
@@ -31,10 +34,14 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class BidderParamValidatorTest extends VertxTest {
@@ -54,6 +61,9 @@ public class BidderParamValidatorTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private BidderCatalog bidderCatalog;
 
+    @Mock
+    private Metrics metrics;
+
     private BidderParamValidator bidderParamValidator;
 
     @BeforeEach
@@ -73,27 +83,28 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.bidderInfoByName(anyString())).willReturn(givenBidderInfo());
         given(bidderCatalog.bidderInfoByName(eq(APPNEXUS_ALIAS))).willReturn(givenBidderInfo(APPNEXUS));
 
-        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, metrics);
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaPath() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper));
+                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper, metrics));
     }
 
     @Test
     public void createShouldFailOnEmptySchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper, metrics));
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
+                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper, metrics));
     }
 
     @Test
@@ -342,13 +353,102 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(3);
     }
 
+    @Test
+    public void validateShouldNotRunSchemaWhenParamsSatisfyRequiredFieldsAndTypes() {
+        // given
+        final JsonNode node = mapper.createObjectNode().put("aid", 1).put("placementId", 2).put("bidFloor", 0.5);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(ADTELLIGENT, node);
+
+        // then
+        assertThat(messages).isEmpty();
+        verify(metrics, never()).updateAdapterParamsValidationTime(anyString(), anyLong());
+    }
+
+    @Test
+    public void validateShouldRunSchemaWhenParamsDoNotSatisfyRequiredFieldsAndTypes() {
+        // given
+        final JsonNode node = mapper.createObjectNode().put("aid", 1).put("placementId", "2");
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(ADTELLIGENT, node);
+
+        // then
+        assertThat(messages).hasSize(1);
+        verify(metrics).updateAdapterParamsValidationTime(eq(ADTELLIGENT), anyLong());
+    }
+
+    @Test
+    public void validateShouldReuseResultOfSchemaValidationForStructurallyEqualParams() {
+        // given
+        final JsonNode node = mapper.createObjectNode().put("placement_id", 1);
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(APPNEXUS, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(APPNEXUS, node.deepCopy());
+
+        // then
+        assertThat(firstMessages).isEmpty();
+        assertThat(secondMessages).isEmpty();
+        verify(metrics, times(1)).updateAdapterParamsValidationTime(eq(APPNEXUS), anyLong());
+    }
+
+    @Test
+    public void validateShouldNotReuseResultOfFailedSchemaValidation() {
+        // given
+        final JsonNode node = mapper.convertValue(ExtImpAppnexus.builder().member("memberId").build(), JsonNode.class);
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(APPNEXUS, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(APPNEXUS, node.deepCopy());
+
+        // then
+        assertThat(secondMessages).hasSize(5).isEqualTo(firstMessages);
+        verify(metrics, times(2)).updateAdapterParamsValidationTime(eq(APPNEXUS), anyLong());
+    }
+
+    @Test
+    public void validateShouldNotReuseResultOfSchemaValidationForLargeParams() {
+        // given
+        final JsonNode node = mapper.createObjectNode()
+                .put("placement_id", 1)
+                .put("traffic_source_code", "a".repeat(1024));
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(APPNEXUS, node);
+        final Set<String> secondMessages = bidderParamValidator.validate(APPNEXUS, node.deepCopy());
+
+        // then
+        assertThat(firstMessages).isEmpty();
+        assertThat(secondMessages).isEmpty();
+        verify(metrics, times(2)).updateAdapterParamsValidationTime(eq(APPNEXUS), anyLong());
+    }
+
+    @Test
+    public void validateShouldNotBeAffectedByModificationOfValidatedParams() {
+        // given
+        final ObjectNode node = mapper.createObjectNode().put("placement_id", 1);
+        bidderParamValidator.validate(APPNEXUS, node);
+
+        node.remove("placement_id");
+        node.put("member", "memberId");
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(APPNEXUS, node);
+
+        // then
+        assertThat(messages).isNotEmpty();
+        verify(metrics, times(2)).updateAdapterParamsValidationTime(eq(APPNEXUS), anyLong());
+    }
+
     @Test
     public void schemaShouldReturnSchemasString() throws IOException {
         // given
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList("test-rubicon", "test-appnexus")));
 
         bidderParamValidator = BidderParamValidator.create(
-                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper);
+                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper, metrics);
 
         // when
         final String result = bidderParamValidator.schemas();
@@ -416,6 +516,7 @@ public class BidderParamValidatorTest extends VertxTest {
                 true,
                 false,
                 CompressionType.NONE,
+                WireFormat.JSON,
                 Ortb.of(false),
                 0L);
     }
@@ -417,6 +417,44 @@ public class VastModifierTest {
         verify(metrics).updateAdapterRequestErrorMetric(BIDDER, MetricName.badserverresponse);
     }
 
+    @Test
+    public void createBidVastXmlShouldPreferInLineOverWrapperPrecedingIt() {
+        // when
+        final String bidAdm = "<Ad><Wrapper></Wrapper></Ad><Ad><InLine></InLine></Ad>";
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList());
+
+        // then
+        assertThat(result).isEqualTo("<Ad><Wrapper></Wrapper></Ad><Ad><InLine>"
+                + "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression></InLine></Ad>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldInsertImpressionTagAfterLastImpressionOfAllAds() {
+        // when
+        final String bidAdm = "<Ad><InLine><Impression>1</Impression></InLine></Ad>"
+                + "<Ad><InLine><Impression>2</Impression></InLine></Ad>";
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList());
+
+        // then
+        assertThat(result).isEqualTo("<Ad><InLine><Impression>1</Impression></InLine></Ad>"
+                + "<Ad><InLine><Impression>2</Impression>"
+                + "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression></InLine></Ad>");
+    }
+
+    @Test
+    public void createBidVastXmlShouldNotTreatTagWithLineBreakBeforeClosingBracketAsImpression() {
+        // when
+        final String bidAdm = "<InLine><Impression>1</Impression garbage\n></InLine>";
+        final String result = target
+                .createBidVastXml(BIDDER, bidAdm, BID_NURL, BID_ID, ACCOUNT_ID, eventsContext(), emptyList());
+
+        // then
+        assertThat(result).isEqualTo("<InLine><Impression>1</Impression garbage\n>"
+                + "<Impression><![CDATA[" + VAST_URL_TRACKING + "]]></Impression></InLine>");
+    }
+
     @Test
     public void createBidVastXmlShouldNotModifyWhenEventsEnabledAndAdmHaveNoImpression() {
         // when
@@ -15,6 +15,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -130,6 +132,42 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldNotOpenCircuitIfSuccessHappenedBetweenFailures() {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+
+        // when
+        executeWithFail("exception1");
+        executeWithSuccess("value");
+        final Future<?> future = executeWithFail("exception2");
+
+        // then
+        assertThat(future.cause()).hasMessage("exception2");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldInvokeStateHandlersOnTransitions() {
+        // given
+        final List<String> transitions = new ArrayList<>();
+        circuitBreaker
+                .openHandler(ignored -> transitions.add("open"))
+                .halfOpenHandler(ignored -> transitions.add("half-open"))
+                .closeHandler(ignored -> transitions.add("close"));
+
+        // when
+        executeWithFail("exception");
+        final boolean openedAfterFailure = circuitBreaker.isOpen();
+        waitForClosingInterval();
+        executeWithSuccess("value");
+
+        // then
+        assertThat(openedAfterFailure).isTrue();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(transitions).containsExactly("open", "half-open", "close");
+    }
+
     private Future<String> executeWithSuccess(String result) {
         return execute(operationPromise -> operationPromise.complete(result));
     }
@@ -0,0 +1,112 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class DeadlineSchedulerTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private DeadlineScheduler target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        target = new DeadlineScheduler(vertx, 10L, metrics);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveTick() {
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(() -> new DeadlineScheduler(vertx, 0L, metrics));
+    }
+
+    @Test
+    public void scheduleShouldCallHandlerNotEarlierThanDelay(VertxTestContext context) {
+        // when
+        vertx.runOnContext(ignored -> {
+            final long start = System.nanoTime();
+            target.schedule(50L, expired -> context.verify(() -> {
+                // then
+                assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000L);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void scheduleShouldDriveAllDeadlinesOfEventLoopBySingleTimer(VertxTestContext context) {
+        // given
+        final List<Integer> expired = new ArrayList<>();
+
+        // when
+        vertx.runOnContext(ignored -> {
+            target.schedule(20L, result -> expired.add(1));
+            target.schedule(30L, result -> expired.add(2));
+            target.schedule(40L, result -> context.verify(() -> {
+                // then
+                assertThat(expired).containsExactly(1, 2);
+                verify(metrics, times(3)).updateDeadlineSchedulerMetric(MetricName.deadlines_scheduled);
+                verify(metrics, times(3)).updateDeadlineSchedulerMetric(MetricName.deadlines_expired);
+                verify(metrics).updateDeadlineSchedulerMetric(MetricName.deadline_timers_created);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void scheduleShouldNotCallHandlerOfCancelledDeadline(VertxTestContext context) {
+        // given
+        final AtomicBoolean cancelledExpired = new AtomicBoolean();
+
+        // when
+        vertx.runOnContext(ignored -> {
+            target.schedule(20L, result -> cancelledExpired.set(true)).cancel();
+            target.schedule(40L, result -> context.verify(() -> {
+                // then
+                assertThat(cancelledExpired).isFalse();
+                verify(metrics).updateDeadlineSchedulerMetric(MetricName.deadlines_cancelled);
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void scheduleShouldFallBackToVertxTimerOutsideOfEventLoop(VertxTestContext context) {
+        // when
+        target.schedule(20L, result -> context.verify(() -> {
+            // then
+            verify(metrics).updateDeadlineSchedulerMetric(MetricName.deadline_timers_created);
+            verify(metrics).updateDeadlineSchedulerMetric(MetricName.deadlines_expired);
+            context.completeNow();
+        }));
+    }
+}
@@ -17,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.DeadlineScheduler;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -31,6 +33,7 @@ import java.util.concurrent.TimeoutException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
@@ -40,8 +43,12 @@ import static org.mockito.Mockito.verify;
 @ExtendWith(VertxExtension.class)
 public class BasicHttpClientTest {
 
+    @Mock(strictness = LENIENT)
+    private DeadlineScheduler deadlineScheduler;
+    @Mock
+    private DeadlineScheduler.Deadline deadline;
     @Mock
-    private Vertx vertx;
+    private Metrics metrics;
     @Mock(strictness = LENIENT)
     private HttpClient wrappedHttpClient;
 
@@ -57,7 +64,9 @@ public class BasicHttpClientTest {
         given(httpClientRequest.send()).willReturn(Future.succeededFuture(httpClientResponse));
         given(httpClientRequest.send(any(Buffer.class))).willReturn(Future.succeededFuture(httpClientResponse));
 
-        httpClient = new BasicHttpClient(vertx, wrappedHttpClient);
+        given(deadlineScheduler.schedule(anyLong(), any())).willReturn(deadline);
+
+        httpClient = new BasicHttpClient(deadlineScheduler, wrappedHttpClient);
     }
 
     @Test
@@ -93,6 +102,21 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldKeepRawResponseBodyAndDecodeItLazily() {
+        // given
+        final Buffer responseBody = Buffer.buffer("response");
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(responseBody));
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (String) null, 1L);
+
+        // then
+        assertThat(future.result().getBodyBuffer()).isSameAs(responseBody);
+        assertThat(future.result().getBody()).isEqualTo("response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // given and when
@@ -146,7 +170,8 @@ public class BasicHttpClientTest {
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(Vertx vertx, VertxTestContext context) {
         // given
-        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient());
+        final BasicHttpClient httpClient = new BasicHttpClient(
+                new DeadlineScheduler(vertx, 10L, metrics), vertx.createHttpClient());
         final int serverPort = 7777;
 
         startServer(serverPort, 2000L, 0L);
@@ -166,7 +191,8 @@ public class BasicHttpClientTest {
     @Test
     public void requestShouldFailIfHttpResponseTimedOut(Vertx vertx, VertxTestContext context) {
         // given
-        final BasicHttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient());
+        final BasicHttpClient httpClient = new BasicHttpClient(
+                new DeadlineScheduler(vertx, 10L, metrics), vertx.createHttpClient());
         final int serverPort = 8888;
 
         startServer(serverPort, 0L, 2000L);